@@ -7,6 +7,8 @@
  */
 package de.ii.xtraplatform.cql.app;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,9 +17,14 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdDelegatingSerializer;
 import com.fasterxml.jackson.databind.util.StdConverter;
 import com.github.azahnen.dagger.annotations.AutoBind;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
+import de.ii.xtraplatform.base.domain.AppConfiguration;
 import de.ii.xtraplatform.cql.domain.Cql;
 import de.ii.xtraplatform.cql.domain.Cql2Expression;
+import de.ii.xtraplatform.cql.domain.CqlFeatureAccessor;
 import de.ii.xtraplatform.cql.domain.CqlParseException;
 import de.ii.xtraplatform.cql.domain.CqlToText;
 import de.ii.xtraplatform.cql.domain.CqlVisitorExtractParameters;
@@ -29,6 +36,8 @@ import de.ii.xtraplatform.crs.domain.CrsInfo;
 import de.ii.xtraplatform.crs.domain.CrsTransformerFactory;
 import de.ii.xtraplatform.crs.domain.EpsgCrs;
 import de.ii.xtraplatform.crs.domain.OgcCrs;
+import de.ii.xtraplatform.web.domain.DropwizardPlugin;
+import io.dropwizard.core.setup.Environment;
 import io.dropwizard.jackson.Jackson;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -37,8 +46,10 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.threeten.extra.Interval;
@@ -46,12 +57,17 @@ import org.threeten.extra.Interval;
 @Singleton
 @AutoBind
 @SuppressWarnings("PMD.CouplingBetweenObjects")
-public class CqlImpl implements Cql {
+public class CqlImpl implements Cql, DropwizardPlugin {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CqlImpl.class);
 
+  // the same filters are parsed over and over, e.g. the level filters of a tileset for every tile
+  private static final int PARSE_CACHE_SIZE = 1024;
+  private static final int PARSE_CACHE_MAX_LENGTH = 8 * 1024;
+
   private final CqlTextParser cqlTextParser;
   private final ObjectMapper cqlJsonMapper;
+  private final Cache<ParseKey, Cql2Expression> parseCache;
 
   @Inject
   public CqlImpl() {
@@ -68,6 +84,21 @@ public class CqlImpl implements Cql {
             .enable(SerializationFeature.INDENT_OUTPUT)
             .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
             .registerModule(module);
+
+    this.parseCache = CacheBuilder.newBuilder().maximumSize(PARSE_CACHE_SIZE).recordStats().build();
+  }
+
+  @Override
+  public void init(AppConfiguration configuration, Environment environment) {
+    MetricRegistry metrics = environment.metrics();
+
+    metrics.register("cql.parse.cache.hits", (Gauge<Long>) () -> parseCache.stats().hitCount());
+    metrics.register("cql.parse.cache.misses", (Gauge<Long>) () -> parseCache.stats().missCount());
+    metrics.register("cql.parse.cache.size", (Gauge<Long>) parseCache::size);
+  }
+
+  CacheStats getParseCacheStats() {
+    return parseCache.stats();
   }
 
   @Override
@@ -82,15 +113,36 @@ public class CqlImpl implements Cql {
 
   @Override
   public Cql2Expression read(String cql, Format format, EpsgCrs crs, boolean allowParameters) {
+    if (Objects.isNull(cql) || cql.length() > PARSE_CACHE_MAX_LENGTH) {
+      return parse(cql, format, crs, allowParameters);
+    }
+
+    ParseKey key = new ParseKey(cql, format, crs, allowParameters);
+    Cql2Expression cached = parseCache.getIfPresent(key);
+
+    if (Objects.nonNull(cached)) {
+      return cached;
+    }
+
+    // failures are not cached, the parse exception is thrown again for every invalid filter
+    Cql2Expression expression = parse(cql, format, crs, allowParameters);
+    parseCache.put(key, expression);
+
+    return expression;
+  }
+
+  private Cql2Expression parse(String cql, Format format, EpsgCrs crs, boolean allowParameters) {
     if (format == Format.TEXT) {
       return cqlTextParser.parse(cql, crs);
     }
 
     if (format == Format.JSON) {
-      cqlJsonMapper.setInjectableValues(
-          new InjectableValues.Std().addValue("filterCrs", Optional.ofNullable(crs)));
       try {
-        Cql2Expression expression = cqlJsonMapper.readValue(cql, Cql2Expression.class);
+        Cql2Expression expression =
+            cqlJsonMapper
+                .readerFor(Cql2Expression.class)
+                .with(new InjectableValues.Std().addValue("filterCrs", Optional.ofNullable(crs)))
+                .readValue(cql);
 
         // parameters are a CQL2-JSON extension used in stored queries; they must not appear in
         // normal CQL2 expressions
@@ -189,6 +241,16 @@ public class CqlImpl implements Cql {
     return (Cql2Expression) cqlFilter.accept(visitor, true);
   }
 
+  @Override
+  public <T> Predicate<T> compile(Cql2Expression cqlFilter, CqlFeatureAccessor<T> featureAccessor) {
+    CqlVisitorCompile<T> visitor = new CqlVisitorCompile<>(featureAccessor);
+    CqlVisitorCompile.Evaluator<T> evaluator = cqlFilter.accept(visitor, true).evaluator();
+
+    return feature -> Boolean.TRUE.equals(evaluator.evaluate(feature));
+  }
+
+  private record ParseKey(String cql, Format format, EpsgCrs crs, boolean allowParameters) {}
+
   static class IntervalConverter extends StdConverter<Interval, List<String>> {
 
     @Override
@@ -0,0 +1,870 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.cql.app;
+
+import de.ii.xtraplatform.cql.domain.Accenti;
+import de.ii.xtraplatform.cql.domain.And;
+import de.ii.xtraplatform.cql.domain.ArrayFunction;
+import de.ii.xtraplatform.cql.domain.ArrayLiteral;
+import de.ii.xtraplatform.cql.domain.Bbox;
+import de.ii.xtraplatform.cql.domain.Between;
+import de.ii.xtraplatform.cql.domain.BinaryArrayOperation;
+import de.ii.xtraplatform.cql.domain.BinaryScalarOperation;
+import de.ii.xtraplatform.cql.domain.BinarySpatialOperation;
+import de.ii.xtraplatform.cql.domain.BinaryTemporalOperation;
+import de.ii.xtraplatform.cql.domain.BooleanValue2;
+import de.ii.xtraplatform.cql.domain.Casei;
+import de.ii.xtraplatform.cql.domain.CqlFeatureAccessor;
+import de.ii.xtraplatform.cql.domain.CqlNode;
+import de.ii.xtraplatform.cql.domain.CqlVisitor;
+import de.ii.xtraplatform.cql.domain.Function;
+import de.ii.xtraplatform.cql.domain.GeometryNode;
+import de.ii.xtraplatform.cql.domain.In;
+import de.ii.xtraplatform.cql.domain.Interval;
+import de.ii.xtraplatform.cql.domain.IsNull;
+import de.ii.xtraplatform.cql.domain.Like;
+import de.ii.xtraplatform.cql.domain.LogicalOperation;
+import de.ii.xtraplatform.cql.domain.Not;
+import de.ii.xtraplatform.cql.domain.Parameter;
+import de.ii.xtraplatform.cql.domain.PositionNode;
+import de.ii.xtraplatform.cql.domain.Property;
+import de.ii.xtraplatform.cql.domain.Scalar;
+import de.ii.xtraplatform.cql.domain.ScalarLiteral;
+import de.ii.xtraplatform.cql.domain.SpatialFunction;
+import de.ii.xtraplatform.cql.domain.SpatialLiteral;
+import de.ii.xtraplatform.cql.domain.TemporalFunction;
+import de.ii.xtraplatform.cql.domain.TemporalLiteral;
+import de.ii.xtraplatform.geometries.domain.transcode.jts.GeometryEncoderJts;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+/**
+ * Compiles a filter expression into an evaluator for in-memory features, see {@link
+ * de.ii.xtraplatform.cql.domain.Cql#compile(de.ii.xtraplatform.cql.domain.Cql2Expression,
+ * CqlFeatureAccessor)}.
+ *
+ * <p>All work that does not depend on the feature is done once during compilation: literals are
+ * parsed to instants and time ranges, LIKE patterns are compiled to regular expressions, IN lists
+ * are turned into hash sets and geometry literals are prepared for repeated spatial predicates.
+ * The operands of AND and OR are evaluated in the order of their estimated cost, so that cheap
+ * comparisons can short-circuit expensive spatial predicates.
+ *
+ * <p>Predicates follow the three-valued logic of CQL2, a comparison with a missing value is
+ * neither true nor false and the feature is not selected.
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.CouplingBetweenObjects", "PMD.GodClass"})
+public class CqlVisitorCompile<T> implements CqlVisitor<CqlVisitorCompile.Compiled<T>> {
+
+  private static final int COST_CONSTANT = 0;
+  private static final int COST_PROPERTY = 1;
+  private static final int COST_COMPARISON = 1;
+  private static final int COST_STRING = 5;
+  private static final int COST_TEMPORAL = 10;
+  private static final int COST_ARRAY = 10;
+  private static final int COST_SPATIAL = 100;
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern DATE = Pattern.compile("^\\d{4,}-\\d{2}-\\d{2}$");
+
+  @FunctionalInterface
+  public interface Evaluator<T> {
+    Object evaluate(T feature);
+  }
+
+  /**
+   * @param evaluator returns the value of the node, {@link Boolean} or {@code null} for predicates
+   * @param cost the estimated relative cost of an evaluation
+   * @param isConstant if the value does not depend on the feature
+   */
+  public record Compiled<T>(Evaluator<T> evaluator, int cost, boolean isConstant) {
+
+    Object constant() {
+      return evaluator.evaluate(null);
+    }
+
+    static <T> Compiled<T> constant(Object value) {
+      return new Compiled<>(feature -> value, COST_CONSTANT, true);
+    }
+  }
+
+  record TimeRange(Instant start, Instant end) {}
+
+  private final CqlFeatureAccessor<T> accessor;
+  private final GeometryFactory geometryFactory;
+
+  public CqlVisitorCompile(CqlFeatureAccessor<T> accessor) {
+    this.accessor = accessor;
+    this.geometryFactory = new GeometryFactory();
+  }
+
+  @Override
+  public Compiled<T> visit(Not not, List<Compiled<T>> children) {
+    Evaluator<T> operand = children.get(0).evaluator();
+
+    return new Compiled<>(
+        feature -> {
+          Object value = operand.evaluate(feature);
+          return Objects.isNull(value) ? null : !((Boolean) value);
+        },
+        children.get(0).cost(),
+        false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Compiled<T> visit(LogicalOperation logicalOperation, List<Compiled<T>> children) {
+    Evaluator<T>[] operands =
+        children.stream()
+            .sorted(Comparator.comparingInt(Compiled::cost))
+            .map(Compiled::evaluator)
+            .toArray(Evaluator[]::new);
+    int cost = children.stream().mapToInt(Compiled::cost).sum();
+
+    if (logicalOperation instanceof And) {
+      return new Compiled<>(feature -> and(operands, feature), cost, false);
+    }
+
+    return new Compiled<>(feature -> or(operands, feature), cost, false);
+  }
+
+  private static <T> Boolean and(Evaluator<T>[] operands, T feature) {
+    boolean unknown = false;
+    for (Evaluator<T> operand : operands) {
+      Object value = operand.evaluate(feature);
+      if (Boolean.FALSE.equals(value)) {
+        return false;
+      }
+      unknown |= Objects.isNull(value);
+    }
+    return unknown ? null : true;
+  }
+
+  private static <T> Boolean or(Evaluator<T>[] operands, T feature) {
+    boolean unknown = false;
+    for (Evaluator<T> operand : operands) {
+      Object value = operand.evaluate(feature);
+      if (Boolean.TRUE.equals(value)) {
+        return true;
+      }
+      unknown |= Objects.isNull(value);
+    }
+    return unknown ? null : false;
+  }
+
+  @Override
+  public Compiled<T> visit(BinaryScalarOperation scalarOperation, List<Compiled<T>> children) {
+    Evaluator<T> left = children.get(0).evaluator();
+    Evaluator<T> right = children.get(1).evaluator();
+    int cost = children.get(0).cost() + children.get(1).cost() + COST_COMPARISON;
+
+    String op = scalarOperation.getOp();
+    IntPredicate test =
+        switch (op) {
+          case "=" -> result -> result == 0;
+          case "<>" -> result -> result != 0;
+          case "<" -> result -> result < 0;
+          case "<=" -> result -> result <= 0;
+          case ">" -> result -> result > 0;
+          case ">=" -> result -> result >= 0;
+          default ->
+              throw new IllegalArgumentException(
+                  String.format("Unsupported comparison operator: %s", op));
+        };
+    boolean isOrdering = !"=".equals(op) && !"<>".equals(op);
+
+    return new Compiled<>(
+        feature -> {
+          Object a = left.evaluate(feature);
+          Object b = right.evaluate(feature);
+          if (isOrdering && (isTemporal(a) || isTemporal(b))) {
+            return compareOrdered(op, a, b);
+          }
+          Integer result = compare(a, b);
+          return Objects.isNull(result) ? null : test.test(result);
+        },
+        cost,
+        false);
+  }
+
+  // a date covers the whole day, so e.g. an instant is only before the date if it is before the
+  // start of the day and only after the date if it is after the end of the day
+  static Boolean compareOrdered(String op, Object a, Object b) {
+    TimeRange x = toTimeRange(a);
+    TimeRange y = toTimeRange(b);
+    if (Objects.isNull(x) || Objects.isNull(y)) {
+      return null;
+    }
+    return switch (op) {
+      case "<" -> x.end().isBefore(y.start());
+      case "<=" -> !x.start().isAfter(y.end());
+      case ">" -> x.start().isAfter(y.end());
+      case ">=" -> !x.end().isBefore(y.start());
+      default ->
+          throw new IllegalArgumentException(
+              String.format("Unsupported comparison operator: %s", op));
+    };
+  }
+
+  @Override
+  public Compiled<T> visit(Between between, List<Compiled<T>> children) {
+    Evaluator<T> value = children.get(0).evaluator();
+    Evaluator<T> lower = children.get(1).evaluator();
+    Evaluator<T> upper = children.get(2).evaluator();
+    int cost = children.stream().mapToInt(Compiled::cost).sum() + 2 * COST_COMPARISON;
+
+    return new Compiled<>(
+        feature -> {
+          Object v = value.evaluate(feature);
+          Object l = lower.evaluate(feature);
+          Object u = upper.evaluate(feature);
+          if (isTemporal(v) || isTemporal(l) || isTemporal(u)) {
+            Boolean lowerResult = compareOrdered(">=", v, l);
+            Boolean upperResult = compareOrdered("<=", v, u);
+            if (Objects.isNull(lowerResult) || Objects.isNull(upperResult)) {
+              return null;
+            }
+            return lowerResult && upperResult;
+          }
+          Integer lowerResult = compare(v, l);
+          Integer upperResult = compare(v, u);
+          if (Objects.isNull(lowerResult) || Objects.isNull(upperResult)) {
+            return null;
+          }
+          return lowerResult >= 0 && upperResult <= 0;
+        },
+        cost,
+        false);
+  }
+
+  @Override
+  public Compiled<T> visit(Like like, List<Compiled<T>> children) {
+    Evaluator<T> value = children.get(0).evaluator();
+    Compiled<T> pattern = children.get(1);
+    int cost = children.get(0).cost() + pattern.cost() + COST_STRING;
+
+    if (pattern.isConstant()) {
+      Object constant = pattern.constant();
+      if (Objects.isNull(constant)) {
+        return Compiled.constant(null);
+      }
+      Pattern regex = toRegex(constant.toString());
+
+      return new Compiled<>(
+          feature -> {
+            Object v = value.evaluate(feature);
+            return Objects.isNull(v) ? null : regex.matcher(v.toString()).matches();
+          },
+          cost,
+          false);
+    }
+
+    return new Compiled<>(
+        feature -> {
+          Object v = value.evaluate(feature);
+          Object p = pattern.evaluator().evaluate(feature);
+          if (Objects.isNull(v) || Objects.isNull(p)) {
+            return null;
+          }
+          return toRegex(p.toString()).matcher(v.toString()).matches();
+        },
+        cost + COST_STRING,
+        false);
+  }
+
+  // % matches any sequence, _ any single character, a backslash escapes the next character
+  static Pattern toRegex(String likePattern) {
+    StringBuilder regex = new StringBuilder(likePattern.length() + 8);
+    StringBuilder literal = new StringBuilder();
+    for (int i = 0; i < likePattern.length(); i++) {
+      char c = likePattern.charAt(i);
+      if (c == '\\' && i + 1 < likePattern.length()) {
+        literal.append(likePattern.charAt(++i));
+      } else if (c == '%' || c == '_') {
+        if (literal.length() > 0) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '%' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (literal.length() > 0) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  @Override
+  public Compiled<T> visit(In in, List<Compiled<T>> children) {
+    Evaluator<T> value = children.get(0).evaluator();
+    Compiled<T> list = children.get(1);
+
+    if (list.isConstant() && list.constant() instanceof Collection<?> values) {
+      Set<Object> keys = values.stream().map(CqlVisitorCompile::toKey).collect(Collectors.toSet());
+      boolean hasNumbers = keys.stream().anyMatch(key -> key instanceof Double);
+
+      return new Compiled<>(
+          feature -> {
+            Object v = value.evaluate(feature);
+            if (Objects.isNull(v)) {
+              return null;
+            }
+            if (keys.contains(toKey(v))) {
+              return true;
+            }
+            if (hasNumbers && v instanceof String) {
+              Double number = toDouble(v);
+              return Objects.nonNull(number) && keys.contains(number);
+            }
+            return false;
+          },
+          children.get(0).cost() + COST_COMPARISON,
+          false);
+    }
+
+    return new Compiled<>(
+        feature -> {
+          Object v = value.evaluate(feature);
+          Object l = list.evaluator().evaluate(feature);
+          if (Objects.isNull(v) || !(l instanceof Collection<?> values)) {
+            return null;
+          }
+          return values.stream().anyMatch(item -> Objects.equals(compare(v, item), 0));
+        },
+        children.get(0).cost() + list.cost() + COST_ARRAY,
+        false);
+  }
+
+  @Override
+  public Compiled<T> visit(IsNull isNull, List<Compiled<T>> children) {
+    Evaluator<T> value = children.get(0).evaluator();
+
+    return new Compiled<>(
+        feature -> Objects.isNull(value.evaluate(feature)), children.get(0).cost(), false);
+  }
+
+  @Override
+  public Compiled<T> visit(Casei casei, List<Compiled<T>> children) {
+    return map(
+        children.get(0),
+        value -> value instanceof String s ? s.toLowerCase(Locale.ROOT) : value,
+        COST_STRING);
+  }
+
+  @Override
+  public Compiled<T> visit(Accenti accenti, List<Compiled<T>> children) {
+    return map(children.get(0), CqlVisitorCompile::stripAccents, COST_STRING);
+  }
+
+  private static Object stripAccents(Object value) {
+    if (value instanceof String s) {
+      return DIACRITICS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+    }
+    return value;
+  }
+
+  private Compiled<T> map(
+      Compiled<T> operand, java.util.function.Function<Object, Object> mapping, int cost) {
+    if (operand.isConstant()) {
+      return Compiled.constant(mapping.apply(operand.constant()));
+    }
+    Evaluator<T> evaluator = operand.evaluator();
+
+    return new Compiled<>(
+        feature -> mapping.apply(evaluator.evaluate(feature)), operand.cost() + cost, false);
+  }
+
+  @Override
+  public Compiled<T> visit(Interval interval, List<Compiled<T>> children) {
+    Compiled<T> start = children.get(0);
+    Compiled<T> end = children.get(1);
+
+    if (start.isConstant() && end.isConstant()) {
+      return Compiled.constant(toInterval(start.constant(), end.constant()));
+    }
+
+    return new Compiled<>(
+        feature ->
+            toInterval(start.evaluator().evaluate(feature), end.evaluator().evaluate(feature)),
+        start.cost() + end.cost() + COST_TEMPORAL,
+        false);
+  }
+
+  // a missing or open boundary is unbounded
+  private static TimeRange toInterval(Object start, Object end) {
+    TimeRange startRange = toTimeRange(start);
+    TimeRange endRange = toTimeRange(end);
+
+    return new TimeRange(
+        Objects.nonNull(startRange) ? startRange.start() : Instant.MIN,
+        Objects.nonNull(endRange) ? endRange.end() : Instant.MAX);
+  }
+
+  @Override
+  public Compiled<T> visit(BinaryTemporalOperation temporalOperation, List<Compiled<T>> children) {
+    Compiled<T> left = children.get(0);
+    Compiled<T> right = children.get(1);
+    TemporalFunction operator = temporalOperation.getTemporalOperator();
+
+    TimeRange constantRight = right.isConstant() ? toTimeRange(right.constant()) : null;
+    Evaluator<T> rightEvaluator =
+        Objects.nonNull(constantRight) ? feature -> constantRight : right.evaluator();
+
+    return new Compiled<>(
+        feature -> {
+          TimeRange a = toTimeRange(left.evaluator().evaluate(feature));
+          TimeRange b = toTimeRange(rightEvaluator.evaluate(feature));
+          if (Objects.isNull(a) || Objects.isNull(b)) {
+            return null;
+          }
+          return relate(operator, a, b);
+        },
+        left.cost() + right.cost() + COST_TEMPORAL,
+        false);
+  }
+
+  @SuppressWarnings("PMD.CyclomaticComplexity")
+  private static boolean relate(TemporalFunction operator, TimeRange a, TimeRange b) {
+    return switch (operator) {
+      case T_AFTER -> a.start().isAfter(b.end());
+      case T_BEFORE -> a.end().isBefore(b.start());
+      case T_CONTAINS -> a.start().isBefore(b.start()) && a.end().isAfter(b.end());
+      case T_DISJOINT -> a.end().isBefore(b.start()) || a.start().isAfter(b.end());
+      case T_DURING -> a.start().isAfter(b.start()) && a.end().isBefore(b.end());
+      case T_EQUALS -> a.start().equals(b.start()) && a.end().equals(b.end());
+      case T_FINISHEDBY -> a.start().isBefore(b.start()) && a.end().equals(b.end());
+      case T_FINISHES -> a.start().isAfter(b.start()) && a.end().equals(b.end());
+      case T_INTERSECTS -> !a.start().isAfter(b.end()) && !a.end().isBefore(b.start());
+      case T_MEETS -> a.end().equals(b.start());
+      case T_METBY -> a.start().equals(b.end());
+      case T_OVERLAPPEDBY ->
+          a.start().isAfter(b.start()) && a.start().isBefore(b.end()) && a.end().isAfter(b.end());
+      case T_OVERLAPS ->
+          a.start().isBefore(b.start()) && a.end().isAfter(b.start()) && a.end().isBefore(b.end());
+      case T_STARTEDBY -> a.start().equals(b.start()) && a.end().isAfter(b.end());
+      case T_STARTS -> a.start().equals(b.start()) && a.end().isBefore(b.end());
+    };
+  }
+
+  @Override
+  public Compiled<T> visit(BinarySpatialOperation spatialOperation, List<Compiled<T>> children) {
+    Compiled<T> left = children.get(0);
+    Compiled<T> right = children.get(1);
+    SpatialFunction operator = spatialOperation.getSpatialOperator();
+    int cost = left.cost() + right.cost() + COST_SPATIAL;
+
+    if (left.isConstant() && right.isConstant()) {
+      return Compiled.constant(
+          relate(operator, toGeometry(left.constant()), toGeometry(right.constant())));
+    }
+
+    if (left.isConstant() || right.isConstant()) {
+      boolean literalFirst = left.isConstant();
+      Geometry literal = toGeometry(literalFirst ? left.constant() : right.constant());
+      if (Objects.isNull(literal)) {
+        return Compiled.constant(null);
+      }
+      PreparedGeometry prepared = PreparedGeometryFactory.prepare(literal);
+      Evaluator<T> other = literalFirst ? right.evaluator() : left.evaluator();
+
+      return new Compiled<>(
+          feature -> {
+            Geometry geometry = toGeometry(other.evaluate(feature));
+            return Objects.isNull(geometry)
+                ? null
+                : relate(operator, prepared, geometry, literalFirst);
+          },
+          cost,
+          false);
+    }
+
+    return new Compiled<>(
+        feature ->
+            relate(
+                operator,
+                toGeometry(left.evaluator().evaluate(feature)),
+                toGeometry(right.evaluator().evaluate(feature))),
+        cost,
+        false);
+  }
+
+  private static Boolean relate(SpatialFunction operator, Geometry a, Geometry b) {
+    if (Objects.isNull(a) || Objects.isNull(b)) {
+      return null;
+    }
+    return switch (operator) {
+      case S_INTERSECTS -> a.intersects(b);
+      case S_EQUALS -> a.equalsTopo(b);
+      case S_DISJOINT -> a.disjoint(b);
+      case S_TOUCHES -> a.touches(b);
+      case S_WITHIN -> a.within(b);
+      case S_OVERLAPS -> a.overlaps(b);
+      case S_CROSSES -> a.crosses(b);
+      case S_CONTAINS -> a.contains(b);
+    };
+  }
+
+  // the prepared literal is either the first or the second operand of the operator
+  private static boolean relate(
+      SpatialFunction operator, PreparedGeometry literal, Geometry geometry, boolean literalFirst) {
+    return switch (operator) {
+      case S_INTERSECTS -> literal.intersects(geometry);
+      case S_EQUALS -> literal.getGeometry().equalsTopo(geometry);
+      case S_DISJOINT -> literal.disjoint(geometry);
+      case S_TOUCHES -> literal.touches(geometry);
+      case S_OVERLAPS -> literal.overlaps(geometry);
+      case S_CROSSES -> literal.crosses(geometry);
+      case S_WITHIN -> literalFirst ? literal.within(geometry) : literal.contains(geometry);
+      case S_CONTAINS -> literalFirst ? literal.contains(geometry) : literal.within(geometry);
+    };
+  }
+
+  private Geometry toGeometry(Object value) {
+    if (value instanceof Geometry geometry) {
+      return geometry;
+    }
+    if (value instanceof Bbox bbox) {
+      List<Double> coordinates = bbox.getCoordinates();
+      int half = coordinates.size() / 2;
+      return geometryFactory.toGeometry(
+          new Envelope(
+              coordinates.get(0),
+              coordinates.get(half),
+              coordinates.get(1),
+              coordinates.get(half + 1)));
+    }
+    if (value instanceof GeometryNode geometryNode) {
+      return geometryNode.getGeometry().accept(new GeometryEncoderJts(geometryFactory));
+    }
+    return null;
+  }
+
+  @Override
+  public Compiled<T> visit(BinaryArrayOperation arrayOperation, List<Compiled<T>> children) {
+    Compiled<T> left = children.get(0);
+    Compiled<T> right = children.get(1);
+    ArrayFunction operator = arrayOperation.getArrayOperator();
+
+    Set<Object> constantRight = right.isConstant() ? toKeys(right.constant()) : null;
+    Set<Object> constantLeft = left.isConstant() ? toKeys(left.constant()) : null;
+
+    return new Compiled<>(
+        feature -> {
+          Set<Object> a =
+              Objects.nonNull(constantLeft)
+                  ? constantLeft
+                  : toKeys(left.evaluator().evaluate(feature));
+          Set<Object> b =
+              Objects.nonNull(constantRight)
+                  ? constantRight
+                  : toKeys(right.evaluator().evaluate(feature));
+          if (Objects.isNull(a) || Objects.isNull(b)) {
+            return null;
+          }
+          return switch (operator) {
+            case A_EQUALS -> a.equals(b);
+            case A_CONTAINS -> a.containsAll(b);
+            case A_CONTAINEDBY -> b.containsAll(a);
+            case A_OVERLAPS -> b.stream().anyMatch(a::contains);
+          };
+        },
+        left.cost() + right.cost() + COST_ARRAY,
+        false);
+  }
+
+  private static Set<Object> toKeys(Object value) {
+    if (value instanceof Collection<?> values) {
+      Set<Object> keys = new HashSet<>();
+      for (Object item : values) {
+        keys.add(toKey(item));
+      }
+      return keys;
+    }
+    return Objects.isNull(value) ? null : Set.of(toKey(value));
+  }
+
+  @Override
+  public Compiled<T> visit(Property property, List<Compiled<T>> children) {
+    if (!property.getNestedFilters().isEmpty()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Nested filters cannot be evaluated in memory, found: %s", property.getName()));
+    }
+    String name = property.getName().replaceAll("^\"|\"$", "");
+
+    return new Compiled<>(feature -> accessor.getValue(feature, name), COST_PROPERTY, false);
+  }
+
+  @Override
+  public Compiled<T> visit(ScalarLiteral scalarLiteral, List<Compiled<T>> children) {
+    return Compiled.constant(scalarLiteral.getValue());
+  }
+
+  @Override
+  public Compiled<T> visit(TemporalLiteral temporalLiteral, List<Compiled<T>> children) {
+    // an INTERVAL() with dates
+    if (temporalLiteral.getValue() instanceof Interval interval) {
+      return interval.accept(this);
+    }
+
+    return Compiled.constant(toTimeRange(temporalLiteral.getValue()));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Compiled<T> visit(ArrayLiteral arrayLiteral, List<Compiled<T>> children) {
+    if (!(arrayLiteral.getValue() instanceof List)) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported array literal: %s", arrayLiteral.getValue()));
+    }
+    List<Compiled<T>> elements =
+        ((List<Scalar>) arrayLiteral.getValue())
+            .stream()
+            .map(element -> element.accept(this))
+            .toList();
+
+    if (elements.stream().allMatch(Compiled::isConstant)) {
+      return Compiled.constant(elements.stream().map(Compiled::constant).toList());
+    }
+
+    return new Compiled<>(
+        feature ->
+            elements.stream()
+                .map(element -> element.evaluator().evaluate(feature))
+                .collect(Collectors.toList()),
+        elements.stream().mapToInt(Compiled::cost).sum(),
+        false);
+  }
+
+  @Override
+  public Compiled<T> visit(SpatialLiteral spatialLiteral, List<Compiled<T>> children) {
+    Geometry geometry = toGeometry(spatialLiteral.getValue());
+
+    if (Objects.isNull(geometry)) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported spatial literal: %s", spatialLiteral.getValue()));
+    }
+
+    return Compiled.constant(geometry);
+  }
+
+  @Override
+  public Compiled<T> visit(PositionNode position, List<Compiled<T>> children) {
+    throw unsupported(position);
+  }
+
+  @Override
+  public Compiled<T> visit(GeometryNode geometry, List<Compiled<T>> children) {
+    return Compiled.constant(toGeometry(geometry));
+  }
+
+  @Override
+  public Compiled<T> visit(Bbox envelope, List<Compiled<T>> children) {
+    return Compiled.constant(toGeometry(envelope));
+  }
+
+  @Override
+  public Compiled<T> visit(Function function, List<Compiled<T>> children) {
+    String name = function.getName().toUpperCase(Locale.ROOT);
+
+    switch (name) {
+      case "UPPER":
+        return map(
+            children.get(0),
+            value -> value instanceof String s ? s.toUpperCase(Locale.ROOT) : value,
+            COST_STRING);
+      case "LOWER":
+        return map(
+            children.get(0),
+            value -> value instanceof String s ? s.toLowerCase(Locale.ROOT) : value,
+            COST_STRING);
+      case "NOW":
+        // not a constant, a compiled filter may be evaluated long after it was compiled
+        return new Compiled<>(feature -> Instant.now(), COST_CONSTANT, false);
+      default:
+        break;
+    }
+
+    java.util.function.Function<List<Object>, Object> implementation =
+        accessor
+            .getFunction(name)
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        String.format(
+                            "The function '%s' cannot be evaluated in memory.",
+                            function.getName())));
+    int cost = children.stream().mapToInt(Compiled::cost).sum() + COST_STRING;
+
+    return new Compiled<>(
+        feature ->
+            implementation.apply(
+                children.stream()
+                    .map(child -> child.evaluator().evaluate(feature))
+                    .collect(Collectors.toList())),
+        cost,
+        false);
+  }
+
+  @Override
+  public Compiled<T> visit(BooleanValue2 booleanValue, List<Compiled<T>> children) {
+    return Compiled.constant(booleanValue.getValue());
+  }
+
+  @Override
+  public Compiled<T> visit(Parameter parameter, List<Compiled<T>> children) {
+    throw new IllegalArgumentException(
+        "Parameters have to be replaced before the filter can be evaluated in memory.");
+  }
+
+  private static IllegalArgumentException unsupported(CqlNode node) {
+    return new IllegalArgumentException(
+        String.format("Cannot evaluate in memory: %s", node.getClass().getSimpleName()));
+  }
+
+  /**
+   * Compares two values of compatible types. Numbers are compared numerically, temporal values as
+   * instants and strings from the feature are converted to the type of the other operand.
+   *
+   * @return the comparison result or {@code null}, if one of the values is missing or the types
+   *     are not comparable
+   */
+  @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.CognitiveComplexity"})
+  static Integer compare(Object a, Object b) {
+    if (Objects.isNull(a) || Objects.isNull(b)) {
+      return null;
+    }
+    if (a instanceof Number && b instanceof Number) {
+      if (isIntegral(a) && isIntegral(b)) {
+        return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+      }
+      return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+    }
+    if (a instanceof Number || b instanceof Number) {
+      Double x = toDouble(a);
+      Double y = toDouble(b);
+      return Objects.isNull(x) || Objects.isNull(y) ? null : Double.compare(x, y);
+    }
+    if (isTemporal(a) || isTemporal(b)) {
+      TimeRange x = toTimeRange(a);
+      TimeRange y = toTimeRange(b);
+      return Objects.isNull(x) || Objects.isNull(y) ? null : x.start().compareTo(y.start());
+    }
+    if (a instanceof Boolean || b instanceof Boolean) {
+      Boolean x = toBoolean(a);
+      Boolean y = toBoolean(b);
+      return Objects.isNull(x) || Objects.isNull(y) ? null : Boolean.compare(x, y);
+    }
+    if (a instanceof String && b instanceof String) {
+      return ((String) a).compareTo((String) b);
+    }
+    return null;
+  }
+
+  private static boolean isIntegral(Object value) {
+    return value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte;
+  }
+
+  private static boolean isTemporal(Object value) {
+    return value instanceof Instant || value instanceof LocalDate || value instanceof TimeRange;
+  }
+
+  private static Double toDouble(Object value) {
+    if (value instanceof Number number) {
+      return number.doubleValue();
+    }
+    if (value instanceof String s) {
+      try {
+        return Double.parseDouble(s);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static Boolean toBoolean(Object value) {
+    if (value instanceof Boolean b) {
+      return b;
+    }
+    if (value instanceof String s) {
+      if ("true".equalsIgnoreCase(s) || "t".equalsIgnoreCase(s) || "1".equals(s)) {
+        return true;
+      }
+      if ("false".equalsIgnoreCase(s) || "f".equalsIgnoreCase(s) || "0".equals(s)) {
+        return false;
+      }
+    }
+    return null;
+  }
+
+  // normalized values for hash based lookups, all numbers are compared as doubles
+  private static Object toKey(Object value) {
+    if (value instanceof Number number) {
+      return number.doubleValue();
+    }
+    return value;
+  }
+
+  /**
+   * Converts instants, dates, intervals and their string representations to a closed time range.
+   * A date covers the whole day.
+   */
+  static TimeRange toTimeRange(Object value) {
+    if (value instanceof TimeRange timeRange) {
+      return timeRange;
+    }
+    if (value instanceof Instant instant) {
+      return new TimeRange(instant, instant);
+    }
+    if (value instanceof LocalDate date) {
+      return new TimeRange(
+          date.atStartOfDay(ZoneOffset.UTC).toInstant(),
+          date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusNanos(1));
+    }
+    if (value instanceof org.threeten.extra.Interval interval) {
+      return new TimeRange(
+          interval.getStart(),
+          interval.isUnboundedEnd() ? Instant.MAX : interval.getEnd().minusNanos(1));
+    }
+    if (value instanceof String s && !s.isBlank() && !"..".equals(s)) {
+      try {
+        if (DATE.matcher(s).matches()) {
+          return toTimeRange(LocalDate.parse(s));
+        }
+        return toTimeRange(ZonedDateTime.parse(s).toInstant());
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
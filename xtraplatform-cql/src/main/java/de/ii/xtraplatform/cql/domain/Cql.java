@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 public interface Cql {
 
@@ -57,4 +58,13 @@ public interface Cql {
   Cql2Expression mapEnvelopes(Cql2Expression cqlFilter, CrsInfo crsInfo);
 
   Cql2Expression mapNots(Cql2Expression cqlFilter);
+
+  /**
+   * Compiles the filter into a predicate for in-memory features, e.g. to filter features that
+   * were already fetched from a backend or that are part of a change notification.
+   *
+   * @throws IllegalArgumentException if the filter contains parameters or functions that cannot be
+   *     evaluated in memory
+   */
+  <T> Predicate<T> compile(Cql2Expression cqlFilter, CqlFeatureAccessor<T> featureAccessor);
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.cql.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Provides the property values of an in-memory feature for {@link Cql#compile(Cql2Expression,
+ * CqlFeatureAccessor)}.
+ *
+ * @param <T> the feature representation
+ */
+public interface CqlFeatureAccessor<T> {
+
+  /**
+   * @param feature the feature
+   * @param property the property name as used in the filter, {@link In#ID_PLACEHOLDER} for the
+   *     feature id
+   * @return the value as {@link String}, {@link Number}, {@link Boolean}, {@link
+   *     java.time.Instant}, {@link java.time.LocalDate}, {@link List} for arrays or {@link
+   *     org.locationtech.jts.geom.Geometry} for spatial properties; {@code null} if the feature has
+   *     no value. Geometries have to use the same CRS and axis order as the geometry literals of
+   *     the filter.
+   */
+  Object getValue(T feature, String property);
+
+  /**
+   * Custom functions that are not built-in, e.g. residual functions that could not be evaluated
+   * by the backend.
+   *
+   * @param name the function name in upper case
+   * @return the implementation that receives the evaluated arguments, if available
+   */
+  default Optional<java.util.function.Function<List<Object>, Object>> getFunction(String name) {
+    return Optional.empty();
+  }
+}
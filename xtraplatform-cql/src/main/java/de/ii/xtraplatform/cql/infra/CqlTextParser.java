@@ -10,6 +10,7 @@ package de.ii.xtraplatform.cql.infra;
 import de.ii.xtraplatform.cql.domain.Cql2Expression;
 import de.ii.xtraplatform.cql.domain.CqlParseException;
 import de.ii.xtraplatform.crs.domain.EpsgCrs;
+import org.antlr.v4.runtime.BailErrorStrategy;
 import org.antlr.v4.runtime.BaseErrorListener;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -18,6 +19,7 @@ import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 
 public class CqlTextParser {
@@ -28,7 +30,24 @@ public class CqlTextParser {
   private static final int MAX_LENGTH = 100_000;
   private static final int MAX_NESTING_DEPTH = 250;
 
+  // Two-stage parsing: the faster SLL prediction is sufficient for almost all filters, only if it
+  // fails the input is parsed again with full LL prediction, which also reports the syntax errors.
   private CqlParser.CqlFilterContext parseToTree(String cql) {
+    try {
+      CqlParser parser = createParser(cql);
+      parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+      parser.setErrorHandler(new BailErrorStrategy());
+
+      return parser.cqlFilter();
+    } catch (ParseCancellationException e) {
+      CqlParser parser = createParser(cql);
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+
+      return parser.cqlFilter();
+    }
+  }
+
+  private static CqlParser createParser(String cql) {
     CqlLexer lexer = new CqlLexer(CharStreams.fromString(cql));
     lexer.removeErrorListeners();
     lexer.addErrorListener(ThrowingErrorListener.INSTANCE);
@@ -39,7 +58,7 @@ public class CqlTextParser {
     parser.removeErrorListeners();
     parser.addErrorListener(ThrowingErrorListener.INSTANCE);
 
-    return parser.cqlFilter();
+    return parser;
   }
 
   @SuppressWarnings("PMD.AvoidUncheckedExceptionsInSignatures")
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.cql.app
+
+import de.ii.xtraplatform.cql.domain.Cql
+import de.ii.xtraplatform.cql.domain.CqlFeatureAccessor
+import de.ii.xtraplatform.cql.domain.Function
+import org.locationtech.jts.io.WKTReader
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Instant
+import java.util.function.Predicate
+
+class CqlCompileSpec extends Specification {
+
+    @Shared
+    Cql cql
+
+    @Shared
+    CqlFeatureAccessor<Map<String, Object>> accessor
+
+    @Shared
+    Map<String, Object> feature
+
+    def setupSpec() {
+        cql = new CqlImpl()
+        accessor = (feature, property) -> feature.get(property)
+        feature = [
+                _ID_    : "42",
+                name    : "Mike Müller",
+                floors  : 5L,
+                height  : "12.5",
+                pool    : "true",
+                built   : "2017-06-10",
+                updated : "2017-06-10T07:30:00Z",
+                tags    : ["a", "b", "c"],
+                location: new WKTReader().read("POINT (7.5 50.5)")
+        ]
+    }
+
+    def 'Compiled filter - #filter'() {
+        when:
+        Predicate<Map<String, Object>> predicate = cql.compile(cql.read(filter, Cql.Format.TEXT), accessor)
+
+        then:
+        predicate.test(feature) == expected
+
+        where:
+        filter                                                              || expected
+        "floors > 4"                                                        || true
+        "floors >= 6"                                                       || false
+        "height < 13"                                                       || true
+        "floors BETWEEN 4 AND 6"                                            || true
+        "floors IN (1, 2, 3)"                                               || false
+        "floors IN (4, 5)"                                                  || true
+        "name LIKE 'Mike%'"                                                 || true
+        "name LIKE 'mike%'"                                                 || false
+        "CASEI(name) LIKE CASEI('mike%')"                                   || true
+        "ACCENTI(name) = ACCENTI('Mike Muller')"                            || true
+        "pool = true"                                                       || true
+        "name IS NULL"                                                      || false
+        "missing IS NULL"                                                   || true
+        "missing = 1"                                                       || false
+        "NOT (missing = 1)"                                                 || false
+        "missing = 1 OR floors = 5"                                         || true
+        "floors = 5 AND NOT (name LIKE '%Schmidt')"                         || true
+        "built = DATE('2017-06-10')"                                        || true
+        "updated > TIMESTAMP('2017-06-10T07:00:00Z')"                       || true
+        "updated > DATE('2017-06-10')"                                      || false
+        "updated <= DATE('2017-06-10')"                                     || true
+        "updated < DATE('2017-06-11')"                                      || true
+        "updated >= DATE('2017-06-10')"                                     || true
+        "updated BETWEEN DATE('2017-06-01') AND DATE('2017-06-10')"         || true
+        "T_INTERSECTS(built, INTERVAL('2017-06-09','2017-06-10'))"          || true
+        "T_BEFORE(updated, TIMESTAMP('2017-06-10T07:00:00Z'))"              || false
+        "T_DURING(INTERVAL(built, updated), INTERVAL('2017-01-01','..'))"   || true
+        "A_CONTAINS(tags, ('a', 'c'))"                                      || true
+        "A_OVERLAPS(tags, ('x', 'c'))"                                      || true
+        "A_CONTAINEDBY(tags, ('a', 'b'))"                                   || false
+        "S_INTERSECTS(location, BBOX(7, 50, 8, 51))"                        || true
+        "S_WITHIN(location, POLYGON((7 50, 8 50, 8 51, 7 51, 7 50)))"       || true
+        "S_DISJOINT(location, BBOX(8, 50, 9, 51))"                          || true
+        "S_INTERSECTS(location, BBOX(8, 50, 9, 51)) AND floors = 5"         || false
+    }
+
+    def 'NOW is evaluated when the filter is evaluated'() {
+        given:
+        CqlVisitorCompile.Compiled<Map<String, Object>> now = new CqlVisitorCompile<>(accessor).visit(Function.of("NOW", []), [])
+
+        when:
+        Instant first = now.evaluator().evaluate(feature) as Instant
+        Thread.sleep(5)
+        Instant second = now.evaluator().evaluate(feature) as Instant
+
+        then:
+        !now.isConstant()
+        second.isAfter(first)
+    }
+
+    def 'Unknown functions cannot be compiled'() {
+        when:
+        cql.compile(cql.read("DIAMETER2D(location) > 10", Cql.Format.TEXT), accessor)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'Custom functions are provided by the accessor'() {
+        given:
+        CqlFeatureAccessor<Map<String, Object>> accessorWithFunction = new CqlFeatureAccessor<Map<String, Object>>() {
+            @Override
+            Object getValue(Map<String, Object> f, String property) {
+                return f.get(property)
+            }
+
+            @Override
+            Optional<java.util.function.Function<List<Object>, Object>> getFunction(String name) {
+                return name == "DIAMETER2D" ? Optional.of({ List<Object> args -> 20.0d } as java.util.function.Function) : Optional.empty()
+            }
+        }
+
+        when:
+        Predicate<Map<String, Object>> predicate = cql.compile(cql.read("DIAMETER2D(location) > 10", Cql.Format.TEXT), accessorWithFunction)
+
+        then:
+        predicate.test(feature)
+    }
+
+    def 'LIKE patterns are converted to regular expressions'() {
+        expect:
+        CqlVisitorCompile.toRegex(pattern).matcher(value).matches() == expected
+
+        where:
+        pattern     | value     || expected
+        "a%"        | "abc"     || true
+        "a_c"       | "abc"     || true
+        "a_c"       | "abbc"    || false
+        "a\\%"      | "a%"      || true
+        "a\\%"      | "ab"      || false
+        "(a).*"     | "(a).*"   || true
+        "(a).*"     | "(a)xx"   || false
+    }
+}
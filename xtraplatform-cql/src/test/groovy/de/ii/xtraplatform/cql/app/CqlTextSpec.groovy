@@ -2020,4 +2020,41 @@ class CqlTextSpec extends Specification {
         noExceptionThrown()
     }
 
+    def 'Parsed filters are cached'() {
+
+        given:
+        CqlImpl cqlImpl = new CqlImpl()
+        String cqlText = "floors > 5 AND swimming_pool = true"
+
+        when: 'reading text twice'
+        Cql2Expression first = cqlImpl.read(cqlText, Cql.Format.TEXT)
+        Cql2Expression second = cqlImpl.read(cqlText, Cql.Format.TEXT)
+        Cql2Expression otherCrs = cqlImpl.read(cqlText, Cql.Format.TEXT, OgcCrs.CRS84h)
+
+        then:
+        first.is(second)
+        !first.is(otherCrs)
+        cqlImpl.getParseCacheStats().hitCount() == 1
+        cqlImpl.getParseCacheStats().missCount() == 2
+    }
+
+    def 'Invalid filters are not cached'() {
+
+        given:
+        CqlImpl cqlImpl = new CqlImpl()
+
+        when:
+        cqlImpl.read("floors >", Cql.Format.TEXT)
+
+        then:
+        thrown(CqlParseException)
+
+        when:
+        cqlImpl.read("floors >", Cql.Format.TEXT)
+
+        then:
+        thrown(CqlParseException)
+        cqlImpl.getParseCacheStats().hitCount() == 0
+    }
+
 }
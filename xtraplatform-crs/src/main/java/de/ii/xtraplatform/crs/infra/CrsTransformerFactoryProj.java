@@ -33,10 +33,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -84,10 +86,10 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
 
   private final ProjLoader projLoader;
   private final ResourceStore projStore;
-  private final Map<EpsgCrs, CoordinateReferenceSystem> crsCache;
-  private final Map<EpsgCrs, Map<EpsgCrs, CrsTransformer>> transformerCache;
-  private final Map<EpsgCrs, Map<EpsgCrs, CrsTransformer>> transformerCacheForce2d;
-  private final Lock projLock;
+  private final Map<EpsgCrs, CompletableFuture<Optional<CoordinateReferenceSystem>>> crsCache;
+  private final Map<EpsgCrs, Map<EpsgCrs, CompletableFuture<CrsTransformer>>> transformerCache;
+  private final Map<EpsgCrs, Map<EpsgCrs, CompletableFuture<CrsTransformer>>>
+      transformerCacheForce2d;
   private final boolean useCaches;
   private final boolean asyncStartup;
 
@@ -103,7 +105,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
     this.crsCache = new ConcurrentHashMap<>();
     this.transformerCache = new ConcurrentHashMap<>();
     this.transformerCacheForce2d = new ConcurrentHashMap<>();
-    this.projLock = new ReentrantLock();
     this.useCaches = true;
     this.asyncStartup = appContext.getConfiguration().getModules().isStartupAsync();
   }
@@ -117,7 +118,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
     this.crsCache = new ConcurrentHashMap<>();
     this.transformerCache = new ConcurrentHashMap<>();
     this.transformerCacheForce2d = new ConcurrentHashMap<>();
-    this.projLock = new ReentrantLock();
     this.useCaches = true;
     this.asyncStartup = false;
   }
@@ -369,12 +369,13 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
     CoordinateReferenceSystem finalTargetProjCrs = targetProjCrs;
     CrsTransformer transformer =
         useCaches
-            ? getCacheForSource(sourceCrs, force2d)
-                .computeIfAbsent(
-                    targetCrs,
-                    ignore ->
-                        createCrsTransformer(
-                            sourceCrs, targetCrs, finalSourceProjCrs, finalTargetProjCrs))
+            ? singleFlight(
+                getCacheForSource(sourceCrs, force2d),
+                targetCrs,
+                () ->
+                    createCrsTransformer(
+                        sourceCrs, targetCrs, finalSourceProjCrs, finalTargetProjCrs),
+                ignore -> true)
             : createCrsTransformer(sourceCrs, targetCrs, sourceProjCrs, targetProjCrs);
 
     return Optional.of(transformer);
@@ -409,11 +410,56 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
       throw new IllegalArgumentException();
     }
 
+    // unsupported codes are not cached, same as before, PROJ might not have been ready yet
     return useCaches
-        ? Optional.ofNullable(crsCache.computeIfAbsent(crs, ignore -> createCrs(crs).orElse(null)))
+        ? singleFlight(crsCache, crs, () -> createCrs(crs), Optional::isPresent)
         : createCrs(crs);
   }
 
+  /**
+   * Every key is created exactly once, concurrent callers for the same key wait for the first
+   * one, callers for other keys are not blocked. PROJ-JNI borrows a separate PROJ context per
+   * thread (see {@code org.kortforsyningen.proj.maxThreadsPerInstance}), so creation itself does
+   * not need to be serialized. Failed creations and values not accepted by {@code cacheIf} are
+   * evicted, so that the next caller tries again.
+   */
+  private static <K, V> V singleFlight(
+      Map<K, CompletableFuture<V>> cache, K key, Supplier<V> factory, Predicate<V> cacheIf) {
+    CompletableFuture<V> existing = cache.get(key);
+
+    if (Objects.isNull(existing)) {
+      CompletableFuture<V> created = new CompletableFuture<>();
+      existing = cache.putIfAbsent(key, created);
+
+      if (Objects.isNull(existing)) {
+        try {
+          V value = factory.get();
+          if (!cacheIf.test(value)) {
+            cache.remove(key, created);
+          }
+          created.complete(value);
+          return value;
+        } catch (Throwable e) {
+          cache.remove(key, created);
+          created.completeExceptionally(e);
+          throw e;
+        }
+      }
+    }
+
+    try {
+      return existing.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   private CoordinateReferenceSystem getCrsOrThrow(EpsgCrs crs) {
     return getCrs(crs)
         .orElseThrow(
@@ -430,7 +476,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
 
   private Optional<CoordinateReferenceSystem> createCrs(
       EpsgCrs crs, CRSAuthorityFactory authorityFactory, CRSFactory crsFactory, boolean logError) {
-    projLock.lock();
     try {
       String code = String.valueOf(applyWorkarounds(crs).getCode());
       CoordinateReferenceSystem coordinateReferenceSystem =
@@ -460,8 +505,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
         LogContext.errorAsDebug(LOGGER, e, PROJ);
       }
       return Optional.empty();
-    } finally {
-      projLock.unlock();
     }
   }
 
@@ -536,7 +579,8 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
     return crs;
   }
 
-  private Map<EpsgCrs, CrsTransformer> getCacheForSource(EpsgCrs crs, boolean force2d) {
+  private Map<EpsgCrs, CompletableFuture<CrsTransformer>> getCacheForSource(
+      EpsgCrs crs, boolean force2d) {
     return force2d
         ? transformerCacheForce2d.computeIfAbsent(crs, ignore -> new ConcurrentHashMap<>())
         : transformerCache.computeIfAbsent(crs, ignore -> new ConcurrentHashMap<>());
@@ -549,7 +593,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
       CoordinateReferenceSystem sourceProjCrs,
       CoordinateReferenceSystem targetProjCrs) {
 
-    projLock.lock();
     try {
       boolean is3dTo3d = isCrs3d(sourceProjCrs) && isCrs3d(targetProjCrs);
       int sourceDimension = isCrs3d(sourceProjCrs) ? 3 : 2;
@@ -606,8 +649,6 @@ public class CrsTransformerFactoryProj extends AbstractVolatile
     } catch (Throwable ex) {
       LogContext.errorAsDebug(LOGGER, ex, PROJ);
       throw new IllegalArgumentException(ex.getMessage(), ex);
-    } finally {
-      projLock.unlock();
     }
   }
 
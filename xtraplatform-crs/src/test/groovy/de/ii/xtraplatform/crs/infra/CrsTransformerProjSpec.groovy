@@ -72,6 +72,21 @@ class CrsTransformerProjSpec extends Specification {
 
     }
 
+    def 'find transformer - concurrent requests for the same pair share one instance'() {
+        given:
+        EpsgCrs sourceCrs = EpsgCrs.of(25833)
+        EpsgCrs targetCrs = EpsgCrs.of(3035)
+
+        when:
+        def transformers = (1..16).collect {
+            CompletableFuture.supplyAsync { transformerFactory.getTransformer(sourceCrs, targetCrs).get() }
+        }.collect { it.join() }
+
+        then:
+        transformers.toSet().size() == 1
+
+    }
+
 
     def 'CRS transformer test 3D'() {
         given:
@@ -11,7 +11,7 @@ import com.github.azahnen.dagger.annotations.AutoBind;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import de.ii.xtraplatform.base.domain.LogContext;
-import de.ii.xtraplatform.base.domain.util.Tuple;
+import de.ii.xtraplatform.base.domain.LogContext.CONTEXT;
 import de.ii.xtraplatform.feature.changes.sql.domain.FeatureChangesPgConfiguration;
 import de.ii.xtraplatform.features.domain.ExtensionConfiguration;
 import de.ii.xtraplatform.features.domain.FeatureChange;
@@ -23,6 +23,7 @@ import de.ii.xtraplatform.features.domain.FeatureProviderEntity;
 import de.ii.xtraplatform.features.domain.FeatureQueriesExtension;
 import de.ii.xtraplatform.features.domain.FeatureSchema;
 import de.ii.xtraplatform.features.domain.Query;
+import de.ii.xtraplatform.features.domain.Tuple;
 import de.ii.xtraplatform.features.sql.domain.FeatureProviderSqlData;
 import de.ii.xtraplatform.features.sql.domain.SqlClient;
 import de.ii.xtraplatform.features.sql.domain.SqlConnector;
@@ -33,21 +34,21 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 /**
  * @title Change Listener
@@ -83,17 +84,20 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FeatureChangesPgListener.class);
 
-  private final ScheduledExecutorService executorService;
-  private final Map<String, Map<String, Subscription>> subscriptions;
+  private static final long MIN_BACKOFF_MILLIS = 1_000;
+  private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+  private final ExecutorService executorService;
+  private final Map<String, Future<?>> listeners;
 
   @Inject
   public FeatureChangesPgListener() {
     this.executorService =
-        MoreExecutors.getExitingScheduledExecutorService(
-            (ScheduledThreadPoolExecutor)
-                Executors.newScheduledThreadPool(
-                    1, new ThreadFactoryBuilder().setNameFormat("feature.changes-%d").build()));
-    this.subscriptions = new ConcurrentHashMap<>();
+        MoreExecutors.getExitingExecutorService(
+            (ThreadPoolExecutor)
+                Executors.newCachedThreadPool(
+                    new ThreadFactoryBuilder().setNameFormat("feature.changes.pg-%d").build()));
+    this.listeners = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -127,8 +131,9 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
 
     if (configuration.isPresent() && hook == LIFECYCLE_HOOK.STARTED) {
       SqlClient sqlClient = ((SqlConnector) connector).getSqlClient();
-      subscribe(
-          provider, configuration.get(), sqlClient::getConnection, sqlClient::getNotifications);
+      subscribe(provider, configuration.get(), sqlClient);
+    } else if (hook == LIFECYCLE_HOOK.STOPPED) {
+      unsubscribe(provider.getId());
     }
   }
 
@@ -151,82 +156,164 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
   }
 
   private void subscribe(
-      FeatureProvider provider,
-      FeatureChangesPgConfiguration configuration,
-      Supplier<Connection> connectionSupplier,
-      Function<Connection, List<String>> notificationPoller) {
-    subscriptions.put(provider.getId(), new ConcurrentHashMap<>());
-
-    getSubscriptions(
-            provider.info().getSchemas(),
-            configuration.getListenForTypes(),
-            connectionSupplier,
-            notificationPoller)
-        .forEach(subscription -> subscribe(provider.getId(), subscription));
-
-    executorService.scheduleWithFixedDelay(
-        () -> poll(provider.getId(), provider.changes()),
-        configuration.getPollingInterval().toSeconds(),
-        configuration.getPollingInterval().toSeconds(),
-        TimeUnit.SECONDS);
+      FeatureProvider provider, FeatureChangesPgConfiguration configuration, SqlClient sqlClient) {
+    List<Subscription> subscriptions =
+        getSubscriptions(provider.info().getSchemas(), configuration.getListenForTypes());
+    int timeoutMillis =
+        (int) Math.min(Integer.MAX_VALUE, configuration.getPollingInterval().toMilliseconds());
+
+    subscribe(provider.getId(), provider.changes(), subscriptions, sqlClient, timeoutMillis);
   }
 
-  private void subscribe(String provider, Subscription unconnected) {
-    Subscription subscription = unconnected.connect();
-    subscriptions.get(provider).put(subscription.getChannel(), subscription);
+  void subscribe(
+      String provider,
+      FeatureChanges featureChangeHandler,
+      List<Subscription> subscriptions,
+      SqlClient sqlClient,
+      int timeoutMillis) {
+    Future<?> previous =
+        listeners.put(
+            provider,
+            executorService.submit(
+                () ->
+                    listen(
+                        provider,
+                        featureChangeHandler,
+                        subscriptions,
+                        sqlClient,
+                        timeoutMillis)));
 
-    try (Statement statement = subscription.getConnection().createStatement()) {
-      String createFunction = subscription.getCreateFunction();
-      String createTrigger = subscription.getCreateTrigger();
-      String listen = subscription.getListen();
+    if (Objects.nonNull(previous)) {
+      previous.cancel(true);
+    }
+  }
 
-      if (LOGGER.isTraceEnabled()) {
-        LOGGER.trace("Change listener function: \n{}", createFunction);
-        LOGGER.trace("Change listener trigger: \n{}", createTrigger);
-      }
+  // interrupts the listener thread, it closes the connection at the latest when the current wait
+  // for notifications times out
+  void unsubscribe(String provider) {
+    Future<?> listener = listeners.remove(provider);
+
+    if (Objects.nonNull(listener)) {
+      listener.cancel(true);
+    }
+  }
+
+  // all subscriptions of a provider share one connection, the thread blocks until notifications
+  // arrive and reconnects with an increasing delay when the connection is lost
+  private void listen(
+      String provider,
+      FeatureChanges featureChangeHandler,
+      List<Subscription> subscriptions,
+      SqlClient sqlClient,
+      int timeoutMillis) {
+    Map<String, Subscription> channels =
+        subscriptions.stream()
+            .collect(
+                Collectors.toMap(
+                    subscription -> subscription.getChannel().toLowerCase(Locale.ROOT),
+                    subscription -> subscription));
+    long backoff = MIN_BACKOFF_MILLIS;
+
+    while (!Thread.currentThread().isInterrupted()) {
+      try (MDC.MDCCloseable mdc = LogContext.putCloseable(CONTEXT.SERVICE, provider)) {
+        Connection connection = sqlClient.getConnection();
 
-      statement.execute(createFunction);
-      statement.execute(createTrigger);
-      statement.execute(listen);
+        try {
+          subscribe(connection, subscriptions);
+          backoff = MIN_BACKOFF_MILLIS;
 
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Subscribed to feature changes for {}", subscription.getLabel());
+          while (!Thread.currentThread().isInterrupted()) {
+            List<Tuple<String, String>> notifications =
+                sqlClient.awaitNotifications(connection, timeoutMillis);
+
+            if (notifications.isEmpty() && !connection.isValid(1)) {
+              throw new SQLException("connection is not valid anymore");
+            }
+
+            onFeatureChanges(featureChangeHandler, channels, notifications);
+          }
+        } finally {
+          close(connection);
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (Thread.currentThread().isInterrupted()) {
+          break;
+        }
+        LogContext.errorAsWarn(
+            LOGGER,
+            e,
+            "Lost connection to retrieve feature changes for provider '{}', reconnecting in {}s",
+            provider,
+            backoff / 1000);
       }
-    } catch (SQLException e) {
-      LogContext.error(
-          LOGGER, e, "Could not subscribe to feature changes for {}", subscription.getLabel());
+
+      try {
+        Thread.sleep(backoff);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
     }
   }
 
-  private void poll(String provider, FeatureChanges featureChangeHandler) {
-    if (subscriptions.containsKey(provider)) {
-      subscriptions
-          .get(provider)
-          .forEach((channel, subscription) -> poll(provider, featureChangeHandler, subscription));
+  private static void subscribe(Connection connection, List<Subscription> subscriptions)
+      throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      for (Subscription subscription : subscriptions) {
+        String createFunction = subscription.getCreateFunction();
+        String createTrigger = subscription.getCreateTrigger();
+        String listen = subscription.getListen();
+
+        if (LOGGER.isTraceEnabled()) {
+          LOGGER.trace("Change listener function: \n{}", createFunction);
+          LOGGER.trace("Change listener trigger: \n{}", createTrigger);
+        }
+
+        statement.execute(createFunction);
+        statement.execute(createTrigger);
+        statement.execute(listen);
+
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Subscribed to feature changes for {}", subscription.getLabel());
+        }
+      }
     }
   }
 
-  private void poll(
-      String provider, FeatureChanges featureChangeHandler, Subscription subscription) {
-    if (!subscription.isConnected()) {
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Lost connection to retrieve feature changes for {}", subscription.getLabel());
+  private static void close(Connection connection) {
+    try {
+      if (!connection.isClosed() && connection.isValid(1)) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("UNLISTEN *;");
+        }
       }
-      subscriptions.get(provider).remove(subscription.getChannel());
-      subscribe(provider, subscription);
-
-      return;
+      connection.close();
+    } catch (SQLException e) {
+      // ignore
     }
+  }
+
+  static void onFeatureChanges(
+      FeatureChanges featureChangeHandler,
+      Map<String, Subscription> channels,
+      List<Tuple<String, String>> notifications) {
+    for (Tuple<String, String> notification : notifications) {
+      Subscription subscription = channels.get(notification.first().toLowerCase(Locale.ROOT));
 
-    for (String notification : subscription.pollNotifications()) {
+      if (Objects.isNull(subscription)) {
+        continue;
+      }
       if (LOGGER.isTraceEnabled()) {
-        LOGGER.trace("Feature change notification received: {}", notification);
+        LOGGER.trace(
+            "Feature change notification received for {}: {}",
+            subscription.getLabel(),
+            notification.second());
       }
-      onFeatureChange(subscription.getType(), featureChangeHandler, notification);
+      onFeatureChange(subscription.getType(), featureChangeHandler, notification.second());
     }
   }
 
-  private void onFeatureChange(
+  private static void onFeatureChange(
       String featureType, FeatureChanges featureChangeHandler, String payload) {
     try {
       FeatureChange featureChange = Notification.from(featureType, payload).asFeatureChange();
@@ -242,11 +329,7 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
     }
   }
 
-  private List<Subscription> getSubscriptions(
-      Set<FeatureSchema> types,
-      List<String> includes,
-      Supplier<Connection> connectionSupplier,
-      Function<Connection, List<String>> notificationPoller) {
+  private List<Subscription> getSubscriptions(Set<FeatureSchema> types, List<String> includes) {
     includes.forEach(
         include -> {
           if (types.stream()
@@ -268,8 +351,6 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
                     .map(
                         sourcePath ->
                             ImmutableSubscription.builder()
-                                .connectionFactory(connectionSupplier)
-                                .notificationPoller(notificationPoller)
                                 .index(count.getAndIncrement())
                                 .type(type.getName())
                                 .table(
@@ -289,7 +370,7 @@ public class FeatureChangesPgListener implements FeatureQueriesExtension {
                                     type.getPrimaryInterval()
                                         .map(
                                             t ->
-                                                Tuple.of(
+                                                de.ii.xtraplatform.base.domain.util.Tuple.of(
                                                     t.first().getSourcePath().orElseThrow(),
                                                     t.second().getSourcePath().orElseThrow())))
                                 .instantColumn(
@@ -9,12 +9,7 @@ package de.ii.xtraplatform.feature.changes.sql.app;
 
 import com.google.common.base.Strings;
 import de.ii.xtraplatform.base.domain.util.Tuple;
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.function.Supplier;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -34,12 +29,6 @@ interface Subscription {
 
   Optional<String> getInstantColumn();
 
-  Optional<Connection> getCurrentConnection();
-
-  Supplier<Connection> getConnectionFactory();
-
-  Function<Connection, List<String>> getNotificationPoller();
-
   @Value.Derived
   default String getLabel() {
     return String.format("%s_%s", getType(), getTable());
@@ -53,28 +42,6 @@ interface Subscription {
         Strings.padStart(String.valueOf(getIndex()), 3, '0'));
   }
 
-  @Value.Lazy
-  default Connection getConnection() {
-    return getCurrentConnection().orElseThrow(() -> new IllegalStateException("Not connected"));
-  }
-
-  default Subscription connect() {
-    return ((ImmutableSubscription) this).withCurrentConnection(getConnectionFactory().get());
-  }
-
-  default boolean isConnected() {
-    try {
-      return getCurrentConnection().isPresent() && getCurrentConnection().get().isValid(1);
-    } catch (SQLException e) {
-      // continue
-    }
-    return false;
-  }
-
-  default List<String> pollNotifications() {
-    return getNotificationPoller().apply(getConnection());
-  }
-
   @Value.Derived
   default String getCreateFunction() {
     String delete =
@@ -41,10 +41,12 @@ public interface FeatureChangesPgConfiguration extends ExtensionConfiguration {
   List<String> getListenForTypes();
 
   /**
-   * @langEn Since the JDBC driver for PostgreSQL does not support real reactivity, it has to be
-   *     polled for changes with the given interval.
-   * @langDe Da der JDBC-Treiber für PostgreSQL keine richtige Reaktivität unterstützt, müssen
-   *     Änderungen mit dem angegebenen Intervall abgefragt werden.
+   * @langEn Changes are processed as soon as they are received. When no changes are received
+   *     for the given interval, the connection to the database is validated and re-established if
+   *     necessary.
+   * @langDe Änderungen werden verarbeitet, sobald sie empfangen werden. Werden für das angegebene
+   *     Intervall keine Änderungen empfangen, wird die Verbindung zur Datenbank geprüft und bei
+   *     Bedarf wiederhergestellt.
    * @default 60s
    * @since v3.3
    */
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.feature.changes.sql.app
+
+import de.ii.xtraplatform.features.domain.FeatureChange
+import de.ii.xtraplatform.features.domain.FeatureChanges
+import de.ii.xtraplatform.features.domain.FeatureProviderDataV2
+import de.ii.xtraplatform.features.domain.FeatureProviderEntity
+import de.ii.xtraplatform.features.domain.FeatureQueriesExtension
+import de.ii.xtraplatform.features.domain.Tuple
+import de.ii.xtraplatform.features.sql.domain.SqlClient
+import spock.lang.Specification
+
+import java.sql.Connection
+import java.sql.Statement
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class FeatureChangesPgListenerSpec extends Specification {
+
+    static final Subscription BUILDING = ImmutableSubscription.builder()
+            .index(1)
+            .type("building")
+            .table("building")
+            .idColumn("id")
+            .build()
+
+    def 'Notifications are dispatched to the feature type of their channel'() {
+        given:
+        FeatureChanges handler = Mock(FeatureChanges)
+        Map<String, Subscription> channels = [(BUILDING.getChannel().toLowerCase(Locale.ROOT)): BUILDING]
+
+        when:
+        FeatureChangesPgListener.onFeatureChanges(handler, channels, [
+                Tuple.of(BUILDING.getChannel().toUpperCase(Locale.ROOT), "INSERT,42,,,1,2,3,4"),
+                Tuple.of("unknown_001", "INSERT,43,,,1,2,3,4"),
+                Tuple.of(BUILDING.getChannel(), "INVALID")
+        ])
+
+        then:
+        1 * handler.handle({ FeatureChange change ->
+            change.getAction() == FeatureChange.Action.CREATE
+                    && change.getFeatureType() == "building"
+                    && change.getFeatureIds() == ["42"]
+        })
+        0 * handler.handle(_)
+    }
+
+    def 'Stopping the provider cancels its listener and closes the connection'() {
+        given:
+        CountDownLatch waiting = new CountDownLatch(1)
+        CountDownLatch closed = new CountDownLatch(1)
+        Connection connection = Stub(Connection) {
+            createStatement() >> Stub(Statement)
+            isValid(_) >> true
+            close() >> { closed.countDown() }
+        }
+        SqlClient sqlClient = Stub(SqlClient) {
+            getConnection() >> connection
+            awaitNotifications(_, _) >> {
+                waiting.countDown()
+                try {
+                    Thread.sleep(10)
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt()
+                }
+                []
+            }
+        }
+        FeatureChangesPgListener listener = new FeatureChangesPgListener()
+
+        when:
+        listener.subscribe("provider", Mock(FeatureChanges), [BUILDING], sqlClient, 10)
+
+        then:
+        waiting.await(5, TimeUnit.SECONDS)
+
+        when:
+        listener.on(FeatureQueriesExtension.LIFECYCLE_HOOK.STOPPED, Stub(FeatureProviderEntity) {
+            getId() >> "provider"
+            getData() >> Stub(FeatureProviderDataV2) {
+                getExtensions() >> []
+            }
+        }, null)
+
+        then:
+        closed.await(5, TimeUnit.SECONDS)
+    }
+}
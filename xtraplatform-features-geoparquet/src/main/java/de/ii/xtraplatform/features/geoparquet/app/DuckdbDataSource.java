@@ -12,18 +12,70 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.logging.Logger;
+import org.duckdb.DuckDBConnection;
 
-public class DuckdbDataSource implements javax.sql.DataSource {
+/**
+ * Provides connections to a single in-memory DuckDB database. The database is opened and
+ * initialized with the given SQL on first use, every connection is a duplicate of it, so that
+ * extensions, secrets, views, the memory limit and the object cache for Parquet metadata are
+ * shared.
+ */
+public class DuckdbDataSource implements javax.sql.DataSource, AutoCloseable {
+
+  private final Properties settings;
+  private final Optional<String> initSql;
+  private DuckDBConnection database;
+
+  public DuckdbDataSource(Map<String, String> settings, Optional<String> initSql) {
+    this.settings = new Properties();
+    this.settings.putAll(settings);
+    this.initSql = initSql;
+  }
+
+  // the database must not be closed by close() between getting and duplicating it
+  @Override
+  public synchronized Connection getConnection() throws SQLException {
+    return getDatabase().duplicate();
+  }
+
+  private DuckDBConnection getDatabase() throws SQLException {
+    if (Objects.isNull(database) || database.isClosed()) {
+      try {
+        Class.forName("org.duckdb.DuckDBDriver");
+      } catch (ClassNotFoundException e) {
+        throw new RuntimeException(e);
+      }
+
+      DuckDBConnection connection =
+          (DuckDBConnection) DriverManager.getConnection("jdbc:duckdb:", settings);
+
+      if (initSql.isPresent()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute(initSql.get());
+        } catch (SQLException e) {
+          connection.close();
+          throw e;
+        }
+      }
+
+      this.database = connection;
+    }
+
+    return database;
+  }
 
   @Override
-  public Connection getConnection() throws SQLException {
-    try {
-      Class.forName("org.duckdb.DuckDBDriver");
-    } catch (ClassNotFoundException e) {
-      throw new RuntimeException(e);
+  public synchronized void close() throws SQLException {
+    if (Objects.nonNull(database)) {
+      database.close();
+      this.database = null;
     }
-    return DriverManager.getConnection("jdbc:duckdb:");
   }
 
   @Override
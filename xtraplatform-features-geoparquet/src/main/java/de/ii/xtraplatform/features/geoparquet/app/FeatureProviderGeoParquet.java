@@ -10,6 +10,7 @@ package de.ii.xtraplatform.features.geoparquet.app;
 import dagger.assisted.Assisted;
 import dagger.assisted.AssistedInject;
 import de.ii.xtraplatform.base.domain.Encryption;
+import de.ii.xtraplatform.base.domain.LogContext;
 import de.ii.xtraplatform.base.domain.resiliency.VolatileRegistry;
 import de.ii.xtraplatform.cache.domain.Cache;
 import de.ii.xtraplatform.cql.domain.Cql;
@@ -29,9 +30,11 @@ import de.ii.xtraplatform.features.domain.FeatureProviderConnector;
 import de.ii.xtraplatform.features.domain.FeatureProviderDataV2;
 import de.ii.xtraplatform.features.domain.ProviderData;
 import de.ii.xtraplatform.features.domain.ProviderExtensionRegistry;
+import de.ii.xtraplatform.features.geoparquet.app.GeoParquetCoverings.Covering;
 import de.ii.xtraplatform.features.sql.domain.FeatureProviderSql;
 import de.ii.xtraplatform.features.sql.domain.FeatureProviderSqlData;
 import de.ii.xtraplatform.features.sql.domain.SqlDbmsAdapters;
+import de.ii.xtraplatform.features.sql.domain.SqlDialect;
 import de.ii.xtraplatform.features.sql.domain.SqlQueryBatch;
 import de.ii.xtraplatform.features.sql.domain.SqlQueryOptions;
 import de.ii.xtraplatform.features.sql.domain.SqlRow;
@@ -39,8 +42,14 @@ import de.ii.xtraplatform.services.domain.AuditLog;
 import de.ii.xtraplatform.services.domain.Scheduler;
 import de.ii.xtraplatform.streams.domain.Reactive;
 import de.ii.xtraplatform.values.domain.ValueStore;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -126,6 +135,19 @@ import org.slf4j.LoggerFactory;
  *     table.TEST: "file.parquet"
  * ```
  * </code>
+ *     <p>### Resources
+ *     <p>All connections share one DuckDB database, so that the metadata of the (Geo)Parquet files
+ *     only has to be read once. The number of threads and the memory used by the database can be
+ *     limited with the parameters `threads` and `memory_limit` in `driverOptions`, see the
+ *     [DuckDB documentation](https://duckdb.org/docs/stable/configuration/overview) for details.
+ *     <p>Example: <code>
+ * ```yaml
+ * connectionInfo:
+ *   driverOptions:
+ *     threads: "4"
+ *     memory_limit: "2GB"
+ * ```
+ * </code>
  * @cfgPropertiesAdditionalDe ### Connection Info
  *     <p>Das Connection-Info-Objekt für GeoParquet hat die folgenden Eigenschaften:
  *     <p>{@docTable:connectionInfo}
@@ -174,6 +196,20 @@ import org.slf4j.LoggerFactory;
  *     table.TEST: "file.parquet"
  * ```
  * </code>
+ *     <p>### Ressourcen
+ *     <p>Alle Verbindungen teilen sich eine DuckDB-Datenbank, so dass die Metadaten der
+ *     (Geo)Parquet-Dateien nur einmal gelesen werden müssen. Die Anzahl der Threads und der von der
+ *     Datenbank verwendete Speicher können mit den Parametern `threads` und `memory_limit` in
+ *     `driverOptions` begrenzt werden, Details sind in der
+ *     [DuckDB-Dokumentation](https://duckdb.org/docs/stable/configuration/overview) zu finden.
+ *     <p>Beispiel: <code>
+ * ```yaml
+ * connectionInfo:
+ *   driverOptions:
+ *     threads: "4"
+ *     memory_limit: "2GB"
+ * ```
+ * </code>
  * @ref:cfgProperties {@link
  *     de.ii.xtraplatform.features.geoparquet.domain.ImmutableFeatureProviderGeoParquetDataDummy}
  * @ref:connectionInfo {@link
@@ -205,6 +241,12 @@ public class FeatureProviderGeoParquet extends FeatureProviderSql {
   public static final String ENTITY_SUB_TYPE = "feature/geoparquet";
   public static final String PROVIDER_SUB_TYPE = "GEOPARQUET";
 
+  private static final String GEO_METADATA_QUERY =
+      "SELECT file_name, max(CASE WHEN decode(key) = 'geo' THEN decode(value) END) FROM"
+          + " parquet_kv_metadata('%s') GROUP BY file_name";
+
+  private final SqlDbmsAdapters dbmsAdapters;
+
   @AssistedInject
   public FeatureProviderGeoParquet(
       CrsTransformerFactory crsTransformerFactory,
@@ -239,6 +281,7 @@ public class FeatureProviderGeoParquet extends FeatureProviderSql {
         auditLog,
         data,
         Map.of());
+    this.dbmsAdapters = dbmsAdapters;
   }
 
   @Override
@@ -254,6 +297,64 @@ public class FeatureProviderGeoParquet extends FeatureProviderSql {
     return super.onStartup();
   }
 
+  @Override
+  protected SqlDialect getSqlDialect(SqlDialect sqlDialect) {
+    if (!(sqlDialect instanceof SqlDialectDuckdb)
+        || !(dbmsAdapters.get(SqlDbmsAdapterDuckdb.ID) instanceof SqlDbmsAdapterDuckdb)) {
+      return sqlDialect;
+    }
+
+    Map<String, String> tableFiles =
+        ((SqlDbmsAdapterDuckdb) dbmsAdapters.get(SqlDbmsAdapterDuckdb.ID))
+            .getTableFiles(getData().getConnectionInfo());
+    Map<String, Covering> coverings = readCoverings(tableFiles);
+
+    if (!coverings.isEmpty() && LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Using bbox coverings for spatial filters on columns {}", coverings.keySet());
+    }
+
+    return ((SqlDialectDuckdb) sqlDialect).withCoverings(coverings);
+  }
+
+  private Map<String, Covering> readCoverings(Map<String, String> tableFiles) {
+    Map<String, Map<String, Covering>> coveringsPerTable = new HashMap<>();
+    Map<String, Set<String>> geometryColumnsPerTable = new HashMap<>();
+
+    for (Map.Entry<String, String> tableFile : tableFiles.entrySet()) {
+      try {
+        Collection<SqlRow> rows =
+            getConnector()
+                .getSqlClient()
+                .run(
+                    String.format(GEO_METADATA_QUERY, tableFile.getValue().replace("'", "''")),
+                    SqlQueryOptions.tuple())
+                .join();
+        // the path may be a glob pattern, so there is a row per file
+        List<String> geoPerFile =
+            rows.stream()
+                .map(row -> (String) row.getValues().get(1))
+                .map(geo -> Objects.isNull(geo) || geo.isEmpty() ? null : geo)
+                .collect(Collectors.toList());
+
+        if (!geoPerFile.isEmpty()) {
+          coveringsPerTable.put(tableFile.getKey(), GeoParquetCoverings.parse(geoPerFile));
+          geometryColumnsPerTable.put(
+              tableFile.getKey(), GeoParquetCoverings.getGeometryColumns(geoPerFile));
+        }
+      } catch (IOException | RuntimeException e) {
+        // without complete metadata it cannot be decided whether a covering is safe to use
+        LogContext.errorAsDebug(
+            LOGGER,
+            e,
+            "Could not read GeoParquet metadata for table '{}', spatial filters are not prefiltered",
+            tableFile.getKey());
+        return Map.of();
+      }
+    }
+
+    return GeoParquetCoverings.merge(coveringsPerTable, geometryColumnsPerTable);
+  }
+
   @Override
   protected FeatureProviderConnector<SqlRow, SqlQueryBatch, SqlQueryOptions> createConnector(
       String providerSubType, String connectorId) {
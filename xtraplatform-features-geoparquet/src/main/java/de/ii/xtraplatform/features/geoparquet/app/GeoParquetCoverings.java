@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.geoparquet.app;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bounding box coverings of geometry columns as declared in the {@code geo} metadata of GeoParquet
+ * 1.1 files, see <a
+ * href="https://geoparquet.org/releases/v1.1.0/">https://geoparquet.org/releases/v1.1.0/</a>. The
+ * covering columns have min/max statistics per row group, so comparisons on them allow DuckDB to
+ * skip row groups.
+ */
+final class GeoParquetCoverings {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private GeoParquetCoverings() {}
+
+  /** Paths to the fields of a covering column, e.g. {@code ["bbox", "xmin"]}. */
+  record Covering(List<String> xmin, List<String> ymin, List<String> xmax, List<String> ymax) {
+
+    String xmin(String alias) {
+      return toSql(alias, xmin);
+    }
+
+    String ymin(String alias) {
+      return toSql(alias, ymin);
+    }
+
+    String xmax(String alias) {
+      return toSql(alias, xmax);
+    }
+
+    String ymax(String alias) {
+      return toSql(alias, ymax);
+    }
+
+    private static String toSql(String alias, List<String> path) {
+      return alias
+          + path.stream()
+              .map(segment -> String.format("\"%s\"", segment.replace("\"", "\"\"")))
+              .collect(Collectors.joining("."));
+    }
+  }
+
+  /**
+   * @param geo the value of the {@code geo} key in the Parquet file metadata
+   * @return the coverings per geometry column
+   */
+  static Map<String, Covering> parse(String geo) throws IOException {
+    Map<String, Covering> coverings = new HashMap<>();
+    JsonNode columns = MAPPER.readTree(geo).path("columns");
+
+    for (Iterator<Entry<String, JsonNode>> it = columns.fields(); it.hasNext(); ) {
+      Entry<String, JsonNode> column = it.next();
+      JsonNode bbox = column.getValue().path("covering").path("bbox");
+
+      parsePath(bbox.path("xmin"))
+          .flatMap(
+              xmin ->
+                  parsePath(bbox.path("ymin"))
+                      .flatMap(
+                          ymin ->
+                              parsePath(bbox.path("xmax"))
+                                  .flatMap(
+                                      xmax ->
+                                          parsePath(bbox.path("ymax"))
+                                              .map(ymax -> new Covering(xmin, ymin, xmax, ymax)))))
+          .ifPresent(covering -> coverings.put(column.getKey(), covering));
+    }
+
+    return coverings;
+  }
+
+  /**
+   * A table may be read from multiple files, e.g. with a glob pattern. A covering is only used if
+   * every file of the table declares it, a file without {@code geo} metadata has no coverings.
+   *
+   * @param geoPerFile the values of the {@code geo} key of all files of a table, {@code null} for
+   *     a file without
+   * @return the coverings that all files agree on per geometry column
+   */
+  static Map<String, Covering> parse(Collection<String> geoPerFile) throws IOException {
+    Map<String, Covering> agreed = null;
+
+    for (String geo : geoPerFile) {
+      Map<String, Covering> coverings = Objects.isNull(geo) ? Map.of() : parse(geo);
+
+      if (Objects.isNull(agreed)) {
+        agreed = new HashMap<>(coverings);
+      } else {
+        agreed
+            .entrySet()
+            .removeIf(covering -> !covering.getValue().equals(coverings.get(covering.getKey())));
+      }
+    }
+
+    return Objects.isNull(agreed) ? Map.of() : agreed;
+  }
+
+  private static Optional<List<String>> parsePath(JsonNode path) {
+    if (!path.isArray() || path.isEmpty()) {
+      return Optional.empty();
+    }
+    List<String> segments = new ArrayList<>();
+    path.forEach(segment -> segments.add(segment.asText()));
+
+    return Optional.of(segments);
+  }
+
+  /**
+   * The filter encoder only knows the column name, not the table. So a covering is only used if
+   * every table with a geometry column of that name declares the same covering.
+   *
+   * @param coveringsPerTable the coverings of all tables
+   * @param geometryColumnsPerTable the names of all geometry columns per table
+   */
+  static Map<String, Covering> merge(
+      Map<String, Map<String, Covering>> coveringsPerTable,
+      Map<String, Set<String>> geometryColumnsPerTable) {
+    Map<String, Covering> merged = new HashMap<>();
+    Set<String> conflicts = new HashSet<>();
+
+    geometryColumnsPerTable.forEach(
+        (table, columns) -> {
+          Map<String, Covering> coverings = coveringsPerTable.getOrDefault(table, Map.of());
+
+          for (String column : columns) {
+            Covering covering = coverings.get(column);
+
+            if (Objects.isNull(covering)
+                || (merged.containsKey(column) && !Objects.equals(merged.get(column), covering))) {
+              conflicts.add(column);
+            } else {
+              merged.put(column, covering);
+            }
+          }
+        });
+
+    conflicts.forEach(merged::remove);
+
+    return merged;
+  }
+
+  static Set<String> getGeometryColumns(String geo) throws IOException {
+    Set<String> columns = new HashSet<>();
+    MAPPER.readTree(geo).path("columns").fieldNames().forEachRemaining(columns::add);
+
+    return columns;
+  }
+
+  /**
+   * @param geoPerFile the values of the {@code geo} key of all files of a table, {@code null} for
+   *     a file without
+   * @return the geometry columns of any of the files
+   */
+  static Set<String> getGeometryColumns(Collection<String> geoPerFile) throws IOException {
+    Set<String> columns = new HashSet<>();
+
+    for (String geo : geoPerFile) {
+      if (Objects.nonNull(geo)) {
+        columns.addAll(getGeometryColumns(geo));
+      }
+    }
+
+    return columns;
+  }
+}
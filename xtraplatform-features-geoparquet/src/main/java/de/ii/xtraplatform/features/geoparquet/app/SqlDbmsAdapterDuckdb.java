@@ -22,6 +22,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.Collator;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +53,8 @@ public class SqlDbmsAdapterDuckdb implements SqlDbmsAdapter {
   private static final String DRIVER_OPT_ACCOUNT_ID = "account_id";
   private static final String DRIVER_OPT_KMS_KEY_ID = "kms_key_id";
   private static final String DRIVER_OPT_REQUESTER_PAYS = "requester_pays";
+  private static final String DRIVER_OPT_THREADS = "threads";
+  private static final String DRIVER_OPT_MEMORY_LIMIT = "memory_limit";
 
   private final ResourceStore featuresStore;
   private final String applicationName;
@@ -77,11 +80,35 @@ public class SqlDbmsAdapterDuckdb implements SqlDbmsAdapter {
 
   @Override
   public DataSource createDataSource(String providerId, ConnectionInfoSql connectionInfo) {
-    return new DuckdbDataSource();
+    Map<String, String> settings = new LinkedHashMap<>();
+    Map<String, String> driverOptions = connectionInfo.getDriverOptions();
+
+    // Parquet metadata is cached once for all connections, see DuckdbDataSource
+    settings.put("enable_object_cache", "true");
+
+    if (driverOptions.containsKey(DRIVER_OPT_THREADS)) {
+      settings.put(DRIVER_OPT_THREADS, driverOptions.get(DRIVER_OPT_THREADS));
+    }
+    if (driverOptions.containsKey(DRIVER_OPT_MEMORY_LIMIT)) {
+      settings.put(DRIVER_OPT_MEMORY_LIMIT, driverOptions.get(DRIVER_OPT_MEMORY_LIMIT));
+    }
+
+    return new DuckdbDataSource(settings, createInitSql(connectionInfo));
   }
 
   private static void addViews(
       StringBuilder queryBuilder, String prefix, Map<String, String> tableFileMapping) {
+    getTableFiles(prefix, tableFileMapping)
+        .forEach(
+            (table, file) ->
+                queryBuilder.append(
+                    String.format("CREATE VIEW '%s' AS SELECT * FROM '%s';", table, file)));
+  }
+
+  private static Map<String, String> getTableFiles(
+      String prefix, Map<String, String> tableFileMapping) {
+    Map<String, String> tableFiles = new LinkedHashMap<>();
+
     // Add '/' to prefix (bucket or path)
     if (!prefix.isEmpty() && !prefix.endsWith("/")) {
       prefix += "/";
@@ -89,17 +116,27 @@ public class SqlDbmsAdapterDuckdb implements SqlDbmsAdapter {
 
     for (var tableName : tableFileMapping.keySet()) {
       if (tableName.startsWith(TABLE_PREFIX)) {
-        queryBuilder.append(
-            String.format(
-                "CREATE VIEW '%s' AS SELECT * FROM '%s';",
-                tableName.substring(TABLE_PREFIX.length()),
-                prefix + tableFileMapping.get(tableName)));
+        tableFiles.put(
+            tableName.substring(TABLE_PREFIX.length()), prefix + tableFileMapping.get(tableName));
       }
     }
+
+    return tableFiles;
   }
 
-  private Optional<String> handleLocalFiles(
-      StringBuilder queryBuilder, ConnectionInfoSql connectionInfo) {
+  /**
+   * @return the (Geo)Parquet files per table as they are used in the views, may contain wildcards
+   */
+  Map<String, String> getTableFiles(ConnectionInfoSql connectionInfo) {
+    String prefix =
+        connectionInfo.getHost().isPresent()
+            ? connectionInfo.getHost().get()
+            : getDataDirectory(connectionInfo).toString();
+
+    return getTableFiles(prefix, connectionInfo.getDriverOptions());
+  }
+
+  private Path getDataDirectory(ConnectionInfoSql connectionInfo) {
     // Find absolute Path to resources/features, inspired from SqlDbmsAdapterGpkg.java
     Optional<Path> featuresPath = Optional.empty();
     try {
@@ -120,10 +157,16 @@ public class SqlDbmsAdapterDuckdb implements SqlDbmsAdapter {
       throw new IllegalStateException("Is not a directory: " + dataDirectory);
     }
 
-    // Set the absolute path to the data directory as the search path
-    queryBuilder.append(String.format("SET file_search_path = '%s';", dataDirectory));
+    return dataDirectory;
+  }
+
+  private Optional<String> handleLocalFiles(
+      StringBuilder queryBuilder, ConnectionInfoSql connectionInfo) {
+    final Path dataDirectory = getDataDirectory(connectionInfo);
 
-    addViews(queryBuilder, "", connectionInfo.getDriverOptions());
+    // The views are shared by all connections, so they are created with absolute paths instead of
+    // relying on the session-local file_search_path
+    addViews(queryBuilder, dataDirectory.toString(), connectionInfo.getDriverOptions());
 
     return Optional.of(queryBuilder.toString());
   }
@@ -224,14 +267,19 @@ public class SqlDbmsAdapterDuckdb implements SqlDbmsAdapter {
     }
     queryBuilder.append(");");
 
-    // Host (bucket) is present because it was checked in getInitSql)
+    // Host (bucket) is present because it was checked in createInitSql)
     addViews(queryBuilder, connectionInfo.getHost().get(), driverOptions);
 
     return Optional.of(queryBuilder.toString());
   }
 
+  // the init SQL is executed once per database by DuckdbDataSource, not per pooled connection
   @Override
   public Optional<String> getInitSql(ConnectionInfoSql connectionInfo) {
+    return Optional.empty();
+  }
+
+  private Optional<String> createInitSql(ConnectionInfoSql connectionInfo) {
     StringBuilder queryBuilder = new StringBuilder(512);
 
     // Install and load the spatial extension of DuckDB to access spatial functions
@@ -8,8 +8,10 @@
 package de.ii.xtraplatform.features.geoparquet.app;
 
 import com.google.common.base.Splitter;
+import de.ii.xtraplatform.cql.domain.SpatialFunction;
 import de.ii.xtraplatform.crs.domain.BoundingBox;
 import de.ii.xtraplatform.crs.domain.EpsgCrs;
+import de.ii.xtraplatform.features.geoparquet.app.GeoParquetCoverings.Covering;
 import de.ii.xtraplatform.features.sql.domain.SchemaSql.PropertyTypeInfo;
 import de.ii.xtraplatform.features.sql.domain.SqlDialect;
 import java.time.Instant;
@@ -17,6 +19,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import org.threeten.extra.Interval;
@@ -28,6 +31,24 @@ public class SqlDialectDuckdb implements SqlDialect {
   private static final Splitter BBOX_SPLITTER =
       Splitter.onPattern("[(), ]").omitEmptyStrings().trimResults();
 
+  private final Map<String, Covering> coverings;
+
+  public SqlDialectDuckdb() {
+    this(Map.of());
+  }
+
+  /**
+   * @param coverings the bbox coverings per geometry column that are used to prefilter spatial
+   *     operations
+   */
+  SqlDialectDuckdb(Map<String, Covering> coverings) {
+    this.coverings = coverings;
+  }
+
+  SqlDialectDuckdb withCoverings(Map<String, Covering> coverings) {
+    return new SqlDialectDuckdb(coverings);
+  }
+
   @Override
   public String getId() {
     return SqlDbmsAdapterDuckdb.ID;
@@ -65,6 +86,37 @@ public class SqlDialectDuckdb implements SqlDialect {
     return String.format("ST_AsWKB(%s)", column);
   }
 
+  /**
+   * Compares the bbox covering of the column with the envelope of the literal. DuckDB folds the
+   * envelope to constants, so the comparisons can be checked against the row group statistics of
+   * the covering and row groups that cannot match are not read at all.
+   */
+  @Override
+  public Optional<String> getSpatialPrefilter(
+      SpatialFunction spatialFunction, String column, String literal) {
+    if (spatialFunction == SpatialFunction.S_DISJOINT) {
+      return Optional.empty();
+    }
+
+    int separator = column.lastIndexOf('.');
+    String alias = column.substring(0, separator + 1);
+    Covering covering = coverings.get(column.substring(separator + 1));
+
+    if (Objects.isNull(covering)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(
+        String.format(
+            "%1$s <= ST_XMax(%5$s) AND %2$s <= ST_YMax(%5$s)"
+                + " AND %3$s >= ST_XMin(%5$s) AND %4$s >= ST_YMin(%5$s)",
+            covering.xmin(alias),
+            covering.ymin(alias),
+            covering.xmax(alias),
+            covering.ymax(alias),
+            literal));
+  }
+
   @Override
   public String applyToExtent(String column, boolean is3d) {
     if (is3d)
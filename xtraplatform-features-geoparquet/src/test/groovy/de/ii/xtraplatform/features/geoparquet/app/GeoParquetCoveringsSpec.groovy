@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.geoparquet.app
+
+import de.ii.xtraplatform.features.geoparquet.app.GeoParquetCoverings.Covering
+import groovy.json.JsonOutput
+import spock.lang.Specification
+
+class GeoParquetCoveringsSpec extends Specification {
+
+    static final Covering BBOX = new Covering(["bbox", "xmin"], ["bbox", "ymin"], ["bbox", "xmax"], ["bbox", "ymax"])
+    static final Covering FLAT = new Covering(["minx"], ["miny"], ["maxx"], ["maxy"])
+
+    static String geo(Map<String, Map> columns) {
+        return JsonOutput.toJson([version: "1.1.0", primary_column: "geometry", columns: columns])
+    }
+
+    static Map column(Map covering = null) {
+        return covering == null ? [encoding: "WKB"] : [encoding: "WKB", covering: [bbox: covering]]
+    }
+
+    static Map bbox(String column) {
+        return [xmin: [column, "xmin"], ymin: [column, "ymin"], xmax: [column, "xmax"], ymax: [column, "ymax"]]
+    }
+
+    static final Map FLAT_BBOX = [xmin: ["minx"], ymin: ["miny"], xmax: ["maxx"], ymax: ["maxy"]]
+
+    def 'The bbox covering of every geometry column is parsed'() {
+        when:
+        Map<String, Covering> coverings = GeoParquetCoverings.parse(geo([
+                geometry: column(bbox("bbox")),
+                centroid: column(FLAT_BBOX),
+                outline : column()
+        ]))
+
+        then:
+        coverings == [geometry: BBOX, centroid: FLAT]
+        GeoParquetCoverings.getGeometryColumns(geo([geometry: column(), outline: column()])) == ["geometry", "outline"] as Set
+    }
+
+    def 'Incomplete coverings are ignored - #reason'() {
+        expect:
+        GeoParquetCoverings.parse(geo([geometry: column(covering)])).isEmpty()
+
+        where:
+        reason          | covering
+        'missing ymax'  | [xmin: ["bbox", "xmin"], ymin: ["bbox", "ymin"], xmax: ["bbox", "xmax"]]
+        'an empty path' | bbox("bbox") + [ymin: []]
+        'not a path'    | bbox("bbox") + [xmax: "bbox.xmax"]
+    }
+
+    def 'The covering columns are quoted'() {
+        given:
+        Covering covering = new Covering(["bbox", "xmin"], ["b\"box", "ymin"], ["xmax"], ["ymax"])
+
+        expect:
+        covering.xmin("t.") == 't."bbox"."xmin"'
+        covering.ymin("") == '"b""box"."ymin"'
+        covering.xmax("t.") == 't."xmax"'
+    }
+
+    def 'The coverings of a table are the coverings that all files agree on'() {
+        given:
+        List<String> geoPerFile = [
+                geo([geometry: column(bbox("bbox")), centroid: column(FLAT_BBOX), outline: column(FLAT_BBOX)]),
+                geo([geometry: column(bbox("bbox")), centroid: column(bbox("c")), outline: column()]),
+                geo([geometry: column(bbox("bbox")), centroid: column(bbox("c")), outline: column(FLAT_BBOX), extra: column()])
+        ]
+
+        expect:
+        GeoParquetCoverings.parse(geoPerFile) == [geometry: BBOX]
+        GeoParquetCoverings.getGeometryColumns(geoPerFile) == ["geometry", "centroid", "outline", "extra"] as Set
+    }
+
+    def 'A table with a file without geo metadata has no coverings'() {
+        given:
+        List<String> geoPerFile = [geo([geometry: column(bbox("bbox"))]), null]
+
+        expect:
+        GeoParquetCoverings.parse(geoPerFile).isEmpty()
+        GeoParquetCoverings.getGeometryColumns(geoPerFile) == ["geometry"] as Set
+    }
+
+    def 'A covering is only used if every table with the column declares the same covering - #reason'() {
+        expect:
+        GeoParquetCoverings.merge(coveringsPerTable, geometryColumnsPerTable) == merged
+
+        where:
+        reason                 | coveringsPerTable                                     | geometryColumnsPerTable                                 || merged
+        'the same covering'    | [a: [geometry: BBOX], b: [geometry: BBOX]]            | [a: ["geometry"] as Set, b: ["geometry"] as Set]        || [geometry: BBOX]
+        'different coverings'  | [a: [geometry: BBOX], b: [geometry: FLAT]]            | [a: ["geometry"] as Set, b: ["geometry"] as Set]        || [:]
+        'a missing covering'   | [a: [geometry: BBOX], b: [:]]                         | [a: ["geometry"] as Set, b: ["geometry"] as Set]        || [:]
+        'missing metadata'     | [a: [geometry: BBOX]]                                 | [a: ["geometry"] as Set, b: ["geometry"] as Set]        || [:]
+        'other columns'        | [a: [geometry: BBOX], b: [outline: FLAT]]             | [a: ["geometry"] as Set, b: ["outline"] as Set]         || [geometry: BBOX, outline: FLAT]
+        'a covering per table' | [a: [geometry: BBOX, outline: FLAT], b: [outline: FLAT]] | [a: ["geometry", "outline"] as Set, b: ["outline", "geometry"] as Set] || [outline: FLAT]
+    }
+}
@@ -33,6 +33,7 @@ import de.ii.xtraplatform.geometries.domain.PositionList;
 import de.ii.xtraplatform.geometries.domain.SingleCurve;
 import de.ii.xtraplatform.geometries.domain.Surface;
 import de.ii.xtraplatform.geometries.domain.transcode.AbstractGeometryDecoder;
+import de.ii.xtraplatform.geometries.domain.transcode.CoordinatesParser;
 import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -129,6 +130,7 @@ public class GeometryDecoderGml extends AbstractGeometryDecoder {
   }
 
   private final Deque<Frame> stack = new ArrayDeque<>();
+  private final CoordinatesParser coordinatesParser = new CoordinatesParser();
   private final Map<String, EpsgCrs> srsNameMappings;
   private final Set<String> verticalSrsNames;
   private boolean waitingForInput = false;
@@ -597,7 +599,8 @@ public class GeometryDecoderGml extends AbstractGeometryDecoder {
           waitingForInput = true;
           return false;
         case XMLStreamConstants.CHARACTERS:
-          coordFrame.textBuffer.append(parser.getText());
+          coordFrame.textBuffer.append(
+              parser.getTextCharacters(), parser.getTextStart(), parser.getTextLength());
           break;
         case XMLStreamConstants.END_ELEMENT:
           if (coordFrame.elementName.equals(parser.getLocalName())) {
@@ -622,9 +625,8 @@ public class GeometryDecoderGml extends AbstractGeometryDecoder {
     return false;
   }
 
-  private static void finalizeCoordinates(Frame coordFrame) {
-    String text = coordFrame.textBuffer.toString().trim();
-    coordFrame.coords = text.isEmpty() ? new double[0] : parseDoubles(text);
+  private void finalizeCoordinates(Frame coordFrame) {
+    coordFrame.coords = coordinatesParser.reset().parse(coordFrame.textBuffer).toArray();
   }
 
   private void applyCoordinates(Frame coordFrame) {
@@ -1045,13 +1047,4 @@ public class GeometryDecoderGml extends AbstractGeometryDecoder {
   private Geometry<?> buildMultiGeometry(Frame f) {
     return GeometryCollection.of(ImmutableList.copyOf(f.children), f.crs);
   }
-
-  private static double[] parseDoubles(String text) {
-    String[] parts = text.trim().split("[ \n\r\t,]+");
-    double[] coords = new double[parts.length];
-    for (int i = 0; i < parts.length; i++) {
-      coords[i] = Double.parseDouble(parts[i]);
-    }
-    return coords;
-  }
 }
@@ -27,9 +27,8 @@ import de.ii.xtraplatform.geometries.domain.Point;
 import de.ii.xtraplatform.geometries.domain.Polygon;
 import de.ii.xtraplatform.geometries.domain.PolyhedralSurface;
 import de.ii.xtraplatform.geometries.domain.SingleCurve;
+import de.ii.xtraplatform.geometries.domain.transcode.DoubleToChars;
 import de.ii.xtraplatform.geometries.domain.transform.GeometryVisitor;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -135,6 +134,7 @@ public class GeometryEncoderGml implements GeometryVisitor<Void> {
   private final Optional<GeometryEncoderGml> encodeAsEmbeddedGeometry;
   private final GmlVersion version;
   private final Function<EpsgCrs, String> srsNameMapper;
+  private final DoubleToChars doubleToChars = new DoubleToChars();
   private int nextGmlId = 0;
   private String srsName;
 
@@ -257,17 +257,10 @@ public class GeometryEncoderGml implements GeometryVisitor<Void> {
     }
   }
 
-  private void write(double d) {
+  private void write(double d, int scale) {
     try {
-      xmlWriter.writeCharacters(Double.toString(d));
-    } catch (XMLStreamException e) {
-      throw new IllegalStateException(e);
-    }
-  }
-
-  private void write(BigDecimal d) {
-    try {
-      xmlWriter.writeCharacters(d.toString());
+      int length = doubleToChars.write(d, scale);
+      xmlWriter.writeCharacters(doubleToChars.getChars(), 0, length);
     } catch (XMLStreamException e) {
       throw new IllegalStateException(e);
     }
@@ -341,13 +334,9 @@ public class GeometryEncoderGml implements GeometryVisitor<Void> {
             write(SPACE);
           }
         }
-        if (precision != null && j < precision.length && precision[j] > 0) {
-          write(
-              BigDecimal.valueOf(coordinates[i * dimensionWithoutM + j])
-                  .setScale(precision[j], RoundingMode.HALF_UP));
-        } else {
-          write(coordinates[i * dimensionWithoutM + j]);
-        }
+        write(
+            coordinates[i * dimensionWithoutM + j],
+            precision != null && j < precision.length ? precision[j] : 0);
       }
     }
   }
@@ -75,9 +75,20 @@ public interface FeatureDataSql {
     }
   }
 
-  default void addColumn(SqlQuerySchema table, SqlQueryColumn column, String value) {
+  default void addColumn(
+      SqlQuerySchema table, SqlQueryColumn column, String value, String copyValue) {
     if (isCurrent(table)) {
-      getCurrentRow(table).putValues(column.getName(), value);
+      ModifiableSqlRowData currentRow = getCurrentRow(table);
+      currentRow.putValues(column.getName(), value);
+      if (Objects.nonNull(copyValue)) {
+        currentRow.putCopyValues(column.getName(), copyValue);
+      }
+    }
+  }
+
+  default void addClockwiseColumn(SqlQuerySchema table, SqlQueryColumn column) {
+    if (isCurrent(table)) {
+      getCurrentRow(table).addClockwiseColumns(column.getName());
     }
   }
 
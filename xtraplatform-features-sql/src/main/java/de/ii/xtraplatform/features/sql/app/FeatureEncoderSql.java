@@ -288,9 +288,22 @@ public class FeatureEncoderSql
         .ifPresentOrElse(
             column -> {
               EpsgCrs storageCrs = storageCrs(column.second());
-              String value = toWkt(geometry, transformerFor(geometry, storageCrs), storageCrs);
+              String wkt = toWkt(geometry, transformerFor(geometry, storageCrs));
+              boolean forceClockwise =
+                  geometry.getType() == GeometryType.POLYGON
+                      || geometry.getType() == GeometryType.MULTI_POLYGON;
+
+              // TODO: functions from Dialect
+              String value = String.format("ST_GeomFromText('%s',%s)", wkt, storageCrs.getCode());
+              if (forceClockwise) {
+                value = String.format("ST_ForcePolygonCW(%s)", value);
+              }
+              String copyValue = String.format("SRID=%s;%s", storageCrs.getCode(), wkt);
 
-              currentFeature.addColumn(column.first(), column.second(), value);
+              currentFeature.addColumn(column.first(), column.second(), value, copyValue);
+              if (forceClockwise) {
+                currentFeature.addClockwiseColumn(column.first(), column.second());
+              }
 
               if (trace) {
                 LOGGER.trace("onGeometry: {} {}", context.pathAsString(), value);
@@ -367,17 +380,24 @@ public class FeatureEncoderSql
               // downstream row renderer emits SQL NULL. See SqlLiterals. Values for encrypted
               // columns are normalized and encrypted; the patch null sentinel must stay
               // recognizable for FeatureDataSql.patchWith and is quoted like a string.
+              // The COPY text of the value is kept next to the literal for bulk inserts, see
+              // SqlCopyInserts.
+              String copyValue = null;
               if (Objects.nonNull(value)) {
                 if (encrypted) {
-                  value =
-                      isPatch && value.equals(nullValue.get())
-                          ? SqlLiterals.string(value)
-                          : SqlLiterals.encrypted(
-                              encryption.orElseThrow(FeatureEncoderSql::encryptionNotEnabled),
-                              logicalType,
-                              value,
-                              column.second().getName());
+                  if (isPatch && value.equals(nullValue.get())) {
+                    value = SqlLiterals.string(value);
+                  } else {
+                    copyValue =
+                        SqlLiterals.encryptedText(
+                            encryption.orElseThrow(FeatureEncoderSql::encryptionNotEnabled),
+                            logicalType,
+                            value,
+                            column.second().getName());
+                    value = SqlLiterals.string(copyValue);
+                  }
                 } else {
+                  copyValue = SqlLiterals.copyText(columnType, value);
                   value = SqlLiterals.forType(columnType, value);
                 }
               }
@@ -388,7 +408,7 @@ public class FeatureEncoderSql
               if (junctionElement) {
                 currentFeature.addRow(column.first());
               }
-              currentFeature.addColumn(column.first(), column.second(), value);
+              currentFeature.addColumn(column.first(), column.second(), value, copyValue);
               if (junctionElement) {
                 currentFeature.closeRow(column.first());
               }
@@ -459,8 +479,7 @@ public class FeatureEncoderSql
     return value;
   }
 
-  private static String toWkt(
-      Geometry<?> geometry, Optional<CrsTransformer> crsTransformer, EpsgCrs storageCrs) {
+  private static String toWkt(Geometry<?> geometry, Optional<CrsTransformer> crsTransformer) {
 
     if (crsTransformer.isPresent()) {
       geometry =
@@ -469,21 +488,10 @@ public class FeatureEncoderSql
                   ImmutableCrsTransform.of(Optional.empty(), crsTransformer.get())));
     }
 
-    String wkt;
     try {
-      wkt = new GeometryEncoderWkt().encode(geometry);
+      return new GeometryEncoderWkt().encode(geometry);
     } catch (IOException e) {
       throw new IllegalStateException(e);
     }
-
-    // TODO: functions from Dialect
-    String result = String.format("ST_GeomFromText('%s',%s)", wkt, storageCrs.getCode());
-
-    if (geometry.getType() == GeometryType.POLYGON
-        || geometry.getType() == GeometryType.MULTI_POLYGON) {
-      result = String.format("ST_ForcePolygonCW(%s)", result);
-    }
-
-    return result;
   }
 }
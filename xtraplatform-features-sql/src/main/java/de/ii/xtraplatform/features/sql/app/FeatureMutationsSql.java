@@ -127,6 +127,14 @@ public class FeatureMutationsSql {
     .collect(Collectors.toList());*/
   }
 
+  // the row of the first statement of createInstanceInserts for a bulk insert with COPY
+  Optional<SqlCopyInserts.Row> createInstanceCopyRow(
+      FeatureDataSql feature, RowCursor rowCursor, Optional<String> id) {
+    SqlQuerySchema mainTable = feature.getMapping().getMainTable();
+
+    return generator.createCopyRow(feature, mainTable, rowCursor.get(mainTable.getFullPath()), id);
+  }
+
   // TODO: to InsertGenerator
   Supplier<Tuple<String, Consumer<String>>> createInstanceDelete(
       SqlQueryMapping mapping, String id) {
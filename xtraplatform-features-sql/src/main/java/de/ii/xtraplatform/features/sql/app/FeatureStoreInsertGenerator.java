@@ -23,6 +23,18 @@ public interface FeatureStoreInsertGenerator {
       Optional<String> id,
       EpsgCrs crs);
 
+  /**
+   * The row of {@link #createInsert} with the values in the text format of {@code COPY}, empty if
+   * any of the values is an SQL expression.
+   */
+  default Optional<SqlCopyInserts.Row> createCopyRow(
+      FeatureDataSql feature,
+      SqlQuerySchema schema,
+      List<Integer> parentRows,
+      Optional<String> id) {
+    return Optional.empty();
+  }
+
   Supplier<Tuple<String, Consumer<String>>> createJunctionInsert(
       FeatureDataSql feature, SqlQuerySchema schema, List<Integer> parentRows);
 
@@ -46,6 +46,7 @@ import de.ii.xtraplatform.cql.domain.Operand;
 import de.ii.xtraplatform.cql.domain.Property;
 import de.ii.xtraplatform.cql.domain.Scalar;
 import de.ii.xtraplatform.cql.domain.ScalarLiteral;
+import de.ii.xtraplatform.cql.domain.SpatialLiteral;
 import de.ii.xtraplatform.cql.domain.SpatialOperation;
 import de.ii.xtraplatform.cql.domain.Temporal;
 import de.ii.xtraplatform.cql.domain.TemporalLiteral;
@@ -230,6 +231,19 @@ public class FilterEncoderSql {
     return Optional.of(result);
   }
 
+  private Optional<String> getSpatialPrefilter(
+      BinarySpatialOperation spatialOperation, List<String> children, List<String> expressions) {
+    if (spatialOperation.getArgs().get(0) instanceof Property
+        && spatialOperation.getArgs().get(1) instanceof SpatialLiteral
+        && operandHasSelectForTemplate(children.get(0))) {
+      return sqlDialect.getSpatialPrefilter(
+          spatialOperation.getSpatialOperator(),
+          reduceSelectToColumnForTemplate(children.get(0)),
+          expressions.get(1));
+    }
+    return Optional.empty();
+  }
+
   private Optional<String> resolveExpression(CustomFunction customFunction) {
     if (Objects.nonNull(customFunction.getExpression())
         && !customFunction.getExpression().isBlank()) {
@@ -1260,13 +1274,21 @@ public class FilterEncoderSql {
 
       List<String> expressions = processBinary(spatialOperation.getArgs(), children);
 
-      return String.format(
-          expressions.get(0),
-          String.format("%s(", operator.first()),
+      String start = String.format("%s(", operator.first());
+      String end =
           operator
               .second()
               .map(mask -> String.format(", %s, 'mask=%s')%s", expressions.get(1), mask, match))
-              .orElse(String.format(", %s)%s", expressions.get(1), match)));
+              .orElse(String.format(", %s)%s", expressions.get(1), match));
+
+      Optional<String> prefilter = getSpatialPrefilter(spatialOperation, children, expressions);
+
+      if (prefilter.isPresent()) {
+        start = String.format("(%s AND %s", prefilter.get(), start);
+        end = end + ")";
+      }
+
+      return String.format(expressions.get(0), start, end);
     }
 
     @Override
@@ -2393,13 +2415,21 @@ public class FilterEncoderSql {
 
       List<String> expressions = processBinary(spatialOperation.getArgs(), children);
 
-      return String.format(
-          expressions.get(0),
-          String.format("%s(", operator.first()),
+      String start = String.format("%s(", operator.first());
+      String end =
           operator
               .second()
               .map(mask -> String.format(", %s, 'mask=%s')%s", expressions.get(1), mask, match))
-              .orElse(String.format(", %s)%s", expressions.get(1), match)));
+              .orElse(String.format(", %s)%s", expressions.get(1), match));
+
+      Optional<String> prefilter = getSpatialPrefilter(spatialOperation, children, expressions);
+
+      if (prefilter.isPresent()) {
+        start = String.format("(%s AND %s", prefilter.get(), start);
+        end = end + ")";
+      }
+
+      return String.format(expressions.get(0), start, end);
     }
 
     @Override
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app;
+
+import de.ii.xtraplatform.crs.domain.BoundingBox;
+import de.ii.xtraplatform.features.domain.FeatureChange;
+import de.ii.xtraplatform.features.domain.FeatureChange.Action;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.threeten.extra.Interval;
+
+/**
+ * Derives updated feature counts and extents from a {@link FeatureChange} without querying the
+ * dataset. Extents only grow, a removed feature that touches the boundary of an extent requires a
+ * recomputation to shrink it again.
+ *
+ * <p>Notifications of deleted features may carry the removed bbox or interval as the new value,
+ * so for {@link Action#DELETE} the new value is used if there is no old value.
+ */
+public final class IncrementalStats {
+
+  private IncrementalStats() {}
+
+  public record Update<T>(Optional<T> value, boolean recompute) {}
+
+  /**
+   * @return the updated count or empty if it cannot be derived from the change
+   */
+  public static OptionalLong updateCount(long count, FeatureChange change) {
+    if (count < 0) {
+      return OptionalLong.empty();
+    }
+
+    switch (change.getAction()) {
+      case UPDATE:
+        return OptionalLong.of(count);
+      case CREATE:
+        return change.getFeatureIds().isEmpty()
+            ? OptionalLong.empty()
+            : OptionalLong.of(count + change.getFeatureIds().size());
+      case DELETE:
+        return change.getFeatureIds().isEmpty()
+            ? OptionalLong.empty()
+            : OptionalLong.of(Math.max(0, count - change.getFeatureIds().size()));
+      default:
+        return OptionalLong.empty();
+    }
+  }
+
+  /**
+   * @param extent the current extent, empty if there are no features with a geometry
+   * @param added the bbox of created or updated features in the CRS of the extent
+   * @param removed the bbox of deleted or replaced features in the CRS of the extent
+   */
+  public static Update<BoundingBox> updateSpatialExtent(
+      Optional<BoundingBox> extent, Optional<BoundingBox> added, Optional<BoundingBox> removed) {
+    boolean recompute =
+        extent.isPresent() && removed.isPresent() && touchesBoundary(extent.get(), removed.get());
+
+    if (added.isEmpty()) {
+      return new Update<>(extent, recompute);
+    }
+    if (extent.isEmpty()) {
+      return new Update<>(added, recompute);
+    }
+    if (!Objects.equals(extent.get().getEpsgCrs(), added.get().getEpsgCrs())) {
+      return new Update<>(extent, true);
+    }
+
+    return new Update<>(Optional.of(merge(extent.get(), added.get())), recompute);
+  }
+
+  // notifications only carry 2d bboxes, the vertical range of a 3d extent is kept as is
+  private static BoundingBox merge(BoundingBox extent, BoundingBox added) {
+    if (extent.is3d() && !added.is3d()) {
+      return BoundingBox.of(
+          Math.min(extent.getXmin(), added.getXmin()),
+          Math.min(extent.getYmin(), added.getYmin()),
+          extent.getZmin(),
+          Math.max(extent.getXmax(), added.getXmax()),
+          Math.max(extent.getYmax(), added.getYmax()),
+          extent.getZmax(),
+          extent.getEpsgCrs());
+    }
+    return BoundingBox.merge(extent, added);
+  }
+
+  /**
+   * @param extent the current extent, empty if there are no features with a temporal value
+   * @param added the interval of created or updated features
+   * @param removed the interval of deleted or replaced features
+   */
+  public static Update<Interval> updateTemporalExtent(
+      Optional<Interval> extent, Optional<Interval> added, Optional<Interval> removed) {
+    boolean recompute =
+        extent.isPresent() && removed.isPresent() && touchesBoundary(extent.get(), removed.get());
+
+    if (added.isEmpty()) {
+      return new Update<>(extent, recompute);
+    }
+    if (extent.isEmpty()) {
+      return new Update<>(added, recompute);
+    }
+
+    return new Update<>(Optional.of(extent.get().span(added.get())), recompute);
+  }
+
+  public static <T> Optional<T> added(FeatureChange change, Optional<T> newValue) {
+    return change.getAction() == Action.CREATE || change.getAction() == Action.UPDATE
+        ? newValue
+        : Optional.empty();
+  }
+
+  public static <T> Optional<T> removed(
+      FeatureChange change, Optional<T> oldValue, Optional<T> newValue) {
+    if (change.getAction() == Action.DELETE) {
+      return oldValue.or(() -> newValue);
+    }
+    return change.getAction() == Action.UPDATE ? oldValue : Optional.empty();
+  }
+
+  static boolean touchesBoundary(BoundingBox extent, BoundingBox removed) {
+    if (!Objects.equals(extent.getEpsgCrs(), removed.getEpsgCrs())) {
+      return true;
+    }
+    return removed.getXmin() <= extent.getXmin()
+        || removed.getYmin() <= extent.getYmin()
+        || removed.getXmax() >= extent.getXmax()
+        || removed.getYmax() >= extent.getYmax();
+  }
+
+  static boolean touchesBoundary(Interval extent, Interval removed) {
+    return !removed.getStart().isAfter(extent.getStart())
+        || !removed.getEnd().isBefore(extent.getEnd());
+  }
+}
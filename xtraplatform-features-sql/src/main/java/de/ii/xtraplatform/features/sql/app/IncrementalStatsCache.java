@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app;
+
+import de.ii.xtraplatform.base.domain.LogContext;
+import de.ii.xtraplatform.cache.domain.Cache;
+import de.ii.xtraplatform.crs.domain.BoundingBox;
+import de.ii.xtraplatform.features.domain.FeatureChange;
+import de.ii.xtraplatform.features.sql.app.IncrementalStats.Update;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.extra.Interval;
+
+/**
+ * Keeps the cached count, spatial extent and temporal extent of feature types up to date with
+ * {@link IncrementalStats}. When a removed value touches the boundary of a cached extent, a
+ * recomputation is scheduled in the background.
+ *
+ * <p>A computation reads the dataset without holding the lock, so changes may be applied to the
+ * cache while it is running. Every change of a type increments the versions of its stats, and the
+ * result of a computation is only cached if the version did not change in the meantime, see {@link
+ * #putIfUnchanged}. Otherwise the stale result is discarded and another recomputation is scheduled.
+ */
+public final class IncrementalStatsCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalStatsCache.class);
+
+  public static final String COUNT = "count";
+  public static final String SPATIAL = "spatial";
+  public static final String TEMPORAL = "temporal";
+
+  private final Cache cache;
+  private final Supplier<ScheduledExecutorService> executorFactory;
+  private final Duration delay;
+  private final BiConsumer<String, String> recomputation;
+  private final Object lock;
+  private final Map<String, Long> versions;
+  private final Set<String> pending;
+  private volatile ScheduledExecutorService executor;
+
+  /**
+   * @param cache the cache of the provider
+   * @param executorFactory creates the executor for recomputations in {@link #start()}, it is shut
+   *     down with {@link #shutdown()}
+   * @param delay the delay of a recomputation, changes in the meantime are covered by it
+   * @param recomputation recomputes and caches a stat, called with the type and the stat
+   */
+  public IncrementalStatsCache(
+      Cache cache,
+      Supplier<ScheduledExecutorService> executorFactory,
+      Duration delay,
+      BiConsumer<String, String> recomputation) {
+    this.cache = cache;
+    this.executorFactory = executorFactory;
+    this.delay = delay;
+    this.recomputation = recomputation;
+    this.lock = new Object();
+    this.versions = new HashMap<>();
+    this.pending = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Applies a feature change to the cached stats of the type instead of dropping them. Counts are
+   * adjusted for created and deleted features and extents are extended with the new values.
+   *
+   * @param change the feature change
+   * @param validator the cache validator
+   * @param toNativeCrs transforms the bboxes of the change to the CRS of the cached extent
+   */
+  public void update(
+      FeatureChange change, String validator, UnaryOperator<BoundingBox> toNativeCrs) {
+    String type = change.getFeatureType();
+    String[] countKey = key(type, COUNT);
+    String[] spatialKey = key(type, SPATIAL);
+    String[] temporalKey = key(type, TEMPORAL);
+
+    synchronized (lock) {
+      // also when nothing is cached, a computation that is running must not cache its result
+      changed(type, COUNT);
+      changed(type, SPATIAL);
+      changed(type, TEMPORAL);
+
+      if (cache.hasValid(validator, countKey)) {
+        OptionalLong count =
+            IncrementalStats.updateCount(
+                cache.get(validator, Long.class, countKey).orElse(-1L), change);
+        if (count.isPresent()) {
+          cache.put(validator, count.getAsLong(), countKey);
+        } else {
+          cache.del(countKey);
+        }
+      }
+
+      if (cache.hasValid(validator, spatialKey)) {
+        Update<BoundingBox> extent =
+            IncrementalStats.updateSpatialExtent(
+                cache.get(validator, BoundingBox.class, spatialKey),
+                IncrementalStats.added(change, change.getNewBoundingBox()).map(toNativeCrs),
+                IncrementalStats.removed(
+                        change, change.getOldBoundingBox(), change.getNewBoundingBox())
+                    .map(toNativeCrs));
+        cache.put(validator, extent.value().orElse(null), spatialKey);
+        if (extent.recompute()) {
+          schedule(type, SPATIAL);
+        }
+      }
+
+      if (cache.hasValid(validator, temporalKey)) {
+        Update<Interval> extent =
+            IncrementalStats.updateTemporalExtent(
+                cache.get(validator, Interval.class, temporalKey),
+                IncrementalStats.added(change, change.getNewInterval()),
+                IncrementalStats.removed(change, change.getOldInterval(), change.getNewInterval()));
+        cache.put(validator, extent.value().orElse(null), temporalKey);
+        if (extent.recompute()) {
+          schedule(type, TEMPORAL);
+        }
+      }
+    }
+  }
+
+  /** Drops the cached stats of the type, running recomputations will not cache their results. */
+  public void clear(String type) {
+    synchronized (lock) {
+      for (String stat : new String[] {COUNT, SPATIAL, TEMPORAL}) {
+        cache.del(key(type, stat));
+        changed(type, stat);
+      }
+    }
+  }
+
+  /**
+   * @return the current version of the stat, to be passed to {@link #putIfUnchanged} when the stat
+   *     has been computed
+   */
+  public long version(String type, String stat) {
+    synchronized (lock) {
+      return versions.getOrDefault(type + "/" + stat, 0L);
+    }
+  }
+
+  /**
+   * Caches a computed stat, unless it was changed since {@link #version} was called. In that case
+   * the value is stale and another recomputation is scheduled.
+   *
+   * @return whether the value was cached
+   */
+  public boolean putIfUnchanged(
+      String type, String stat, long version, String validator, Object value) {
+    synchronized (lock) {
+      if (versions.getOrDefault(type + "/" + stat, 0L) == version) {
+        cache.put(validator, value, key(type, stat));
+        return true;
+      }
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Discarding stale {} stats for '{}', changed during computation", stat, type);
+    }
+    schedule(type, stat);
+
+    return false;
+  }
+
+  // at most one pending recomputation per type and stat, changes in the meantime are covered by it
+  void schedule(String type, String stat) {
+    String key = type + "/" + stat;
+
+    ScheduledExecutorService executor = this.executor;
+
+    if (Objects.isNull(executor) || executor.isShutdown() || !pending.add(key)) {
+      return;
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Scheduling recomputation of {} stats for '{}'", stat, type);
+    }
+    try {
+      executor.schedule(
+          LogContext.withMdc(
+              () -> {
+                pending.remove(key);
+                recomputation.accept(type, stat);
+              }),
+          delay.toMillis(),
+          TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // shut down concurrently
+      pending.remove(key);
+    }
+  }
+
+  /** Creates the executor for recomputations, also after a {@link #shutdown()}. */
+  public synchronized void start() {
+    if (Objects.isNull(executor) || executor.isShutdown()) {
+      this.executor = executorFactory.get();
+    }
+  }
+
+  /** Cancels pending recomputations and stops the executor until the next {@link #start()}. */
+  public synchronized void shutdown() {
+    if (Objects.nonNull(executor)) {
+      executor.shutdownNow();
+    }
+    pending.clear();
+  }
+
+  private void changed(String type, String stat) {
+    versions.merge(type + "/" + stat, 1L, Long::sum);
+  }
+
+  private static String[] key(String type, String stat) {
+    return new String[] {type, "stats", stat};
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app;
+
+import de.ii.xtraplatform.features.sql.domain.SqlSession;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk path for large groups of main inserts on PostgreSQL. Instead of one multi-row {@code INSERT
+ * ... VALUES ... RETURNING}, the rows are streamed with {@code COPY ... FROM STDIN} into a staging
+ * temp table with the column types of the target table, the primary keys are drawn from the
+ * sequence of the target table in one set-based {@code UPDATE}, and the rows are then moved with a
+ * single {@code INSERT ... SELECT}. The generated keys are read back from the staging table ordered
+ * by a client-side row number, so they can be assigned to the features without relying on the
+ * order of {@code RETURNING}.
+ *
+ * <p>The rows are built from the values recorded by {@link FeatureEncoderSql} next to the literals,
+ * see {@link FeatureStoreInsertGenerator#createCopyRow}. A row with a value that only exists as an
+ * SQL expression, e.g. a static insert with a function call, has no copy row. For such rows, rows
+ * of different shape, or a table whose primary key has no sequence, {@link #write} returns empty
+ * and the caller falls back to the multi-row insert. Rows of child tables are never copied, their
+ * foreign keys are only known once the keys of the parent rows have been returned.
+ */
+class SqlCopyInserts {
+
+  static final int MIN_ROWS = 1000;
+
+  private static final String ORDINAL = "xtra_copy_ord";
+
+  /**
+   * @param table the target table
+   * @param primaryKey the generated primary key of the target table
+   * @param columns the columns of the values
+   * @param forceClockwise the geometry columns whose polygons have to be oriented clockwise
+   * @param values the values in COPY text representation, {@code null} for SQL NULL
+   */
+  record Row(
+      String table,
+      String primaryKey,
+      List<String> columns,
+      Set<String> forceClockwise,
+      String[] values) {
+
+    boolean hasShapeOf(Row other) {
+      return Objects.equals(table, other.table)
+          && Objects.equals(primaryKey, other.primaryKey)
+          && Objects.equals(columns, other.columns);
+    }
+  }
+
+  private final SqlSession sqlSession;
+  private final Map<String, Optional<String>> sequences;
+  private int stagingTables;
+
+  SqlCopyInserts(SqlSession sqlSession) {
+    this.sqlSession = sqlSession;
+    this.sequences = new HashMap<>();
+    this.stagingTables = 0;
+  }
+
+  /**
+   * @param rows the rows of one table in the order of the features
+   * @return the generated primary keys in the order of the rows, empty if the rows could not be
+   *     copied and nothing was written
+   */
+  Optional<List<String>> write(List<Row> rows) {
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Row head = rows.get(0);
+
+    if (!rows.stream().allMatch(row -> row.hasShapeOf(head))) {
+      return Optional.empty();
+    }
+
+    // an explicit primary key is not generated, so there is nothing to resolve
+    if (head.columns().contains(head.primaryKey()) || head.columns().contains(ORDINAL)) {
+      return Optional.empty();
+    }
+
+    Optional<String> sequence =
+        sequences.computeIfAbsent(
+            head.table() + "." + head.primaryKey(),
+            ignore -> getSequence(head.table(), head.primaryKey()));
+
+    if (sequence.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Set<String> forceClockwise =
+        rows.stream().flatMap(row -> row.forceClockwise().stream()).collect(Collectors.toSet());
+    String staging = "xtra_copy_" + stagingTables++;
+    String columns = String.join(",", head.columns());
+    String selectColumns =
+        head.columns().stream()
+            .map(
+                column ->
+                    forceClockwise.contains(column)
+                        ? String.format("ST_ForcePolygonCW(%s::geometry)", column)
+                        : column)
+            .collect(Collectors.joining(","));
+
+    sqlSession.runReturning(
+        String.format(
+            "CREATE TEMP TABLE %s ON COMMIT DROP AS SELECT %s,%s,0::bigint AS %s FROM %s WITH NO DATA;",
+            staging, head.primaryKey(), columns, ORDINAL, head.table()));
+    sqlSession.copyIn(
+        String.format("COPY %s (%s,%s) FROM STDIN", staging, columns, ORDINAL),
+        new RowsReader(rows));
+    sqlSession.runReturning(
+        String.format(
+            "UPDATE %s SET %s = nextval(%s);",
+            staging, head.primaryKey(), SqlLiterals.string(sequence.get())));
+    sqlSession.runReturning(
+        String.format(
+            "INSERT INTO %s (%s,%s) OVERRIDING SYSTEM VALUE SELECT %s,%s FROM %s ORDER BY %s;",
+            head.table(),
+            head.primaryKey(),
+            columns,
+            head.primaryKey(),
+            selectColumns,
+            staging,
+            ORDINAL));
+    List<String> ids =
+        sqlSession.runReturning(
+            String.format("SELECT %s FROM %s ORDER BY %s;", head.primaryKey(), staging, ORDINAL));
+    sqlSession.runReturning(String.format("DROP TABLE %s;", staging));
+
+    return Optional.of(ids);
+  }
+
+  private Optional<String> getSequence(String table, String primaryKey) {
+    List<String> sequence =
+        sqlSession.runReturning(
+            String.format(
+                "SELECT pg_get_serial_sequence(%s, %s);",
+                SqlLiterals.string(table),
+                SqlLiterals.string(primaryKey)));
+
+    return sequence.stream().filter(Objects::nonNull).findFirst();
+  }
+
+  static String toCopyLine(String[] row, long ordinal) {
+    StringBuilder line = new StringBuilder();
+
+    for (String value : row) {
+      if (Objects.isNull(value)) {
+        line.append("\\N");
+      } else {
+        for (int i = 0; i < value.length(); i++) {
+          char c = value.charAt(i);
+          switch (c) {
+            case '\\':
+              line.append("\\\\");
+              break;
+            case '\t':
+              line.append("\\t");
+              break;
+            case '\n':
+              line.append("\\n");
+              break;
+            case '\r':
+              line.append("\\r");
+              break;
+            default:
+              line.append(c);
+          }
+        }
+      }
+      line.append('\t');
+    }
+
+    return line.append(ordinal).append('\n').toString();
+  }
+
+  /** Renders the COPY lines one row at a time, so the whole payload is never held as text. */
+  private static final class RowsReader extends Reader {
+    private final List<Row> rows;
+    private int next;
+    private String line;
+    private int position;
+
+    RowsReader(List<Row> rows) {
+      this.rows = rows;
+      this.next = 0;
+      this.line = "";
+      this.position = 0;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      if (length == 0) {
+        return 0;
+      }
+      while (position == line.length()) {
+        if (next == rows.size()) {
+          return -1;
+        }
+        line = toCopyLine(rows.get(next).values(), next);
+        next++;
+        position = 0;
+      }
+      int count = Math.min(length, line.length() - position);
+      line.getChars(position, position + count, buffer, offset);
+      position += count;
+
+      return count;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -83,29 +83,7 @@ public class SqlInsertGenerator2 implements FeatureStoreInsertGenerator {
     // TODO: id instead of primaryKey if isPresent
     String primaryKey = schema.getPrimaryKey();
 
-    Set<String> columns0 =
-        schema.getWritableColumns().stream()
-            .filter(
-                col ->
-                    !Objects.equals(col.getName(), primaryKey)
-                        || schema.getStaticInserts().containsKey(primaryKey)
-                        || col.hasOperation(Operation.DO_NOT_GENERATE))
-            // TODO: in deriver
-            .filter(col -> !col.hasOperation(Operation.CONSTANT))
-            .map(SqlQueryColumn::getName)
-            .collect(ImmutableSet.toImmutableSet());
-
-    Set<String> columns =
-        idProperty.isPresent() && id.isPresent()
-            ? ImmutableSet.<String>builder()
-                .add(idProperty.get().getName())
-                .addAll(columns0)
-                .build()
-            : columns0;
-
-    Set<String> columns1 =
-        Stream.concat(columns.stream(), schema.getStaticInserts().keySet().stream())
-            .collect(Collectors.toSet());
+    Set<String> columns1 = getColumns(schema, idProperty, id);
 
     List<String> columns2 = new ArrayList<>(columns1);
 
@@ -206,6 +184,88 @@ public class SqlInsertGenerator2 implements FeatureStoreInsertGenerator {
     };
   }
 
+  @Override
+  public Optional<SqlCopyInserts.Row> createCopyRow(
+      FeatureDataSql feature,
+      SqlQuerySchema schema,
+      List<Integer> parentRows,
+      Optional<String> id) {
+    // the foreign keys of child rows and static inserts are only known as SQL expressions
+    if (!schema.getRelations().isEmpty() || !schema.getStaticInserts().isEmpty()) {
+      return Optional.empty();
+    }
+
+    Optional<SqlRowData> currentRow = feature.getRow(schema.getFullPath(), parentRows);
+
+    if (currentRow.isEmpty() || currentRow.get().isEmpty()) {
+      return Optional.empty();
+    }
+
+    Optional<SqlQueryColumn> idProperty =
+        feature
+            .getMapping()
+            .getColumnForId()
+            .map(de.ii.xtraplatform.base.domain.util.Tuple::second);
+    List<String> columns = new ArrayList<>(getColumns(schema, idProperty, id));
+    Map<String, String> values = currentRow.get().getValues();
+    Map<String, String> copyValues = currentRow.get().getCopyValues();
+    String[] row = new String[columns.size()];
+
+    for (int i = 0; i < row.length; i++) {
+      String name = columns.get(i);
+
+      if (name.startsWith("ST_AsText(ST_ForcePolygonCCW(")) {
+        return Optional.empty();
+      }
+      if (idProperty.isPresent() && id.isPresent() && name.equals(idProperty.get().getName())) {
+        row[i] = id.get();
+      } else if (values.containsKey(name)) {
+        // e.g. JSON columns, which only have a literal
+        if (!copyValues.containsKey(name)) {
+          return Optional.empty();
+        }
+        row[i] = copyValues.get(name);
+      }
+    }
+
+    return Optional.of(
+        new SqlCopyInserts.Row(
+            schema.getName(),
+            schema.getPrimaryKey(),
+            columns,
+            currentRow.get().getClockwiseColumns(),
+            row));
+  }
+
+  // the columns of an insert without the keys of the parent row
+  private static Set<String> getColumns(
+      SqlQuerySchema schema, Optional<SqlQueryColumn> idProperty, Optional<String> id) {
+    String primaryKey = schema.getPrimaryKey();
+
+    Set<String> columns0 =
+        schema.getWritableColumns().stream()
+            .filter(
+                col ->
+                    !Objects.equals(col.getName(), primaryKey)
+                        || schema.getStaticInserts().containsKey(primaryKey)
+                        || col.hasOperation(Operation.DO_NOT_GENERATE))
+            // TODO: in deriver
+            .filter(col -> !col.hasOperation(Operation.CONSTANT))
+            .map(SqlQueryColumn::getName)
+            .collect(ImmutableSet.toImmutableSet());
+
+    Set<String> columns =
+        idProperty.isPresent() && id.isPresent()
+            ? ImmutableSet.<String>builder()
+                .add(idProperty.get().getName())
+                .addAll(columns0)
+                .build()
+            : columns0;
+
+    return Stream.concat(columns.stream(), schema.getStaticInserts().keySet().stream())
+        .collect(Collectors.toSet());
+  }
+
   @Override
   public Supplier<Tuple<String, Consumer<String>>> createJunctionInsert(
       FeatureDataSql feature, SqlQuerySchema schema, List<Integer> parentRows) {
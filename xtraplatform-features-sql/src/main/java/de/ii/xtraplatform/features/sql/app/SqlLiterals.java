@@ -60,9 +60,42 @@ final class SqlLiterals {
     if (value == null) {
       return "NULL";
     }
+    return "'" + encryptedText(encryption, valueType, value, propertyName) + "'";
+  }
+
+  /**
+   * The value for a bulk insert with {@code COPY ... FROM STDIN} in text format, validated like the
+   * literal of {@link #forType}. {@code null} stands for SQL NULL.
+   */
+  static String copyText(SchemaBase.Type type, String value) {
+    if (value == null) {
+      return null;
+    }
+    switch (type) {
+      case INTEGER:
+        return integer(value);
+      case FLOAT:
+        return number(value);
+      case BOOLEAN:
+        return bool(value).equals("TRUE") ? "t" : "f";
+      case ENCRYPTED:
+      case ENCRYPTED_ARRAY:
+        throw new IllegalStateException(
+            "the value of an encrypted property reached the SQL encoder unencrypted");
+      case STRING:
+      case DATE:
+      case DATETIME:
+      default:
+        return value;
+    }
+  }
+
+  // the bytea hex representation, which is also accepted by COPY
+  static String encryptedText(
+      PropertyEncryption encryption, SchemaBase.Type valueType, String value, String propertyName) {
     byte[] encryptedValue =
         encryption.encrypt(encryption.normalize(value, valueType, propertyName));
-    return "'\\x" + HexFormat.of().formatHex(encryptedValue) + "'";
+    return "\\x" + HexFormat.of().formatHex(encryptedValue);
   }
 
   static String string(String value) {
@@ -45,6 +45,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.postgresql.util.PSQLException;
@@ -60,6 +61,11 @@ public class SqlMutationSession implements FeatureTransactions.Session {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SqlMutationSession.class);
 
+  // Number of features that are buffered before they are written when features are created. Large
+  // enough to fold the main inserts of a chunk into one COPY, small enough to bound the memory of
+  // large payloads.
+  static final int CHUNK_SIZE = 5 * SqlCopyInserts.MIN_ROWS;
+
   private final SqlSession sqlSession;
   private final Map<String, List<SqlQueryMapping>> queryMappings;
   private final FeatureMutationsSql featureMutationsSql;
@@ -68,6 +74,8 @@ public class SqlMutationSession implements FeatureTransactions.Session {
   private final Optional<ZoneId> nativeTimeZone;
   private final Optional<PropertyEncryption> encryption;
   private final Reactive.Runner streamRunner;
+  private final SqlCopyInserts copyInserts;
+  private boolean savepointActive;
 
   public SqlMutationSession(
       SqlSession sqlSession,
@@ -86,6 +94,8 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     this.nativeTimeZone = nativeTimeZone;
     this.streamRunner = streamRunner;
     this.encryption = encryption;
+    this.copyInserts = new SqlCopyInserts(sqlSession);
+    this.savepointActive = false;
   }
 
   @Override
@@ -103,10 +113,10 @@ public class SqlMutationSession implements FeatureTransactions.Session {
         false);
   }
 
-  // Multi-source CREATE: drains every source into one `collected` list against this session's
-  // single underlying transaction, then runs the existing cross-feature batched write. This is
+  // Multi-source CREATE: drains every source against this session's single underlying
+  // transaction and runs the cross-feature batched write per chunk of CHUNK_SIZE features. This is
   // where the wfs:Insert N-feature win actually lands — the executor accumulates up to BATCH_SIZE
-  // per-feature sources and calls this overload, so writeFeaturesBatched sees collected.size()>1
+  // per-feature sources and calls this overload, so writeFeaturesBatched sees chunk.size()>1
   // and runMainInsertsGrouped can fold consecutive same-shape INSERTs into one multi-row INSERT.
   @Override
   public FeatureTransactions.MutationResult createFeatures(
@@ -114,8 +124,8 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     return createFeatures(featureType, featureTokenSources, crs, Map.of());
   }
 
-  // Same as the 3-arg overload, but after every source is drained the per-role column overrides
-  // are applied row-by-row to the collected FeatureDataSql instances: an entry whose value is
+  // Same as the 3-arg overload, but before a chunk is written the per-role column overrides
+  // are applied row-by-row to its FeatureDataSql instances: an entry whose value is
   // non-null forces the role-bearing column to that value (already SQL-literal-formatted, e.g.
   // quoted for DATETIME); a null value clears the column so it lands as SQL NULL. Roles that the
   // type's schema mapping does not bind to a column are silently ignored — the override map is
@@ -132,39 +142,24 @@ public class SqlMutationSession implements FeatureTransactions.Session {
             .type(FeatureTransactions.MutationResult.Type.CREATE)
             .hasFeatures(false);
 
-    List<FeatureDataSql> collected = new ArrayList<>();
-    try {
-      for (FeatureTokenSource src : featureTokenSources) {
-        drainSource(src, mapping, crs, builder, collected, false);
-      }
-    } catch (RuntimeException e) {
-      return builder.error(translateEncoderError(e)).build();
-    }
+    ChunkedWriter writer =
+        createChunkedWriter(
+            mapping,
+            Optional.empty(),
+            crs,
+            builder,
+            chunk -> {
+              if (!roleOverrides.isEmpty()) {
+                for (FeatureDataSql feature : chunk) {
+                  applyRoleOverrides(feature, roleOverrides);
+                }
+              }
+            });
 
-    if (collected.isEmpty()) {
+    if (!drainAndWrite(featureTokenSources, mapping, crs, builder, writer)) {
       return builder.build();
     }
 
-    if (!roleOverrides.isEmpty()) {
-      for (FeatureDataSql feature : collected) {
-        applyRoleOverrides(feature, roleOverrides);
-      }
-    }
-
-    RowCursor rowCursor = new RowCursor(mapping.getMainTable().getFullPath());
-    Optional<de.ii.xtraplatform.base.domain.util.Tuple<SqlQuerySchema, SqlQueryColumn>>
-        roleIdColumn = mapping.getColumnForId();
-    String roleIdColumnName = roleIdColumn.map(t -> t.second().getName()).orElse(null);
-    SqlQuerySchema roleIdTable =
-        roleIdColumn.map(de.ii.xtraplatform.base.domain.util.Tuple::first).orElse(null);
-
-    try {
-      writeFeaturesBatched(
-          collected, rowCursor, Optional.empty(), crs, roleIdTable, roleIdColumnName, builder);
-    } catch (RuntimeException e) {
-      builder.error(e);
-    }
-
     FeatureTransactions.MutationResult result = builder.build();
     if (!roleOverrides.isEmpty() && result.getError().isEmpty()) {
       applyPostInsertRoleOverrides(mapping, result.getIds(), roleOverrides);
@@ -1553,16 +1548,25 @@ public class SqlMutationSession implements FeatureTransactions.Session {
   @Override
   public void savepoint() {
     sqlSession.savepoint();
+    this.savepointActive = true;
   }
 
   @Override
   public void releaseSavepoint() {
-    sqlSession.releaseSavepoint();
+    try {
+      sqlSession.releaseSavepoint();
+    } finally {
+      this.savepointActive = false;
+    }
   }
 
   @Override
   public void rollbackToSavepoint() {
-    sqlSession.rollbackToSavepoint();
+    try {
+      sqlSession.rollbackToSavepoint();
+    } finally {
+      this.savepointActive = false;
+    }
   }
 
   @Override
@@ -1592,9 +1596,18 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     ImmutableMutationResult.Builder builder =
         ImmutableMutationResult.builder().type(type).hasFeatures(false);
 
+    // CREATE is streamed: the features are written in chunks while the source is still being
+    // decoded, so a large payload never has to be held on heap as a whole.
+    if (type == FeatureTransactions.MutationResult.Type.CREATE && !partial) {
+      ChunkedWriter writer = createChunkedWriter(mapping, featureId, crs, builder, chunk -> {});
+      drainAndWrite(List.of(featureTokenSource), mapping, crs, builder, writer);
+
+      return builder.build();
+    }
+
     List<FeatureDataSql> collected = new ArrayList<>();
     try {
-      drainSource(featureTokenSource, mapping, crs, builder, collected, partial);
+      drainSource(featureTokenSource, mapping, crs, builder, collected::add, partial);
     } catch (RuntimeException e) {
       return builder.error(translateEncoderError(e)).build();
     }
@@ -1628,7 +1641,74 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     return builder.build();
   }
 
-  // Assembles the token-source → FeatureEncoderSql pipeline and drains it into `collected`. A
+  private ChunkedWriter createChunkedWriter(
+      SqlQueryMapping mapping,
+      Optional<String> featureId,
+      EpsgCrs crs,
+      ImmutableMutationResult.Builder builder,
+      Consumer<List<FeatureDataSql>> beforeWrite) {
+    RowCursor rowCursor = new RowCursor(mapping.getMainTable().getFullPath());
+    Optional<de.ii.xtraplatform.base.domain.util.Tuple<SqlQuerySchema, SqlQueryColumn>>
+        roleIdColumn = mapping.getColumnForId();
+    String roleIdColumnName = roleIdColumn.map(t -> t.second().getName()).orElse(null);
+    SqlQuerySchema roleIdTable =
+        roleIdColumn.map(de.ii.xtraplatform.base.domain.util.Tuple::first).orElse(null);
+
+    return new ChunkedWriter(
+        CHUNK_SIZE,
+        chunk -> {
+          beforeWrite.accept(chunk);
+          writeFeaturesBatched(
+              chunk, rowCursor, featureId, crs, roleIdTable, roleIdColumnName, builder);
+        });
+  }
+
+  // Drains the sources into the writer and writes the last chunk. A failure of the writer is
+  // reported as is, a failure while decoding or encoding is translated like before. Returns
+  // whether any feature was written, so that callers can skip post-processing.
+  //
+  // Chunks are written while the sources are still being decoded, so a failure in a later chunk
+  // would leave the earlier chunks in the transaction. Unless the caller already scopes the action
+  // with its own savepoint, the chunks are written under a savepoint that is rolled back on
+  // failure; either way, a failed CREATE writes nothing and reports no ids.
+  private boolean drainAndWrite(
+      Iterable<FeatureTokenSource> featureTokenSources,
+      SqlQueryMapping mapping,
+      EpsgCrs crs,
+      ImmutableMutationResult.Builder builder,
+      ChunkedWriter writer) {
+    boolean ownSavepoint = !savepointActive;
+    if (ownSavepoint) {
+      sqlSession.savepoint();
+    }
+
+    try {
+      for (FeatureTokenSource src : featureTokenSources) {
+        drainSource(src, mapping, crs, builder, writer, false);
+      }
+      writer.flush();
+    } catch (RuntimeException e) {
+      Throwable error =
+          writer.getError().map(Throwable.class::cast).orElseGet(() -> translateEncoderError(e));
+      if (ownSavepoint) {
+        try {
+          sqlSession.rollbackToSavepoint();
+        } catch (RuntimeException rollbackError) {
+          error.addSuppressed(rollbackError);
+        }
+      }
+      builder.ids(List.of()).error(error);
+      return false;
+    }
+
+    if (ownSavepoint) {
+      sqlSession.releaseSavepoint();
+    }
+
+    return writer.getWritten() > 0;
+  }
+
+  // Assembles the token-source → FeatureEncoderSql pipeline and drains it into `consumer`. A
   // fresh FeatureTokenStatsCollector is instantiated per source so internal transformer state
   // doesn't leak across runs; the result builder is shared, so accumulated stats (bbox, temporal
   // extent) overwrite per source — matching the existing single-source-multi-feature semantics
@@ -1638,7 +1718,7 @@ public class SqlMutationSession implements FeatureTransactions.Session {
       SqlQueryMapping mapping,
       EpsgCrs crs,
       ImmutableMutationResult.Builder builder,
-      List<FeatureDataSql> collected,
+      Consumer<FeatureDataSql> consumer,
       boolean partial) {
     FeatureTokenStatsCollector statsCollector = new FeatureTokenStatsCollector(builder, crs);
 
@@ -1665,7 +1745,7 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     }
 
     featureSqlSource
-        .to(Sink.foreach(collected::add))
+        .to(Sink.foreach(consumer::accept))
         .on(streamRunner)
         .run()
         .toCompletableFuture()
@@ -1749,7 +1829,11 @@ public class SqlMutationSession implements FeatureTransactions.Session {
 
     String[] returnedPks = new String[n];
 
-    runMainInsertsGrouped(mainSqls, mainConsumersRaw, returnedPks);
+    runMainInsertsGrouped(
+        mainSqls,
+        mainConsumersRaw,
+        returnedPks,
+        i -> featureMutationsSql.createInstanceCopyRow(collected.get(i), rowCursor, featureId));
 
     // Publish the per-feature ids as soon as the main inserts have returned; if the children
     // phase then fails, the result still carries every id that made it into the transaction
@@ -1768,9 +1852,14 @@ public class SqlMutationSession implements FeatureTransactions.Session {
   // prefix and a " RETURNING <pk>;" suffix into one combined multi-row INSERT, executed via
   // sqlSession.runReturning so we receive every generated PK in insertion order. Features whose
   // main SQL doesn't fit the shape (e.g. DEFAULT VALUES, or a different table) are flushed as a
-  // single-row insert via the same path; null-SQL slots are skipped entirely.
+  // single-row insert via the same path; null-SQL slots are skipped entirely. Groups of at least
+  // SqlCopyInserts.MIN_ROWS rows are written with COPY on PostgreSQL when every feature of the
+  // group has a copy row; copy rows are only built for such groups.
   private void runMainInsertsGrouped(
-      String[] mainSqls, Consumer<?>[] consumersRaw, String[] returnedPks) {
+      String[] mainSqls,
+      Consumer<?>[] consumersRaw,
+      String[] returnedPks,
+      IntFunction<Optional<SqlCopyInserts.Row>> copyRows) {
     int n = mainSqls.length;
     int i = 0;
     while (i < n) {
@@ -1802,17 +1891,42 @@ public class SqlMutationSession implements FeatureTransactions.Session {
         valuesTuples.add(next.values);
         j++;
       }
-      String combined = head.prefix + String.join(",", valuesTuples) + head.suffix;
       int[] indices = groupIdx.stream().mapToInt(Integer::intValue).toArray();
-      executeAndDispatch(combined, consumersRaw, returnedPks, indices);
+      Optional<List<String>> copied =
+          indices.length >= SqlCopyInserts.MIN_ROWS && sqlSession.supportsCopy()
+              ? getCopyRows(indices, copyRows).flatMap(copyInserts::write)
+              : Optional.empty();
+      if (copied.isPresent()) {
+        dispatch(copied.get(), consumersRaw, returnedPks, indices);
+      } else {
+        String combined = head.prefix + String.join(",", valuesTuples) + head.suffix;
+        executeAndDispatch(combined, consumersRaw, returnedPks, indices);
+      }
       i = j;
     }
   }
 
-  @SuppressWarnings("unchecked")
+  private static Optional<List<SqlCopyInserts.Row>> getCopyRows(
+      int[] featureIndices, IntFunction<Optional<SqlCopyInserts.Row>> copyRows) {
+    List<SqlCopyInserts.Row> rows = new ArrayList<>(featureIndices.length);
+    for (int featureIdx : featureIndices) {
+      Optional<SqlCopyInserts.Row> row = copyRows.apply(featureIdx);
+      if (row.isEmpty()) {
+        return Optional.empty();
+      }
+      rows.add(row.get());
+    }
+    return Optional.of(rows);
+  }
+
   private void executeAndDispatch(
       String sql, Consumer<?>[] consumersRaw, String[] returnedPks, int[] featureIndices) {
-    List<String> ids = sqlSession.runReturning(sql);
+    dispatch(sqlSession.runReturning(sql), consumersRaw, returnedPks, featureIndices);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void dispatch(
+      List<String> ids, Consumer<?>[] consumersRaw, String[] returnedPks, int[] featureIndices) {
     for (int k = 0; k < featureIndices.length; k++) {
       String returned = k < ids.size() ? ids.get(k) : null;
       int featureIdx = featureIndices[k];
@@ -1876,6 +1990,57 @@ public class SqlMutationSession implements FeatureTransactions.Session {
     }
   }
 
+  // Buffers the features of a stream and hands them to the writer in chunks. Full chunks are
+  // written from Sink.foreach, i.e. on the stream runner thread, while the calling thread blocks
+  // in drainSource, so the SQL session is never used concurrently and the decoder is paused while
+  // a chunk is written. The last chunk is written by flush() on the calling thread. A failure of
+  // the writer is kept to tell it apart from a decoding failure.
+  static final class ChunkedWriter implements Consumer<FeatureDataSql> {
+    private final int chunkSize;
+    private final Consumer<List<FeatureDataSql>> writer;
+    private List<FeatureDataSql> chunk;
+    private RuntimeException error;
+    private int written;
+
+    ChunkedWriter(int chunkSize, Consumer<List<FeatureDataSql>> writer) {
+      this.chunkSize = chunkSize;
+      this.writer = writer;
+      this.chunk = new ArrayList<>();
+      this.written = 0;
+    }
+
+    @Override
+    public void accept(FeatureDataSql feature) {
+      chunk.add(feature);
+      if (chunk.size() >= chunkSize) {
+        flush();
+      }
+    }
+
+    void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      List<FeatureDataSql> current = chunk;
+      this.chunk = new ArrayList<>();
+      try {
+        writer.accept(current);
+      } catch (RuntimeException e) {
+        this.error = e;
+        throw e;
+      }
+      this.written += current.size();
+    }
+
+    Optional<RuntimeException> getError() {
+      return Optional.ofNullable(error);
+    }
+
+    int getWritten() {
+      return written;
+    }
+  }
+
   private static Optional<String> extractRoleId(
       FeatureDataSql feature, SqlQuerySchema roleIdTable, String roleIdColumnName) {
     if (roleIdTable == null || roleIdColumnName == null) {
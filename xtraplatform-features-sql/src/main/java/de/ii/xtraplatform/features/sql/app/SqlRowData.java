@@ -8,6 +8,7 @@
 package de.ii.xtraplatform.features.sql.app;
 
 import java.util.Map;
+import java.util.Set;
 import org.immutables.value.Value;
 
 @Value.Modifiable
@@ -17,6 +18,13 @@ public interface SqlRowData {
 
   Map<String, String> getValues();
 
+  // the values in the text format of COPY for the columns whose value is not an expression, see
+  // SqlCopyInserts
+  Map<String, String> getCopyValues();
+
+  // geometry columns whose polygons have to be oriented clockwise
+  Set<String> getClockwiseColumns();
+
   SqlRowData putIds(String key, String value);
 
   @Value.Lazy
@@ -11,6 +11,7 @@ import static de.ii.xtraplatform.cql.domain.In.ID_PLACEHOLDER;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import dagger.assisted.Assisted;
 import dagger.assisted.AssistedInject;
 import de.ii.xtraplatform.base.domain.Encryption;
@@ -42,6 +43,7 @@ import de.ii.xtraplatform.features.domain.ConnectorFactory;
 import de.ii.xtraplatform.features.domain.DatasetChangeListener;
 import de.ii.xtraplatform.features.domain.DecoderFactories;
 import de.ii.xtraplatform.features.domain.DecoderFactory;
+import de.ii.xtraplatform.features.domain.FeatureChange;
 import de.ii.xtraplatform.features.domain.FeatureChangeListener;
 import de.ii.xtraplatform.features.domain.FeatureCrs;
 import de.ii.xtraplatform.features.domain.FeatureEventHandler.ModifiableContext;
@@ -91,6 +93,7 @@ import de.ii.xtraplatform.features.sql.app.FeatureEncoderSql;
 import de.ii.xtraplatform.features.sql.app.FeatureMutationsSql;
 import de.ii.xtraplatform.features.sql.app.FeatureQueryEncoderSql;
 import de.ii.xtraplatform.features.sql.app.FilterEncoderSql;
+import de.ii.xtraplatform.features.sql.app.IncrementalStatsCache;
 import de.ii.xtraplatform.features.sql.app.ModifiableFeatureDataSql;
 import de.ii.xtraplatform.features.sql.app.MutationSchemaDeriver;
 import de.ii.xtraplatform.features.sql.app.PathParserSql;
@@ -114,6 +117,7 @@ import de.ii.xtraplatform.streams.domain.Reactive.Source;
 import de.ii.xtraplatform.streams.domain.Reactive.Stream;
 import de.ii.xtraplatform.streams.domain.Reactive.Transformer;
 import de.ii.xtraplatform.values.domain.ValueStore;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
@@ -128,6 +132,7 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -462,12 +467,15 @@ public class FeatureProviderSql
   public static final String ENTITY_SUB_TYPE = "feature/sql";
   public static final String PROVIDER_SUB_TYPE = "SQL";
 
+  private static final Duration STATS_RECOMPUTATION_DELAY = Duration.ofSeconds(30);
+
   private final Cql cql;
   private final SqlDbmsAdapters dbmsAdapters;
   private final Map<String, DecoderFactory> subdecoders;
 
   private final de.ii.xtraplatform.cache.domain.Cache cache;
   private final Scheduler scheduler;
+  private final IncrementalStatsCache stats;
 
   private FeatureQueryEncoderSql queryTransformer;
   private AggregateStatsReader<SqlQueryMapping> aggregateStatsReader;
@@ -545,18 +553,39 @@ public class FeatureProviderSql
         auditLog,
         encryption,
         data,
-        volatileRegistry);
+        volatileRegistry,
+        getFeatureChangesWindow(data));
 
     this.cql = cql;
     this.dbmsAdapters = dbmsAdapters;
     this.cache = cache.withPrefix(getEntityType(), getId());
     this.scheduler = scheduler;
+    this.stats =
+        new IncrementalStatsCache(
+            this.cache,
+            () ->
+                Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder()
+                        .setNameFormat("feature.stats-%d")
+                        .setDaemon(true)
+                        .build()),
+            STATS_RECOMPUTATION_DELAY,
+            this::recomputeStats);
     this.subdecoders = subdecoders;
     this.cronJob = null;
     this.tableSchemas = null;
     this.cql2Functions = List.of();
   }
 
+  private static Duration getFeatureChangesWindow(FeatureProviderDataV2 data) {
+    if (data instanceof FeatureProviderSqlData sqlData
+        && Objects.nonNull(sqlData.getDatasetChanges())) {
+      return Duration.ofMillis(
+          sqlData.getDatasetChanges().getCoalescingWindow().toMilliseconds());
+    }
+    return DEFAULT_FEATURE_CHANGES_WINDOW;
+  }
+
   private static PathParserSql createPathParser2(SqlPathDefaults sqlPathDefaults, Cql cql) {
     SqlPathSyntax syntax = ImmutableSqlPathSyntax.builder().options(sqlPathDefaults).build();
     return new PathParserSql(syntax, cql);
@@ -594,7 +623,8 @@ public class FeatureProviderSql
       return false;
     }
 
-    SqlDialect sqlDialect = dbmsAdapters.getDialect(getData().getConnectionInfo().getDialect());
+    SqlDialect sqlDialect =
+        getSqlDialect(dbmsAdapters.getDialect(getData().getConnectionInfo().getDialect()));
     this.cql2Functions = getDialectAwareCustomFunctions(sqlDialect);
     String accentiCollation =
         Objects.nonNull(getData().getQueryGeneration())
@@ -671,7 +701,9 @@ public class FeatureProviderSql
     changes()
         .addListener(
             (DatasetChangeListener) change -> change.getFeatureTypes().forEach(this::clearCache));
-    changes().addListener((FeatureChangeListener) change -> clearCache(change.getFeatureType()));
+    changes().addListener((FeatureChangeListener) this::updateCache);
+    // shut down in onStopped, so it has to be created again when the provider is restarted
+    stats.start();
 
     super.onStarted();
 
@@ -744,6 +776,8 @@ public class FeatureProviderSql
   protected void onStopped() {
     super.onStopped();
 
+    stats.shutdown();
+
     if (Objects.nonNull(cronJob)) {
       scheduler.deschedule(cronJob);
       this.cronJob = null;
@@ -763,9 +797,52 @@ public class FeatureProviderSql
 
   private void clearCache(String type) {
     LOGGER.debug("Clearing cache for type: {}", type);
-    cache.del(type, "stats", "count");
-    cache.del(type, "stats", "spatial");
-    cache.del(type, "stats", "temporal");
+    stats.clear(type);
+  }
+
+  /**
+   * Applies a feature change to the cached stats of the type instead of dropping them, see {@link
+   * IncrementalStatsCache}.
+   */
+  private void updateCache(FeatureChange change) {
+    if (Objects.isNull(queryMappings) || !queryMappings.containsKey(change.getFeatureType())) {
+      return;
+    }
+
+    stats.update(change, getData().getStableHash(), this::toNativeCrs);
+  }
+
+  private void recomputeStats(String type, String stat) {
+    switch (stat) {
+      case IncrementalStatsCache.COUNT:
+        computeFeatureCount(type);
+        break;
+      case IncrementalStatsCache.SPATIAL:
+        computeSpatialExtent(type);
+        break;
+      case IncrementalStatsCache.TEMPORAL:
+        computeTemporalExtent(type);
+        break;
+      default:
+    }
+  }
+
+  private BoundingBox toNativeCrs(BoundingBox boundingBox) {
+    if (Objects.equals(boundingBox.getEpsgCrs(), getNativeCrs())) {
+      return boundingBox;
+    }
+    return crsTransformerFactory
+        .getTransformer(boundingBox.getEpsgCrs(), getNativeCrs(), false)
+        .flatMap(
+            crsTransformer -> {
+              try {
+                return Optional.of(crsTransformer.transformBoundingBox(boundingBox));
+              } catch (Exception e) {
+                return Optional.empty();
+              }
+            })
+        // a bbox in a different crs forces a recomputation
+        .orElse(boundingBox);
   }
 
   // TODO: implement auto mode for maxConnections=-1, how to get numberOfQueries in Connector?
@@ -961,6 +1038,14 @@ public class FeatureProviderSql
     return queryTransformer;
   }
 
+  /**
+   * Allows subclasses to adjust the dialect with information about the dataset. It is called after
+   * the connector was started.
+   */
+  protected SqlDialect getSqlDialect(SqlDialect sqlDialect) {
+    return sqlDialect;
+  }
+
   @Override
   protected SqlConnector getConnector() {
     return (SqlConnector) super.getConnector();
@@ -1014,6 +1099,13 @@ public class FeatureProviderSql
       LOGGER.debug("Computing feature count for '{}'", typeName);
     }
 
+    return computeFeatureCount(typeName);
+  }
+
+  private long computeFeatureCount(String typeName) {
+    String cacheValidator = getData().getStableHash();
+    long version = stats.version(typeName, IncrementalStatsCache.COUNT);
+
     try {
       Stream<Long> countGraph = aggregateStatsReader.getCount(queryMappings.get(typeName));
 
@@ -1029,7 +1121,7 @@ public class FeatureProviderSql
               .toCompletableFuture()
               .join();
 
-      cache.put(cacheValidator, count, cacheKey);
+      stats.putIfUnchanged(typeName, IncrementalStatsCache.COUNT, version, cacheValidator, count);
 
       return count;
     } catch (Throwable e) {
@@ -1071,6 +1163,13 @@ public class FeatureProviderSql
                   LOGGER.debug("Computing spatial extent for '{}.{}'", typeName, spatialProperty));
     }
 
+    return computeSpatialExtent(typeName);
+  }
+
+  private Optional<BoundingBox> computeSpatialExtent(String typeName) {
+    String cacheValidator = getData().getStableHash();
+    long version = stats.version(typeName, IncrementalStatsCache.SPATIAL);
+
     try {
       Stream<Optional<BoundingBox>> extentGraph =
           aggregateStatsReader.getSpatialExtent(queryMappings.get(typeName), is3dSupported());
@@ -1080,7 +1179,8 @@ public class FeatureProviderSql
 
       // only cache the result of a successful computation, a failure cached as "no extent"
       // would silently persist, e.g. as empty tiles for the type
-      cache.put(cacheValidator, extent.orElse(null), cacheKey);
+      stats.putIfUnchanged(
+          typeName, IncrementalStatsCache.SPATIAL, version, cacheValidator, extent.orElse(null));
 
       return extent;
     } catch (Throwable e) {
@@ -1169,6 +1269,13 @@ public class FeatureProviderSql
                           : ".."));
     }
 
+    return computeTemporalExtent(typeName);
+  }
+
+  private Optional<Interval> computeTemporalExtent(String typeName) {
+    String cacheValidator = getData().getStableHash();
+    long version = stats.version(typeName, IncrementalStatsCache.TEMPORAL);
+
     try {
       Stream<Optional<Interval>> extentGraph =
           aggregateStatsReader.getTemporalExtent(queryMappings.get(typeName));
@@ -1178,7 +1285,8 @@ public class FeatureProviderSql
 
       // only cache the result of a successful computation, a failure cached as "no extent"
       // would silently persist
-      cache.put(cacheValidator, extent.orElse(null), cacheKey);
+      stats.putIfUnchanged(
+          typeName, IncrementalStatsCache.TEMPORAL, version, cacheValidator, extent.orElse(null));
 
       return extent;
     } catch (Throwable e) {
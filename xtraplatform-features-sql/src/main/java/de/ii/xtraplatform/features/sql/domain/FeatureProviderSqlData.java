@@ -19,6 +19,7 @@ import de.ii.xtraplatform.features.domain.FeatureProviderDataV2;
 import de.ii.xtraplatform.features.domain.FeatureSchema;
 import de.ii.xtraplatform.features.domain.ImmutableFeatureSchema;
 import de.ii.xtraplatform.features.domain.WithConnectionInfo;
+import io.dropwizard.util.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -339,6 +340,21 @@ public interface FeatureProviderSqlData
     @Nullable
     String getSyncPeriodic();
 
+    /**
+     * @langEn Feature changes are collected per feature type for the given duration and then
+     *     handled together, e.g. a bulk import only triggers a single update of the spatial extent.
+     *     `0s` handles every change separately.
+     * @langDe Feature-Änderungen werden für die angegebene Dauer pro Objektart gesammelt und dann
+     *     gemeinsam verarbeitet, z.B. löst ein Massenimport nur eine einzige Aktualisierung des
+     *     räumlichen Extents aus. Mit `0s` wird jede Änderung einzeln verarbeitet.
+     * @since v4.8
+     * @default 1s
+     */
+    @Value.Default
+    default Duration getCoalescingWindow() {
+      return Duration.seconds(1);
+    }
+
     @JsonIgnore
     @Value.Lazy
     default boolean isModeOff() {
@@ -12,6 +12,7 @@ import de.ii.xtraplatform.features.sql.app.FeatureDataSql;
 import de.ii.xtraplatform.streams.domain.Reactive;
 import de.ii.xtraplatform.streams.domain.Reactive.Transformer;
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -38,8 +39,23 @@ public interface SqlClient extends SqlClientBasic {
       String primaryKey,
       Optional<String> id);
 
+  /**
+   * @deprecated use {@link #awaitNotifications(Connection, int)}, which also returns the channel
+   */
+  @Deprecated(since = "v4.8", forRemoval = true)
   List<String> getNotifications(Connection connection);
 
+  /**
+   * Waits at most {@code timeoutMillis} for notifications on the given connection, returns
+   * immediately if notifications are already pending. The result contains tuples of channel and
+   * payload.
+   *
+   * @throws SQLException if the connection is broken
+   * @throws UnsupportedOperationException if the connection does not support notifications
+   */
+  List<Tuple<String, String>> awaitNotifications(Connection connection, int timeoutMillis)
+      throws SQLException;
+
   /**
    * Opens a synchronous, single-connection session for multi-statement transactions. The default
    * implementation throws {@link UnsupportedOperationException}.
@@ -138,6 +138,17 @@ public interface SqlDialect {
     return "";
   }
 
+  /**
+   * An additional predicate for a spatial operation between a column and a literal that is
+   * evaluated before the exact operation. It should only use values with statistics, e.g. a
+   * bounding box column, so that the database can skip data that cannot match. The default is no
+   * predicate.
+   */
+  default Optional<String> getSpatialPrefilter(
+      SpatialFunction spatialFunction, String column, String literal) {
+    return Optional.empty();
+  }
+
   default String getTemporalOperator(TemporalFunction temporalFunction) {
     // this is implementation specific
     return null;
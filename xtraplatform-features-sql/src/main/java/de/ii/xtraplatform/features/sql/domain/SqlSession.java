@@ -7,6 +7,7 @@
  */
 package de.ii.xtraplatform.features.sql.domain;
 
+import java.io.Reader;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -56,6 +57,28 @@ public interface SqlSession extends AutoCloseable {
    */
   List<String> execute(List<String> statements);
 
+  /**
+   * Whether {@link #copyIn} is supported, i.e. whether the session is backed by a PostgreSQL
+   * connection. The default implementation returns {@code false}.
+   */
+  default boolean supportsCopy() {
+    return false;
+  }
+
+  /**
+   * Executes a {@code COPY ... FROM STDIN} statement on this session's connection and streams the
+   * given data in COPY text format. The default implementation throws {@link
+   * UnsupportedOperationException} for sessions that do not support COPY, see {@link
+   * #supportsCopy()}.
+   *
+   * @param sql the COPY statement
+   * @param data the rows, one line per row
+   * @return the number of copied rows
+   */
+  default long copyIn(String sql, Reader data) {
+    throw new UnsupportedOperationException("COPY is not supported by this SQL session");
+  }
+
   /**
    * Returns the non-fatal SQL warnings (e.g. PostgreSQL {@code RAISE WARNING} / {@code RAISE
    * NOTICE}) that mutation statements run via {@link #run} / {@link #runReturning} have produced
@@ -11,6 +11,8 @@ import de.ii.xtraplatform.base.domain.LogContext.MARKER;
 import de.ii.xtraplatform.features.domain.FeatureMutationConstraintException;
 import de.ii.xtraplatform.features.domain.FeatureMutationHookException;
 import de.ii.xtraplatform.features.sql.domain.SqlSession;
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -24,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -190,6 +193,32 @@ class JdbcSqlSession implements SqlSession {
     return warnings;
   }
 
+  @Override
+  public boolean supportsCopy() {
+    return SqlClientRx.toPgConnection(connection).isPresent();
+  }
+
+  @Override
+  public long copyIn(String sql, Reader data) {
+    if (finalised) {
+      throw new IllegalStateException("SQL session is closed");
+    }
+    Optional<PGConnection> pgConnection = SqlClientRx.toPgConnection(connection);
+    if (pgConnection.isEmpty()) {
+      throw new UnsupportedOperationException("COPY is only supported for PostgreSQL connections");
+    }
+    if (LOGGER.isDebugEnabled(MARKER.SQL)) {
+      LOGGER.debug(MARKER.SQL, "Executing copy: {}", sql);
+    }
+    try {
+      return pgConnection.get().getCopyAPI().copyIn(sql, data);
+    } catch (SQLException e) {
+      throw mutationFailed("Copy failed: ", sql, e);
+    } catch (IOException e) {
+      throw new IllegalStateException("Copy failed: " + e.getMessage() + " — statement: " + sql, e);
+    }
+  }
+
   // Generators emit "RETURNING null" for child / junction / FK-update statements — these have
   // no caller-meaningful return value and their consumers are no-ops. Main inserts use
   // "RETURNING <pk>" and must run individually so their generated id can drive child SQL.
@@ -406,8 +406,47 @@ public class SqlClientRx implements SqlClient {
     return dbmsAdapter;
   }
 
+  @Deprecated(since = "v4.8", forRemoval = true)
   @Override
   public List<String> getNotifications(Connection connection) {
+    Optional<PGConnection> pgConnection = toPgConnection(connection);
+
+    if (pgConnection.isPresent()) {
+      try {
+        return Arrays.stream(pgConnection.get().getNotifications())
+            .map(PGNotification::getParameter)
+            .collect(Collectors.toList());
+      } catch (SQLException e) {
+        // ignore
+      }
+    }
+    return ImmutableList.of();
+  }
+
+  @Override
+  public List<Tuple<String, String>> awaitNotifications(Connection connection, int timeoutMillis)
+      throws SQLException {
+    Optional<PGConnection> pgConnection = toPgConnection(connection);
+
+    if (pgConnection.isEmpty()) {
+      throw new UnsupportedOperationException(
+          "Waiting for notifications is only supported for PostgreSQL connections");
+    }
+
+    // a timeout of 0 would block until the next notification arrives
+    PGNotification[] notifications =
+        pgConnection.get().getNotifications(Math.max(1, timeoutMillis));
+
+    if (Objects.isNull(notifications)) {
+      return ImmutableList.of();
+    }
+
+    return Arrays.stream(notifications)
+        .map(notification -> Tuple.of(notification.getName(), notification.getParameter()))
+        .collect(Collectors.toList());
+  }
+
+  static Optional<PGConnection> toPgConnection(Connection connection) {
     Connection actualConnection = connection;
 
     if (actualConnection instanceof DelegatedConnection) {
@@ -422,14 +461,8 @@ public class SqlClientRx implements SqlClient {
     }
 
     if (actualConnection instanceof PGConnection) {
-      try {
-        return Arrays.stream(((PGConnection) actualConnection).getNotifications())
-            .map(PGNotification::getParameter)
-            .collect(Collectors.toList());
-      } catch (SQLException e) {
-        // ignore
-      }
+      return Optional.of((PGConnection) actualConnection);
     }
-    return ImmutableList.of();
+    return Optional.empty();
   }
 }
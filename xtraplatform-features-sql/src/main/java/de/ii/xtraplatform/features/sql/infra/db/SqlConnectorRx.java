@@ -201,6 +201,10 @@ public class SqlConnectorRx extends AbstractVolatilePolling implements SqlConnec
     if (Objects.nonNull(dataSource)) {
       try {
         dataSource.close();
+        // data sources that keep an embedded database open have to be closed explicitly
+        if (dataSource.getDataSource() instanceof AutoCloseable) {
+          ((AutoCloseable) dataSource.getDataSource()).close();
+        }
       } catch (Throwable e) {
         // ignore
       }
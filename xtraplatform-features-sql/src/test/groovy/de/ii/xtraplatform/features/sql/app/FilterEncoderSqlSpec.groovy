@@ -19,6 +19,10 @@ import de.ii.xtraplatform.blobs.domain.ResourceStore
 import de.ii.xtraplatform.cql.app.CqlFilterExamples
 import de.ii.xtraplatform.cql.app.CqlImpl
 import de.ii.xtraplatform.cql.domain.ScalarLiteral
+import de.ii.xtraplatform.cql.domain.SpatialFunction
+import de.ii.xtraplatform.cql.domain.SpatialLiteral
+import de.ii.xtraplatform.cql.domain.SWithin
+import de.ii.xtraplatform.cql.domain.Bbox
 import de.ii.xtraplatform.cql.domain.IsNull
 import de.ii.xtraplatform.cql.domain.Not
 import de.ii.xtraplatform.crs.domain.CrsTransformerFactory
@@ -362,6 +366,31 @@ class FilterEncoderSqlSpec extends Specification {
 
         actual == expected
     }
+
+    def 'spatial operation, bbox, with prefilter from dialect'() {
+
+        given:
+        def instanceContainer = QuerySchemaFixtures.SIMPLE_GEOMETRY
+        def dialect = new SqlDialectPgis() {
+            @Override
+            Optional<String> getSpatialPrefilter(SpatialFunction spatialFunction, String column, String literal) {
+                return Optional.of(String.format("%s && %s", column, literal))
+            }
+        }
+        def encoder = new FilterEncoderSql(OgcCrs.CRS84, dialect, null, null, new CqlImpl(), null)
+        def filter = SWithin.of(Property.of("location"), SpatialLiteral.of(Bbox.of(7.0, 50.0, 8.0, 51.0, OgcCrs.CRS84)))
+
+        when:
+        String literal = "ST_GeomFromText('POLYGON((7.0 50.0,8.0 50.0,8.0 51.0,7.0 51.0,7.0 50.0))',4326)"
+        String expected = "(A.location && ${literal} AND ST_Within(A.location, ${literal}))"
+
+        String actual = encoder.encode(filter, instanceContainer)
+
+        then:
+
+        actual == expected
+    }
+
     def 'temporal operation, timestamp'() {
 
         given:
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app
+
+import de.ii.xtraplatform.cache.domain.Cache
+import de.ii.xtraplatform.crs.domain.BoundingBox
+import de.ii.xtraplatform.crs.domain.OgcCrs
+import de.ii.xtraplatform.features.domain.FeatureChange
+import de.ii.xtraplatform.features.domain.ImmutableFeatureChange
+import org.threeten.extra.Interval
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.Instant
+import java.util.concurrent.ScheduledExecutorService
+import java.util.function.UnaryOperator
+
+class IncrementalStatsCacheSpec extends Specification {
+
+    static final String VALIDATOR = "v1"
+
+    Map<String, Object> store
+    Cache cache
+    ScheduledExecutorService executor
+    List<List<String>> recomputed
+    IncrementalStatsCache stats
+
+    def setup() {
+        store = [:]
+        cache = Stub(Cache) {
+            hasValid(*_) >> { args -> store.containsKey(key(args.drop(1))) }
+            get(*_) >> { args -> Optional.ofNullable(store[key(args.drop(2))]) }
+            put(*_) >> { args -> store[key(args.drop(2))] = args[1] }
+            del(*_) >> { args -> store.remove(key(args)) }
+        }
+        executor = Mock(ScheduledExecutorService)
+        recomputed = []
+        stats = new IncrementalStatsCache(cache, { -> executor }, Duration.ofSeconds(30), { type, stat -> recomputed << [type, stat] })
+        stats.start()
+    }
+
+    // varargs may arrive as one array or spread
+    static String key(List args) {
+        return args.collectMany { it instanceof Object[] ? it as List : [it] }.join("/")
+    }
+
+    static FeatureChange change(FeatureChange.Action action, List<String> ids, Optional<BoundingBox> oldBbox = Optional.empty(), Optional<BoundingBox> newBbox = Optional.empty(), Optional<Interval> newInterval = Optional.empty()) {
+        return ImmutableFeatureChange.builder()
+                .action(action)
+                .featureType("a")
+                .featureIds(ids)
+                .oldBoundingBox(oldBbox)
+                .newBoundingBox(newBbox)
+                .newInterval(newInterval)
+                .build()
+    }
+
+    static Optional<BoundingBox> bbox(double xmin, double ymin, double xmax, double ymax) {
+        return Optional.of(BoundingBox.of(xmin, ymin, xmax, ymax, OgcCrs.CRS84))
+    }
+
+    static Interval interval(String start, String end) {
+        return Interval.of(Instant.parse(start), Instant.parse(end))
+    }
+
+    def 'Created features increase the count and extend the extents'() {
+        given:
+        store['a/stats/count'] = 10L
+        store['a/stats/spatial'] = bbox(0, 0, 10, 10).get()
+        store['a/stats/temporal'] = interval("2020-01-01T00:00:00Z", "2021-01-01T00:00:00Z")
+
+        when:
+        stats.update(change(FeatureChange.Action.CREATE, ["1", "2"], Optional.empty(), bbox(5, 5, 12, 11), Optional.of(interval("2021-06-01T00:00:00Z", "2021-06-01T00:00:00Z"))), VALIDATOR, UnaryOperator.identity())
+
+        then:
+        store['a/stats/count'] == 12L
+        store['a/stats/spatial'] == bbox(0, 0, 12, 11).get()
+        store['a/stats/temporal'] == interval("2020-01-01T00:00:00Z", "2021-06-01T00:00:00Z")
+        0 * executor.schedule(*_)
+    }
+
+    def 'Updated features keep the count and extend the extent'() {
+        given:
+        store['a/stats/count'] = 10L
+        store['a/stats/spatial'] = bbox(0, 0, 10, 10).get()
+
+        when:
+        stats.update(change(FeatureChange.Action.UPDATE, ["1"], bbox(2, 2, 3, 3), bbox(-1, 2, 3, 3)), VALIDATOR, UnaryOperator.identity())
+
+        then:
+        store['a/stats/count'] == 10L
+        store['a/stats/spatial'] == bbox(-1, 0, 10, 10).get()
+        0 * executor.schedule(*_)
+    }
+
+    def 'Deleted features decrease the count and schedule a recomputation at the boundary'() {
+        given:
+        store['a/stats/count'] = 10L
+        store['a/stats/spatial'] = bbox(0, 0, 10, 10).get()
+
+        when:
+        stats.update(change(FeatureChange.Action.DELETE, ["1"], bbox(0, 2, 3, 3)), VALIDATOR, UnaryOperator.identity())
+
+        then:
+        store['a/stats/count'] == 9L
+        store['a/stats/spatial'] == bbox(0, 0, 10, 10).get()
+        1 * executor.schedule(_, 30000, _) >> { args -> args[0].run(); null }
+        recomputed == [["a", "spatial"]]
+    }
+
+    def 'Nothing is cached for types without cached stats'() {
+        when:
+        stats.update(change(FeatureChange.Action.CREATE, ["1"], Optional.empty(), bbox(5, 5, 12, 11)), VALIDATOR, UnaryOperator.identity())
+
+        then:
+        store.isEmpty()
+    }
+
+    def 'An update during a recomputation is not overwritten by the stale result'() {
+        given:
+        store['a/stats/spatial'] = bbox(0, 0, 10, 10).get()
+
+        when: 'a recomputation starts, then a feature is created before it finishes'
+        long version = stats.version("a", IncrementalStatsCache.SPATIAL)
+        stats.update(change(FeatureChange.Action.CREATE, ["1"], Optional.empty(), bbox(5, 5, 20, 20)), VALIDATOR, UnaryOperator.identity())
+        boolean cached = stats.putIfUnchanged("a", IncrementalStatsCache.SPATIAL, version, VALIDATOR, bbox(0, 0, 10, 10).get())
+
+        then: 'the stale result is discarded and computed again'
+        !cached
+        store['a/stats/spatial'] == bbox(0, 0, 20, 20).get()
+        1 * executor.schedule(*_)
+    }
+
+    def 'A recomputation without changes in the meantime is cached'() {
+        given:
+        store['a/stats/spatial'] = bbox(0, 0, 10, 10).get()
+
+        when:
+        long version = stats.version("a", IncrementalStatsCache.SPATIAL)
+        boolean cached = stats.putIfUnchanged("a", IncrementalStatsCache.SPATIAL, version, VALIDATOR, bbox(1, 1, 9, 9).get())
+
+        then:
+        cached
+        store['a/stats/spatial'] == bbox(1, 1, 9, 9).get()
+        0 * executor.schedule(*_)
+    }
+
+    def 'A cleared stat is not cached by a running computation'() {
+        when:
+        long version = stats.version("a", IncrementalStatsCache.COUNT)
+        stats.clear("a")
+        boolean cached = stats.putIfUnchanged("a", IncrementalStatsCache.COUNT, version, VALIDATOR, 10L)
+
+        then:
+        !cached
+        !store.containsKey('a/stats/count')
+    }
+
+    def 'At most one recomputation is pending and none after shutdown'() {
+        when:
+        stats.schedule("a", IncrementalStatsCache.SPATIAL)
+        stats.schedule("a", IncrementalStatsCache.SPATIAL)
+
+        then:
+        1 * executor.schedule(*_)
+
+        when:
+        stats.shutdown()
+        stats.schedule("a", IncrementalStatsCache.TEMPORAL)
+
+        then:
+        1 * executor.shutdownNow()
+        executor.isShutdown() >> true
+        0 * executor.schedule(*_)
+    }
+
+    def 'Recomputations are scheduled again after a restart'() {
+        given:
+        ScheduledExecutorService stopped = executor
+
+        when:
+        stats.shutdown()
+        executor = Mock(ScheduledExecutorService)
+        stats.start()
+        stats.schedule("a", IncrementalStatsCache.SPATIAL)
+
+        then:
+        1 * stopped.shutdownNow()
+        1 * executor.schedule(*_)
+    }
+}
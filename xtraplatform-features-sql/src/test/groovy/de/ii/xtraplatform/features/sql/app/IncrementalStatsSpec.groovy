@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app
+
+import de.ii.xtraplatform.crs.domain.BoundingBox
+import de.ii.xtraplatform.crs.domain.OgcCrs
+import de.ii.xtraplatform.features.domain.FeatureChange
+import de.ii.xtraplatform.features.domain.ImmutableFeatureChange
+import org.threeten.extra.Interval
+import spock.lang.Specification
+
+import java.time.Instant
+
+class IncrementalStatsSpec extends Specification {
+
+    static FeatureChange change(FeatureChange.Action action, List<String> ids) {
+        return ImmutableFeatureChange.builder()
+                .action(action)
+                .featureType("a")
+                .featureIds(ids)
+                .build()
+    }
+
+    static Optional<BoundingBox> bbox(double xmin, double ymin, double xmax, double ymax) {
+        return Optional.of(BoundingBox.of(xmin, ymin, xmax, ymax, OgcCrs.CRS84))
+    }
+
+    def 'Counts are adjusted for #action'() {
+        expect:
+        IncrementalStats.updateCount(10, change(action, ids)) == expected
+
+        where:
+        action                       | ids        || expected
+        FeatureChange.Action.CREATE  | ["1", "2"] || OptionalLong.of(12)
+        FeatureChange.Action.DELETE  | ["1"]      || OptionalLong.of(9)
+        FeatureChange.Action.UPDATE  | ["1"]      || OptionalLong.of(10)
+        FeatureChange.Action.CREATE  | []         || OptionalLong.empty()
+        FeatureChange.Action.UNKNOWN | ["1"]      || OptionalLong.empty()
+    }
+
+    def 'Spatial extents grow with added bboxes'() {
+        when:
+        def update = IncrementalStats.updateSpatialExtent(bbox(0, 0, 10, 10), bbox(5, 5, 12, 11), Optional.empty())
+
+        then:
+        update.value() == bbox(0, 0, 12, 11)
+        !update.recompute()
+    }
+
+    def 'Removed bboxes only require a recomputation at the boundary'() {
+        expect:
+        IncrementalStats.updateSpatialExtent(bbox(0, 0, 10, 10), Optional.empty(), removed).recompute() == expected
+
+        where:
+        removed           || expected
+        bbox(2, 2, 3, 3)  || false
+        bbox(0, 2, 3, 3)  || true
+        bbox(2, 2, 10, 3) || true
+    }
+
+    def 'Temporal extents grow with added intervals and are recomputed when the boundary is removed'() {
+        given:
+        def extent = Optional.of(Interval.of(Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2021-01-01T00:00:00Z")))
+        def added = Optional.of(Interval.of(Instant.parse("2021-06-01T00:00:00Z"), Instant.parse("2021-06-01T00:00:00Z")))
+        def inner = Optional.of(Interval.of(Instant.parse("2020-06-01T00:00:00Z"), Instant.parse("2020-06-01T00:00:00Z")))
+        def start = Optional.of(Interval.of(Instant.parse("2020-01-01T00:00:00Z"), Instant.parse("2020-01-01T00:00:00Z")))
+
+        expect:
+        IncrementalStats.updateTemporalExtent(extent, added, Optional.empty()).value().get().getEnd() == Instant.parse("2021-06-01T00:00:00Z")
+        !IncrementalStats.updateTemporalExtent(extent, Optional.empty(), inner).recompute()
+        IncrementalStats.updateTemporalExtent(extent, Optional.empty(), start).recompute()
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.sql.app
+
+import de.ii.xtraplatform.features.sql.domain.SqlSession
+import spock.lang.Specification
+
+class SqlCopyInsertsSpec extends Specification {
+
+    static SqlCopyInserts.Row row(List<String> values) {
+        return row(['name', 'height', 'geom'], values)
+    }
+
+    static SqlCopyInserts.Row row(List<String> columns, List<String> values, Set<String> forceClockwise = [] as Set) {
+        return new SqlCopyInserts.Row('app.building', 'id', columns, forceClockwise, values as String[])
+    }
+
+    def "COPY lines escape backslashes and control characters"() {
+        expect:
+        SqlCopyInserts.toCopyLine(["a\tb\nc\\d", null] as String[], 7) == "a\\tb\\nc\\\\d\t\\N\t7\n"
+    }
+
+    def "keys are read from the staging table ordered by the client-side row number"() {
+        given:
+        SqlSession sqlSession = Mock(SqlSession)
+        def copyInserts = new SqlCopyInserts(sqlSession)
+        def statements = []
+        String copied = null
+
+        when:
+        def ids = copyInserts.write([row(['a', '1', null]), row(['b', '2', null])])
+
+        then:
+        1 * sqlSession.runReturning({ it.startsWith('SELECT pg_get_serial_sequence') }) >> ['app.building_id_seq']
+        1 * sqlSession.copyIn({ it.startsWith('COPY xtra_copy_0 (name,height,geom,xtra_copy_ord)') }, _) >> { String sql, Reader data ->
+            copied = data.text
+            2L
+        }
+        1 * sqlSession.runReturning({ it.startsWith('SELECT id FROM xtra_copy_0 ORDER BY xtra_copy_ord') }) >> ['11', '12']
+        _ * sqlSession.runReturning(_) >> { String sql -> statements << sql; [] }
+
+        and:
+        ids == Optional.of(['11', '12'])
+        copied == "a\t1\t\\N\t0\nb\t2\t\\N\t1\n"
+        statements.any { it.startsWith('CREATE TEMP TABLE xtra_copy_0 ON COMMIT DROP') }
+        statements.any { it == "UPDATE xtra_copy_0 SET id = nextval('app.building_id_seq');" }
+        statements.any { it.startsWith('INSERT INTO app.building (id,name,height,geom) OVERRIDING SYSTEM VALUE SELECT id,name,height,geom FROM xtra_copy_0') }
+    }
+
+    def "nothing is written when the primary key has no sequence"() {
+        given:
+        SqlSession sqlSession = Mock(SqlSession)
+        def copyInserts = new SqlCopyInserts(sqlSession)
+
+        when:
+        def ids = copyInserts.write([row(['a', '1', null])])
+
+        then:
+        1 * sqlSession.runReturning({ it.startsWith('SELECT pg_get_serial_sequence') }) >> [null]
+        0 * sqlSession.copyIn(_, _)
+        ids.isEmpty()
+    }
+
+    def "clockwise polygons are applied per column in the INSERT SELECT"() {
+        given:
+        SqlSession sqlSession = Mock(SqlSession)
+        def copyInserts = new SqlCopyInserts(sqlSession)
+        def statements = []
+
+        when:
+        copyInserts.write([
+                row(['a', '1', 'SRID=25832;POINT(1 2)']),
+                row(['name', 'height', 'geom'], ['b', '2', 'SRID=25832;POLYGON((0 0,1 0,1 1,0 0))'], ['geom'] as Set)
+        ])
+
+        then:
+        1 * sqlSession.runReturning({ it.startsWith('SELECT pg_get_serial_sequence') }) >> ['app.building_id_seq']
+        1 * sqlSession.copyIn(_, _) >> 2L
+        _ * sqlSession.runReturning(_) >> { String sql -> statements << sql; [] }
+
+        and:
+        statements.any { it.startsWith('INSERT INTO app.building (id,name,height,geom) OVERRIDING SYSTEM VALUE SELECT id,name,height,ST_ForcePolygonCW(geom::geometry) FROM xtra_copy_0') }
+    }
+
+    def "nothing is written for rows with an explicit primary key or of different shape"() {
+        given:
+        SqlSession sqlSession = Mock(SqlSession)
+        def copyInserts = new SqlCopyInserts(sqlSession)
+
+        when:
+        def ids = copyInserts.write(rows)
+
+        then:
+        0 * sqlSession._
+        ids.isEmpty()
+
+        where:
+        rows << [
+                [],
+                [row(['id', 'name'], ['1', 'a'])],
+                [row(['a', '1', null]), row(['name', 'height'], ['b', '2'])]
+        ]
+    }
+}
@@ -105,6 +105,29 @@ class SqlLiteralsSpec extends Specification {
         type << [SchemaBase.Type.ENCRYPTED, SchemaBase.Type.ENCRYPTED_ARRAY]
     }
 
+    def "values are converted to the COPY text representation of their type"() {
+        expect:
+        SqlLiterals.copyText(type, value) == expected
+
+        where:
+        type                     | value                  || expected
+        SchemaBase.Type.STRING   | "O'Brien"              || "O'Brien"
+        SchemaBase.Type.DATETIME | "2020-01-01T00:00:00Z" || "2020-01-01T00:00:00Z"
+        SchemaBase.Type.INTEGER  | "+7"                   || "7"
+        SchemaBase.Type.FLOAT    | "1.5e-3"               || "0.0015"
+        SchemaBase.Type.BOOLEAN  | "yes"                  || "t"
+        SchemaBase.Type.BOOLEAN  | "0"                    || "f"
+        SchemaBase.Type.STRING   | null                   || null
+    }
+
+    def "invalid values are rejected for COPY like for literals"() {
+        when:
+        SqlLiterals.copyText(SchemaBase.Type.INTEGER, "1; DROP TABLE x")
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def "encrypted values are rendered as a bytea literal that decrypts to the plaintext"() {
         given: 'an encryption key'
         def key = (0..31).collect { it as byte } as byte[]
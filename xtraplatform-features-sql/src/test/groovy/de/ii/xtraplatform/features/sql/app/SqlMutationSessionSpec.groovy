@@ -7,7 +7,12 @@
  */
 package de.ii.xtraplatform.features.sql.app
 
+import de.ii.xtraplatform.crs.domain.EpsgCrs
+import de.ii.xtraplatform.features.domain.FeatureTokenSource
+import de.ii.xtraplatform.features.sql.domain.SqlQueryMapping
+import de.ii.xtraplatform.features.sql.domain.SqlQuerySchema
 import de.ii.xtraplatform.features.sql.domain.SqlSession
+import de.ii.xtraplatform.streams.domain.Reactive
 import spock.lang.Specification
 
 /**
@@ -162,4 +167,104 @@ class SqlMutationSessionSpec extends Specification {
         ex.message.contains('unknown_type')
         0 * sqlSession.runReturning(_)
     }
+
+    def 'created features are written in chunks and the remainder on flush'() {
+        given:
+        List<Integer> chunks = []
+        def writer = new SqlMutationSession.ChunkedWriter(3, { chunk -> chunks << chunk.size() })
+
+        when:
+        7.times { writer.accept(Mock(FeatureDataSql)) }
+
+        then: 'only full chunks are written while the stream is drained'
+        chunks == [3, 3]
+        writer.getWritten() == 6
+
+        when:
+        writer.flush()
+        writer.flush()
+
+        then: 'the remainder is written once'
+        chunks == [3, 3, 1]
+        writer.getWritten() == 7
+        writer.getError().isEmpty()
+    }
+
+    def 'a failing chunk is kept as the error of the writer'() {
+        given:
+        def failure = new IllegalStateException('insert failed')
+        int calls = 0
+        def writer = new SqlMutationSession.ChunkedWriter(2, { chunk -> if (++calls == 2) throw failure })
+
+        when:
+        4.times { writer.accept(Mock(FeatureDataSql)) }
+
+        then:
+        def ex = thrown(IllegalStateException)
+        ex.is(failure)
+        writer.getError() == Optional.of(failure)
+        writer.getWritten() == 2
+    }
+
+    private Map buildingMapping() {
+        SqlQuerySchema mainTable = Stub(SqlQuerySchema) {
+            getFullPath() >> ['building']
+        }
+        SqlQueryMapping mapping = Stub(SqlQueryMapping) {
+            getMainTable() >> mainTable
+            getColumnForId() >> Optional.empty()
+        }
+        return ['building': [mapping]]
+    }
+
+    private static FeatureTokenSource failingSource() {
+        Reactive.Source<Object> delegate = Stub(Reactive.Source) {
+            via(_) >> { throw new IllegalStateException('decoding failed') }
+        }
+        return new FeatureTokenSource(delegate)
+    }
+
+    def 'a chunked CREATE is written under its own savepoint'() {
+        given:
+        def session = buildSession(buildingMapping())
+
+        when:
+        def result = session.createFeatures('building', [], EpsgCrs.of(4326))
+
+        then:
+        1 * sqlSession.savepoint()
+        1 * sqlSession.releaseSavepoint()
+        0 * sqlSession.rollbackToSavepoint()
+        result.getError().isEmpty()
+    }
+
+    def 'a failed chunked CREATE is rolled back to its own savepoint and reports no ids'() {
+        given:
+        def session = buildSession(buildingMapping())
+
+        when:
+        def result = session.createFeatures('building', [failingSource()], EpsgCrs.of(4326))
+
+        then:
+        1 * sqlSession.savepoint()
+        1 * sqlSession.rollbackToSavepoint()
+        0 * sqlSession.releaseSavepoint()
+        result.getError().get().message == 'decoding failed'
+        result.getIds().isEmpty()
+    }
+
+    def 'a chunked CREATE within a savepoint of the caller leaves the rollback to the caller'() {
+        given:
+        def session = buildSession(buildingMapping())
+        session.savepoint()
+
+        when:
+        def result = session.createFeatures('building', [failingSource()], EpsgCrs.of(4326))
+
+        then:
+        0 * sqlSession.savepoint()
+        0 * sqlSession.rollbackToSavepoint()
+        0 * sqlSession.releaseSavepoint()
+        result.getError().isPresent()
+    }
 }
@@ -9,36 +9,89 @@ package de.ii.xtraplatform.features.app;
 
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import de.ii.xtraplatform.base.domain.LogContext;
+import de.ii.xtraplatform.crs.domain.BoundingBox;
 import de.ii.xtraplatform.features.domain.DatasetChange;
 import de.ii.xtraplatform.features.domain.DatasetChangeListener;
 import de.ii.xtraplatform.features.domain.FeatureChange;
 import de.ii.xtraplatform.features.domain.FeatureChangeListener;
 import de.ii.xtraplatform.features.domain.FeatureChanges;
+import de.ii.xtraplatform.features.domain.ImmutableFeatureChange;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.threeten.extra.Interval;
 
+/**
+ * Dispatches dataset and feature changes to the registered listeners on a single thread.
+ *
+ * <p>Feature changes are coalesced for the given window, so that e.g. a bulk import only triggers
+ * one notification per type with the merged ids, bounding boxes and intervals. Only consecutive
+ * changes of a type with the same action are merged, so that the order of the actions for a type
+ * is kept, e.g. a feature that is created, deleted and created again is delivered as three
+ * changes. The ids of merged changes are kept as they were reported, including duplicates. When
+ * more than {@code maxPending} changes are waiting, the calling thread blocks until
+ * they have been dispatched. Waiting feature changes are dispatched before a dataset change, so
+ * that all changes reach the listeners in the order they were reported. A failing listener is
+ * logged and does not prevent the notification of the other listeners.
+ */
 public class FeatureChangeHandlerImpl implements FeatureChanges {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FeatureChangeHandlerImpl.class);
 
-  private final ExecutorService executor;
+  public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(1);
+  public static final int DEFAULT_MAX_PENDING = 10_000;
+
+  private final ScheduledExecutorService executor;
   private final List<DatasetChangeListener> datasetListeners;
   private final List<FeatureChangeListener> featureListeners;
+  private final Duration window;
+  private final int maxPending;
+  private final List<PendingChange> pending;
+  private final Map<String, PendingChange> lastPendingPerType;
+  private int pendingCount;
+  private boolean flushScheduled;
+  private volatile Thread dispatcher;
 
   public FeatureChangeHandlerImpl() {
-    ThreadPoolExecutor threadPoolExecutor =
-        (ThreadPoolExecutor)
-            Executors.newFixedThreadPool(
-                1, new ThreadFactoryBuilder().setNameFormat("feature.changes-%d").build());
+    this(DEFAULT_WINDOW, DEFAULT_MAX_PENDING);
+  }
+
+  public FeatureChangeHandlerImpl(Duration window, int maxPending) {
+    ThreadFactory threadFactory =
+        new ThreadFactoryBuilder().setNameFormat("feature.changes-%d").build();
+    ScheduledThreadPoolExecutor threadPoolExecutor =
+        (ScheduledThreadPoolExecutor)
+            Executors.newScheduledThreadPool(
+                1,
+                runnable -> {
+                  Thread thread = threadFactory.newThread(runnable);
+                  this.dispatcher = thread;
+                  return thread;
+                });
 
-    this.executor = MoreExecutors.getExitingExecutorService(threadPoolExecutor);
+    this.executor = MoreExecutors.getExitingScheduledExecutorService(threadPoolExecutor);
     this.datasetListeners = new CopyOnWriteArrayList<>();
     this.featureListeners = new CopyOnWriteArrayList<>();
+    this.window = window;
+    this.maxPending = Math.max(1, maxPending);
+    this.pending = new ArrayList<>();
+    this.lastPendingPerType = new HashMap<>();
   }
 
   @Override
@@ -65,6 +118,9 @@ public class FeatureChangeHandlerImpl implements FeatureChanges {
   public void handle(DatasetChange change) {
     executor.submit(
         () -> {
+          // feature changes that were reported before must not be overtaken
+          flush();
+
           if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Handling dataset change: {}", change);
           }
@@ -76,27 +132,158 @@ public class FeatureChangeHandlerImpl implements FeatureChanges {
                       "Notifying dataset change listener: {}", listener.getClass().getSimpleName());
                 }
 
-                listener.onDatasetChange(change);
+                try {
+                  listener.onDatasetChange(change);
+                } catch (RuntimeException e) {
+                  LogContext.error(
+                      LOGGER,
+                      e,
+                      "Dataset change listener {} failed",
+                      listener.getClass().getSimpleName());
+                }
               });
         });
   }
 
   @Override
   public void handle(FeatureChange change) {
-    executor.submit(
-        () -> {
+    if (window.isZero() || window.isNegative()) {
+      executor.submit(() -> notify(change));
+      return;
+    }
+
+    boolean full;
+
+    synchronized (pending) {
+      PendingChange last = lastPendingPerType.get(change.getFeatureType());
+
+      if (Objects.nonNull(last) && last.action == change.getAction()) {
+        last.add(change);
+      } else {
+        PendingChange next = new PendingChange(change.getFeatureType(), change.getAction());
+        next.add(change);
+        pending.add(next);
+        lastPendingPerType.put(change.getFeatureType(), next);
+      }
+      this.pendingCount++;
+      full = pendingCount >= maxPending;
+
+      if (!full && !flushScheduled) {
+        this.flushScheduled = true;
+        executor.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+      }
+    }
+
+    if (full) {
+      awaitFlush();
+    }
+  }
+
+  private void awaitFlush() {
+    // a listener that reports further changes must not wait for itself
+    if (Thread.currentThread() == dispatcher) {
+      flush();
+      return;
+    }
+
+    Future<?> flushed = executor.submit(this::flush);
+    try {
+      flushed.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      LogContext.error(LOGGER, e.getCause(), "Error while handling feature changes");
+    }
+  }
+
+  private void flush() {
+    List<FeatureChange> changes;
+
+    synchronized (pending) {
+      changes = pending.stream().map(PendingChange::toFeatureChange).toList();
+      pending.clear();
+      lastPendingPerType.clear();
+      this.pendingCount = 0;
+      this.flushScheduled = false;
+    }
+
+    changes.forEach(this::notify);
+  }
+
+  private void notify(FeatureChange change) {
+    if (LOGGER.isTraceEnabled()) {
+      LOGGER.trace("Handling feature change: {}", change);
+    }
+
+    featureListeners.forEach(
+        listener -> {
           if (LOGGER.isTraceEnabled()) {
-            LOGGER.trace("Handling feature change: {}", change);
+            LOGGER.trace(
+                "Notifying feature change listener: {}", listener.getClass().getSimpleName());
           }
 
-          featureListeners.forEach(
-              listener -> {
-                if (LOGGER.isTraceEnabled()) {
-                  LOGGER.trace(
-                      "Notifying feature change listener: {}", listener.getClass().getSimpleName());
-                }
-                listener.onFeatureChange(change);
-              });
+          // the other listeners and the remaining changes of the batch are still notified
+          try {
+            listener.onFeatureChange(change);
+          } catch (RuntimeException e) {
+            LogContext.error(
+                LOGGER,
+                e,
+                "Feature change listener {} failed for type '{}'",
+                listener.getClass().getSimpleName(),
+                change.getFeatureType());
+          }
         });
   }
+
+  private static <T> Optional<T> merge(
+      Optional<T> first, Optional<T> second, BinaryOperator<T> merger) {
+    if (first.isEmpty()) {
+      return second;
+    }
+    if (second.isEmpty()) {
+      return first;
+    }
+    return Optional.of(merger.apply(first.get(), second.get()));
+  }
+
+  private static final class PendingChange {
+    private final String featureType;
+    private final FeatureChange.Action action;
+    private final List<String> featureIds;
+    private Optional<BoundingBox> oldBoundingBox;
+    private Optional<BoundingBox> newBoundingBox;
+    private Optional<Interval> oldInterval;
+    private Optional<Interval> newInterval;
+
+    PendingChange(String featureType, FeatureChange.Action action) {
+      this.featureType = featureType;
+      this.action = action;
+      this.featureIds = new ArrayList<>();
+      this.oldBoundingBox = Optional.empty();
+      this.newBoundingBox = Optional.empty();
+      this.oldInterval = Optional.empty();
+      this.newInterval = Optional.empty();
+    }
+
+    void add(FeatureChange change) {
+      featureIds.addAll(change.getFeatureIds());
+      this.oldBoundingBox = merge(oldBoundingBox, change.getOldBoundingBox(), BoundingBox::merge);
+      this.newBoundingBox = merge(newBoundingBox, change.getNewBoundingBox(), BoundingBox::merge);
+      this.oldInterval = merge(oldInterval, change.getOldInterval(), Interval::span);
+      this.newInterval = merge(newInterval, change.getNewInterval(), Interval::span);
+    }
+
+    FeatureChange toFeatureChange() {
+      return ImmutableFeatureChange.builder()
+          .action(action)
+          .featureType(featureType)
+          .featureIds(featureIds)
+          .oldBoundingBox(oldBoundingBox)
+          .newBoundingBox(newBoundingBox)
+          .oldInterval(oldInterval)
+          .newInterval(newInterval)
+          .build();
+    }
+  }
 }
@@ -44,6 +44,7 @@ import de.ii.xtraplatform.streams.domain.Reactive.Runner;
 import de.ii.xtraplatform.streams.domain.Reactive.Stream;
 import de.ii.xtraplatform.values.domain.Values;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -69,6 +70,8 @@ public abstract class AbstractFeatureProvider<
     implements FeatureProviderEntity, FeatureProvider, FeatureInfo, FeatureQueries {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractFeatureProvider.class);
+  protected static final Duration DEFAULT_FEATURE_CHANGES_WINDOW =
+      FeatureChangeHandlerImpl.DEFAULT_WINDOW;
   protected static final WithScope WITH_SCOPE_RETURNABLE = new WithScope(Scope.RETURNABLE);
   protected static final WithScope WITH_SCOPE_QUERIES =
       new WithScope(
@@ -104,6 +107,32 @@ public abstract class AbstractFeatureProvider<
       Encryption encryption,
       FeatureProviderDataV2 data,
       VolatileRegistry volatileRegistry) {
+    this(
+        connectorFactory,
+        reactive,
+        crsTransformerFactory,
+        crsInfo,
+        extensionRegistry,
+        codelistStore,
+        auditLog,
+        encryption,
+        data,
+        volatileRegistry,
+        DEFAULT_FEATURE_CHANGES_WINDOW);
+  }
+
+  protected AbstractFeatureProvider(
+      ConnectorFactory connectorFactory,
+      Reactive reactive,
+      CrsTransformerFactory crsTransformerFactory,
+      CrsInfo crsInfo,
+      ProviderExtensionRegistry extensionRegistry,
+      Values<Codelist> codelistStore,
+      AuditLog auditLog,
+      Encryption encryption,
+      FeatureProviderDataV2 data,
+      VolatileRegistry volatileRegistry,
+      Duration featureChangesWindow) {
     super(data, volatileRegistry);
     this.connectorFactory = connectorFactory;
     this.reactive = reactive;
@@ -114,7 +143,9 @@ public abstract class AbstractFeatureProvider<
     this.auditLog = auditLog;
     this.encryption = encryption;
     this.volatileRegistry = volatileRegistry;
-    this.changeHandler = new FeatureChangeHandlerImpl();
+    this.changeHandler =
+        new FeatureChangeHandlerImpl(
+            featureChangesWindow, FeatureChangeHandlerImpl.DEFAULT_MAX_PENDING);
     this.connector =
         new DelayedVolatile<>(
             volatileRegistry,
@@ -324,6 +355,14 @@ public abstract class AbstractFeatureProvider<
   @Override
   protected void onStopped() {
     if (connector.isPresent()) {
+      extensionRegistry
+          .getAll()
+          .forEach(
+              extension -> {
+                if (extension.isSupported(connector.get(), getData())) {
+                  extension.on(LIFECYCLE_HOOK.STOPPED, this, connector.get());
+                }
+              });
       connectorFactory.disposeConnector(connector.get());
     }
     LOGGER.info("Feature provider with id '{}' stopped.", getId());
@@ -138,7 +138,8 @@ import java.util.function.BiConsumer;
 public interface FeatureQueriesExtension {
 
   enum LIFECYCLE_HOOK {
-    STARTED
+    STARTED,
+    STOPPED
   }
 
   enum QUERY_HOOK {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.domain.transform;
+
+import de.ii.xtraplatform.cql.domain.CqlFeatureAccessor;
+import de.ii.xtraplatform.cql.domain.In;
+import de.ii.xtraplatform.features.domain.FeatureSchema;
+import de.ii.xtraplatform.features.domain.PropertyBase;
+import de.ii.xtraplatform.features.domain.SchemaBase.Type;
+import java.util.List;
+import java.util.Objects;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Evaluates compiled filters against {@link FeatureSfFlat}, see {@link
+ * de.ii.xtraplatform.cql.domain.Cql#compile}. Values are typed according to the schema, arrays are
+ * returned as lists and geometries as JTS geometries in the CRS of the feature.
+ */
+public class FeatureAccessorSfFlat implements CqlFeatureAccessor<FeatureSfFlat> {
+
+  private final GeometryFactory geometryFactory;
+
+  public FeatureAccessorSfFlat() {
+    this(new GeometryFactory());
+  }
+
+  public FeatureAccessorSfFlat(GeometryFactory geometryFactory) {
+    this.geometryFactory = geometryFactory;
+  }
+
+  @Override
+  public Object getValue(FeatureSfFlat feature, String property) {
+    if (In.ID_PLACEHOLDER.equals(property)) {
+      return feature.getIdValue();
+    }
+
+    for (PropertySfFlat p : feature.getProperties()) {
+      if (Objects.equals(p.getName(), property)) {
+        return getValue(p);
+      }
+    }
+
+    return null;
+  }
+
+  private Object getValue(PropertySfFlat property) {
+    Type type = property.getSchema().map(FeatureSchema::getType).orElse(Type.UNKNOWN);
+
+    if (type == Type.GEOMETRY || property.getType() == PropertyBase.Type.GEOMETRY) {
+      return property.getJtsGeometry(geometryFactory).orElse(null);
+    }
+
+    switch (property.getType()) {
+      case VALUE:
+        return getValue(property.getValue(), type);
+      case ARRAY:
+        List<Object> values =
+            property.getNestedProperties().stream()
+                .map(this::getValue)
+                .filter(Objects::nonNull)
+                .toList();
+        return values.isEmpty() ? null : values;
+      default:
+        return null;
+    }
+  }
+
+  private static Object getValue(String value, Type type) {
+    if (Objects.isNull(value)) {
+      return null;
+    }
+
+    switch (type) {
+      case BOOLEAN:
+        return "t".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) || "1".equals(value);
+      case INTEGER:
+        try {
+          return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      case FLOAT:
+        try {
+          return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      default:
+        // dates and timestamps are parsed by the filter when they are compared to temporal values
+        return value;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.app
+
+import de.ii.xtraplatform.crs.domain.BoundingBox
+import de.ii.xtraplatform.crs.domain.OgcCrs
+import de.ii.xtraplatform.features.domain.DatasetChange
+import de.ii.xtraplatform.features.domain.DatasetChangeListener
+import de.ii.xtraplatform.features.domain.FeatureChange
+import de.ii.xtraplatform.features.domain.FeatureChangeListener
+import de.ii.xtraplatform.features.domain.ImmutableDatasetChange
+import de.ii.xtraplatform.features.domain.ImmutableFeatureChange
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+class FeatureChangeHandlerImplSpec extends Specification {
+
+    static FeatureChange change(String type, String id, FeatureChange.Action action, BoundingBox bbox) {
+        return ImmutableFeatureChange.builder()
+                .action(action)
+                .featureType(type)
+                .featureIds([id])
+                .newBoundingBox(Optional.ofNullable(bbox))
+                .build()
+    }
+
+    def 'Feature changes are coalesced per type and action'() {
+        given:
+        def handler = new FeatureChangeHandlerImpl(Duration.ofMillis(100), 1000)
+        List<FeatureChange> received = new CopyOnWriteArrayList<>()
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> received.add(c) })
+
+        when:
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, BoundingBox.of(0, 0, 1, 1, OgcCrs.CRS84)))
+        handler.handle(change("a", "2", FeatureChange.Action.CREATE, BoundingBox.of(2, 2, 3, 3, OgcCrs.CRS84)))
+        handler.handle(change("a", "3", FeatureChange.Action.DELETE, null))
+        handler.handle(change("b", "4", FeatureChange.Action.CREATE, null))
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert received.size() == 3
+        }
+        def created = received.find { it.featureType == "a" && it.action == FeatureChange.Action.CREATE }
+        created.featureIds == ["1", "2"]
+        created.newBoundingBox.get() == BoundingBox.of(0, 0, 3, 3, OgcCrs.CRS84)
+        received.find { it.featureType == "a" && it.action == FeatureChange.Action.DELETE }.featureIds == ["3"]
+        received.find { it.featureType == "b" }.featureIds == ["4"]
+    }
+
+    def 'Only consecutive changes with the same action are coalesced'() {
+        given:
+        def handler = new FeatureChangeHandlerImpl(Duration.ofHours(1), 6)
+        List<FeatureChange> received = new CopyOnWriteArrayList<>()
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> received.add(c) })
+
+        when:
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, null))
+        handler.handle(change("b", "2", FeatureChange.Action.CREATE, null))
+        handler.handle(change("a", "1", FeatureChange.Action.DELETE, null))
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, null))
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, null))
+        handler.handle(change("b", "3", FeatureChange.Action.CREATE, null))
+
+        then:
+        received.collect { [it.featureType, it.action, it.featureIds] } == [
+                ["a", FeatureChange.Action.CREATE, ["1"]],
+                ["b", FeatureChange.Action.CREATE, ["2", "3"]],
+                ["a", FeatureChange.Action.DELETE, ["1"]],
+                ["a", FeatureChange.Action.CREATE, ["1", "1"]]
+        ]
+    }
+
+    def 'A full queue is dispatched before handle returns'() {
+        given:
+        def handler = new FeatureChangeHandlerImpl(Duration.ofHours(1), 2)
+        List<FeatureChange> received = new CopyOnWriteArrayList<>()
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> received.add(c) })
+
+        when:
+        handler.handle(change("a", "1", FeatureChange.Action.UPDATE, null))
+        handler.handle(change("a", "2", FeatureChange.Action.UPDATE, null))
+
+        then:
+        received.size() == 1
+        received[0].featureIds == ["1", "2"]
+    }
+
+    def 'A failing listener does not stop the notification of other listeners and changes'() {
+        given:
+        def handler = new FeatureChangeHandlerImpl(Duration.ofHours(1), 2)
+        List<FeatureChange> received = new CopyOnWriteArrayList<>()
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> throw new IllegalStateException("failed") })
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> received.add(c) })
+
+        when:
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, null))
+        handler.handle(change("b", "2", FeatureChange.Action.CREATE, null))
+
+        then:
+        received.collect { it.featureType } == ["a", "b"]
+    }
+
+    def 'Waiting feature changes are dispatched before a dataset change'() {
+        given:
+        def handler = new FeatureChangeHandlerImpl(Duration.ofHours(1), 1000)
+        List<String> received = new CopyOnWriteArrayList<>()
+        handler.addListener((FeatureChangeListener) { FeatureChange c -> received.add(c.featureType) })
+        handler.addListener((DatasetChangeListener) { DatasetChange c -> received.add("dataset") })
+
+        when:
+        handler.handle(change("a", "1", FeatureChange.Action.CREATE, null))
+        handler.handle(ImmutableDatasetChange.builder().featureTypes(["a"]).build())
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert received == ["a", "dataset"]
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.features.domain.transform
+
+import de.ii.xtraplatform.cql.app.CqlImpl
+import de.ii.xtraplatform.cql.domain.Cql
+import de.ii.xtraplatform.features.domain.FeatureSchema
+import de.ii.xtraplatform.features.domain.ImmutableFeatureSchema
+import de.ii.xtraplatform.features.domain.PropertyBase
+import de.ii.xtraplatform.features.domain.SchemaBase
+import de.ii.xtraplatform.geometries.domain.Point
+import org.locationtech.jts.geom.Geometry
+import spock.lang.Shared
+import spock.lang.Specification
+
+class FeatureAccessorSfFlatSpec extends Specification {
+
+    @Shared
+    Cql cql = new CqlImpl()
+
+    @Shared
+    FeatureAccessorSfFlat accessor = new FeatureAccessorSfFlat()
+
+    @Shared
+    FeatureSfFlat feature = ModifiableFeatureSfFlat.create()
+            .addProperties(value(schema("id", SchemaBase.Type.STRING, SchemaBase.Role.ID), "42"))
+            .addProperties(value(schema("name", SchemaBase.Type.STRING), "Mike"))
+            .addProperties(value(schema("floors", SchemaBase.Type.INTEGER), "5"))
+            .addProperties(value(schema("height", SchemaBase.Type.FLOAT), "12.5"))
+            .addProperties(value(schema("pool", SchemaBase.Type.BOOLEAN), "t"))
+            .addProperties(value(schema("updated", SchemaBase.Type.DATETIME), "2017-06-10T07:30:00Z"))
+            .addProperties(array(schema("tags", SchemaBase.Type.VALUE_ARRAY), ["a", "b"]))
+            .addProperties(ModifiablePropertySfFlat.create()
+                    .type(PropertyBase.Type.GEOMETRY)
+                    .schema(schema("location", SchemaBase.Type.GEOMETRY, SchemaBase.Role.PRIMARY_GEOMETRY))
+                    .geometry(Point.of(7.5, 50.5)))
+
+    static FeatureSchema schema(String name, SchemaBase.Type type, SchemaBase.Role role = null) {
+        def builder = new ImmutableFeatureSchema.Builder().name(name).type(type)
+        if (role != null) {
+            builder.role(role)
+        }
+        return builder.build()
+    }
+
+    static PropertySfFlat value(FeatureSchema schema, String value) {
+        return ModifiablePropertySfFlat.create()
+                .type(PropertyBase.Type.VALUE)
+                .schema(schema)
+                .value(value)
+    }
+
+    static PropertySfFlat array(FeatureSchema schema, List<String> values) {
+        def array = ModifiablePropertySfFlat.create()
+                .type(PropertyBase.Type.ARRAY)
+                .schema(schema)
+        values.each {
+            array.addNestedProperties(value(new ImmutableFeatureSchema.Builder().name(schema.getName()).type(SchemaBase.Type.STRING).build(), it))
+        }
+        return array
+    }
+
+    def 'Values are typed by the schema'() {
+        expect:
+        accessor.getValue(feature, "_ID_") == "42"
+        accessor.getValue(feature, "floors") == 5L
+        accessor.getValue(feature, "height") == 12.5d
+        accessor.getValue(feature, "pool") == true
+        accessor.getValue(feature, "updated") == "2017-06-10T07:30:00Z"
+        accessor.getValue(feature, "tags") == ["a", "b"]
+        accessor.getValue(feature, "location") instanceof Geometry
+        accessor.getValue(feature, "missing") == null
+    }
+
+    def 'Compiled filter on a flat feature - #filter'() {
+        expect:
+        cql.compile(cql.read(filter, Cql.Format.TEXT), accessor).test(feature) == expected
+
+        where:
+        filter                                                  || expected
+        "floors = 5 AND height > 12"                            || true
+        "pool = false"                                          || false
+        "name LIKE 'Mi%'"                                       || true
+        "updated > DATE('2017-06-10')"                          || false
+        "updated <= DATE('2017-06-10')"                         || true
+        "A_CONTAINS(tags, ('b'))"                               || true
+        "S_INTERSECTS(location, BBOX(7, 50, 8, 51))"            || true
+        "missing = 1"                                           || false
+    }
+}
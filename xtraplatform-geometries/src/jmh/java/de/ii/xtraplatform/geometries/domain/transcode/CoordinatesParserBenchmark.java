@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain.transcode;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link CoordinatesParser} with the previous approach of splitting a GML posList with a
+ * regular expression and parsing every token with {@link Double#parseDouble(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CoordinatesParserBenchmark {
+
+  @Param({"100", "10000", "500000"})
+  public int positions;
+
+  private String posList;
+  private CoordinatesParser parser;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < positions; i++) {
+      builder.append(
+          String.format(
+              Locale.US,
+              "%.8f %.8f\n",
+              50 + random.nextDouble() * 5,
+              7 + random.nextDouble() * 5));
+    }
+    this.posList = builder.toString();
+    this.parser = new CoordinatesParser();
+  }
+
+  @Benchmark
+  public double[] coordinatesParser() {
+    return parser.reset().parse(posList).toArray();
+  }
+
+  @Benchmark
+  public double[] splitAndParseDouble() {
+    String[] tokens = posList.trim().split("[ \n\r\t,]+");
+    double[] values = new double[tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      values[i] = Double.parseDouble(tokens[i]);
+    }
+    return values;
+  }
+}
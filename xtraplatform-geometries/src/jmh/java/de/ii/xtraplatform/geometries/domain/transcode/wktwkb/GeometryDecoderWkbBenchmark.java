@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain.transcode.wktwkb;
+
+import de.ii.xtraplatform.geometries.domain.Axes;
+import de.ii.xtraplatform.geometries.domain.Geometry;
+import de.ii.xtraplatform.geometries.domain.MultiPolygon;
+import de.ii.xtraplatform.geometries.domain.Polygon;
+import de.ii.xtraplatform.geometries.domain.PositionList;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link GeometryDecoderWkb} with the previous stream based approach ({@link
+ * #decodeWithDataInputStream(byte[])}, reading every double through {@link
+ * DataInputStream#readLong()}) on polygon heavy WKB. Both build the same {@link MultiPolygon}, so
+ * only the reading of the WKB differs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeometryDecoderWkbBenchmark {
+
+  @Param({"100", "10000", "500000"})
+  public int verticesPerPolygon;
+
+  @Param({"5"})
+  public int polygons;
+
+  private byte[] wkb;
+  private GeometryDecoderWkb decoder;
+
+  @Setup
+  public void setup() throws IOException {
+    List<Polygon> parts = new ArrayList<>();
+    for (int p = 0; p < polygons; p++) {
+      parts.add(
+          Polygon.of(
+              List.of(
+                  ring(p * 10.0, 0, 4, verticesPerPolygon),
+                  ring(p * 10.0, 0, 1, verticesPerPolygon / 10 + 4))));
+    }
+    this.wkb = new GeometryEncoderWkb().encode(MultiPolygon.of(parts));
+    this.decoder = new GeometryDecoderWkb();
+  }
+
+  @Benchmark
+  public Geometry<?> byteBuffer() throws IOException {
+    return decoder.decode(wkb);
+  }
+
+  @Benchmark
+  public Geometry<?> dataInputStream() throws IOException {
+    return decodeWithDataInputStream(wkb);
+  }
+
+  private static PositionList ring(double cx, double cy, double radius, int numVertices) {
+    double[] coordinates = new double[numVertices * 2];
+    for (int i = 0; i < numVertices - 1; i++) {
+      double angle = 2 * Math.PI * i / (numVertices - 1);
+      coordinates[i * 2] = cx + radius * Math.cos(angle);
+      coordinates[i * 2 + 1] = cy + radius * Math.sin(angle);
+    }
+    coordinates[(numVertices - 1) * 2] = coordinates[0];
+    coordinates[(numVertices - 1) * 2 + 1] = coordinates[1];
+    return PositionList.of(Axes.XY, coordinates);
+  }
+
+  // baseline, mirrors the previous implementation for MULTIPOLYGON/POLYGON in XY
+  private static MultiPolygon decodeWithDataInputStream(byte[] wkb) throws IOException {
+    try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(wkb))) {
+      boolean isLittleEndian = dis.readByte() == 1;
+      readUnsignedInt(dis, isLittleEndian);
+      long numPolygons = readUnsignedInt(dis, isLittleEndian);
+      List<Polygon> result = new ArrayList<>();
+      for (int p = 0; p < numPolygons; p++) {
+        boolean isLittleEndianPolygon = dis.readByte() == 1;
+        readUnsignedInt(dis, isLittleEndianPolygon);
+        long numRings = readUnsignedInt(dis, isLittleEndianPolygon);
+        List<PositionList> rings = new ArrayList<>();
+        for (int r = 0; r < numRings; r++) {
+          long numPoints = readUnsignedInt(dis, isLittleEndianPolygon);
+          double[] coords = new double[2 * (int) numPoints];
+          for (int i = 0; i < coords.length; i++) {
+            long v = dis.readLong();
+            coords[i] = Double.longBitsToDouble(isLittleEndianPolygon ? Long.reverseBytes(v) : v);
+          }
+          rings.add(PositionList.of(Axes.XY, coords));
+        }
+        result.add(Polygon.of(rings));
+      }
+      return MultiPolygon.of(result);
+    }
+  }
+
+  private static long readUnsignedInt(DataInputStream dis, boolean isLittleEndian)
+      throws IOException {
+    int v = dis.readInt();
+    return (isLittleEndian ? Integer.reverseBytes(v) : v) & 0xFFFFFFFFL;
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain.transcode;
+
+import java.util.Arrays;
+
+/**
+ * Parses coordinate values separated by whitespace or commas, e.g. the text of a GML posList or
+ * the positions of a WKT geometry, directly from the characters into a growable double array.
+ *
+ * <p>Numbers with up to 15 significant digits and a decimal exponent of at most 22 are converted
+ * exactly with a single multiplication or division, all other numbers fall back to {@link
+ * Double#parseDouble(String)}, which also handles invalid input.
+ *
+ * <p>Instances are not thread-safe, they are meant to be reused with {@link #reset()}.
+ */
+public class CoordinatesParser {
+
+  private static final int MAX_FAST_DIGITS = 15;
+  private static final int MAX_FAST_EXPONENT = 22;
+  private static final double[] POW10 = new double[MAX_FAST_EXPONENT + 1];
+
+  static {
+    POW10[0] = 1;
+    for (int i = 1; i < POW10.length; i++) {
+      POW10[i] = POW10[i - 1] * 10;
+    }
+  }
+
+  private double[] values;
+  private int size;
+
+  public CoordinatesParser() {
+    this.values = new double[64];
+    this.size = 0;
+  }
+
+  public CoordinatesParser reset() {
+    this.size = 0;
+    return this;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return a copy of the values parsed since the last {@link #reset()}
+   */
+  public double[] toArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  public CoordinatesParser parse(CharSequence text) {
+    return parse(text, 0, text.length());
+  }
+
+  /**
+   * Appends all values found in the given range.
+   *
+   * @throws NumberFormatException if a value is not a valid number
+   */
+  public CoordinatesParser parse(CharSequence text, int start, int end) {
+    int i = start;
+    while (i < end) {
+      char c = text.charAt(i);
+      if (isSeparator(c)) {
+        i++;
+        continue;
+      }
+      int tokenEnd = i + 1;
+      while (tokenEnd < end && !isSeparator(text.charAt(tokenEnd))) {
+        tokenEnd++;
+      }
+      add(parseNumber(text, i, tokenEnd));
+      i = tokenEnd;
+    }
+    return this;
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == ' ' || c == ',' || c == '\n' || c == '\r' || c == '\t';
+  }
+
+  @SuppressWarnings("PMD.CyclomaticComplexity")
+  private static double parseNumber(CharSequence text, int start, int end) {
+    int i = start;
+    boolean negative = false;
+    char c = text.charAt(i);
+    if (c == '-' || c == '+') {
+      negative = c == '-';
+      i++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int exponent = 0;
+    boolean hasDigits = false;
+
+    for (; i < end; i++) {
+      c = text.charAt(i);
+      if (c < '0' || c > '9') {
+        break;
+      }
+      hasDigits = true;
+      if (digits > 0 || c != '0') {
+        if (digits < 19) {
+          mantissa = mantissa * 10 + (c - '0');
+        } else {
+          exponent++;
+        }
+        digits++;
+      }
+    }
+
+    if (i < end && text.charAt(i) == '.') {
+      i++;
+      for (; i < end; i++) {
+        c = text.charAt(i);
+        if (c < '0' || c > '9') {
+          break;
+        }
+        hasDigits = true;
+        if (digits > 0 || c != '0') {
+          if (digits < 19) {
+            mantissa = mantissa * 10 + (c - '0');
+            exponent--;
+          }
+          digits++;
+        } else {
+          exponent--;
+        }
+      }
+    }
+
+    if (hasDigits && i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+      i++;
+      boolean expNegative = false;
+      if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+        expNegative = text.charAt(i) == '-';
+        i++;
+      }
+      int exp = 0;
+      boolean hasExpDigits = false;
+      for (; i < end; i++) {
+        c = text.charAt(i);
+        if (c < '0' || c > '9' || exp > 10_000) {
+          break;
+        }
+        hasExpDigits = true;
+        exp = exp * 10 + (c - '0');
+      }
+      if (!hasExpDigits) {
+        return slowPath(text, start, end);
+      }
+      exponent += expNegative ? -exp : exp;
+    }
+
+    if (!hasDigits || i != end || digits > MAX_FAST_DIGITS) {
+      return slowPath(text, start, end);
+    }
+
+    double value;
+    if (mantissa == 0) {
+      value = 0;
+    } else if (exponent == 0) {
+      value = mantissa;
+    } else if (exponent > 0 && exponent <= MAX_FAST_EXPONENT) {
+      value = mantissa * POW10[exponent];
+    } else if (exponent < 0 && -exponent <= MAX_FAST_EXPONENT) {
+      value = mantissa / POW10[-exponent];
+    } else {
+      return slowPath(text, start, end);
+    }
+
+    return negative ? -value : value;
+  }
+
+  private static double slowPath(CharSequence text, int start, int end) {
+    return Double.parseDouble(text.subSequence(start, end).toString());
+  }
+
+  private void add(double value) {
+    if (size == values.length) {
+      this.values = Arrays.copyOf(values, values.length * 2);
+    }
+    values[size++] = value;
+  }
+}
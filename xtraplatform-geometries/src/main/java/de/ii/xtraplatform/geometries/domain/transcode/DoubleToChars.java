@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain.transcode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Writes coordinate values into a reusable char buffer, so that encoders do not need a String per
+ * coordinate.
+ *
+ * <p>With a precision &gt; 0 the value is written with that number of fraction digits, rounded
+ * {@link RoundingMode#HALF_UP} based on the shortest decimal representation, which is the same
+ * result as {@code BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP)}. Otherwise
+ * the shortest decimal representation that round-trips is written in the notation of {@link
+ * Double#toString(double)}.
+ *
+ * <p>Values in the typical coordinate range are handled with scaled long arithmetic. Values where
+ * this is not exact, e.g. very large or very small magnitudes or ties close to the rounding
+ * boundary, fall back to {@link BigDecimal} or {@link Double#toString(double)}.
+ *
+ * <p>Instances are not thread-safe, the buffer returned by {@link #getChars()} is only valid until
+ * the next call of {@link #write(double, int)}.
+ */
+public class DoubleToChars {
+
+  private static final int MAX_FRACTION_DIGITS = 17;
+  private static final long MAX_EXACT = 1L << 53;
+  private static final double MIN_PLAIN = 1e-3;
+  private static final double MAX_PLAIN = 1e7;
+  private static final double[] POW10_DOUBLE = new double[MAX_FRACTION_DIGITS + 1];
+  private static final long[] POW10_LONG = new long[MAX_FRACTION_DIGITS + 1];
+
+  static {
+    double d = 1;
+    long l = 1;
+    for (int i = 0; i <= MAX_FRACTION_DIGITS; i++) {
+      POW10_DOUBLE[i] = d;
+      POW10_LONG[i] = l;
+      d *= 10;
+      l *= 10;
+    }
+  }
+
+  private char[] chars;
+  private int length;
+
+  public DoubleToChars() {
+    this.chars = new char[32];
+    this.length = 0;
+  }
+
+  /**
+   * @param value the value to write
+   * @param precision the number of fraction digits, a value &lt;= 0 writes the shortest
+   *     representation
+   * @return the number of chars written to {@link #getChars()}
+   */
+  public int write(double value, int precision) {
+    this.length = 0;
+
+    if (!Double.isFinite(value)) {
+      writeString(String.valueOf(value));
+    } else if (precision > 0) {
+      if (!writeFixed(value, precision)) {
+        writeString(
+            BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP).toPlainString());
+      }
+    } else if (!writeShortest(value)) {
+      writeString(Double.toString(value));
+    }
+
+    return length;
+  }
+
+  public char[] getChars() {
+    return chars;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  public void appendTo(StringBuilder builder, double value, int precision) {
+    write(value, precision);
+    builder.append(chars, 0, length);
+  }
+
+  private boolean writeFixed(double value, int precision) {
+    if (precision > MAX_FRACTION_DIGITS) {
+      return false;
+    }
+    double abs = Math.abs(value);
+    double scaled = abs * POW10_DOUBLE[precision];
+
+    if (scaled >= MAX_EXACT) {
+      return false;
+    }
+
+    double floor = Math.floor(scaled);
+    double fraction = scaled - floor;
+
+    // the scaled value may be off by about one ulp, ties can only be decided on the decimal
+    // representation
+    if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+      return false;
+    }
+
+    long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+
+    if (value < 0 && rounded != 0) {
+      append('-');
+    }
+    writeDigits(rounded, precision);
+
+    return true;
+  }
+
+  private boolean writeShortest(double value) {
+    double abs = Math.abs(value);
+
+    if (abs == 0) {
+      if (1 / value < 0) {
+        append('-');
+      }
+      append('0');
+      append('.');
+      append('0');
+      return true;
+    }
+    if (abs < MIN_PLAIN || abs >= MAX_PLAIN) {
+      return false;
+    }
+
+    for (int precision = 0; precision <= MAX_FRACTION_DIGITS; precision++) {
+      double scaled = abs * POW10_DOUBLE[precision];
+      if (scaled >= MAX_EXACT) {
+        return false;
+      }
+      long candidate = Math.round(scaled);
+
+      // both operands are exact, so the division is correctly rounded and equality means the
+      // decimal candidate * 10^-precision parses to the same double
+      for (int k = 0; k < 3; k++) {
+        long c = k == 0 ? candidate : k == 1 ? candidate - 1 : candidate + 1;
+        if (c > 0 && c / POW10_DOUBLE[precision] == abs) {
+          if (value < 0) {
+            append('-');
+          }
+          writeDigits(c, precision);
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  // writes unscaled * 10^-scale, at least one fraction digit is written
+  private void writeDigits(long unscaled, int scale) {
+    long integerPart = unscaled / POW10_LONG[scale];
+    long fractionPart = unscaled % POW10_LONG[scale];
+
+    ensureCapacity(length + 20 + 1 + Math.max(scale, 1));
+
+    if (integerPart == 0) {
+      chars[length++] = '0';
+    } else {
+      int start = length;
+      while (integerPart > 0) {
+        chars[length++] = (char) ('0' + integerPart % 10);
+        integerPart /= 10;
+      }
+      reverse(start, length - 1);
+    }
+
+    chars[length++] = '.';
+
+    if (scale == 0) {
+      chars[length++] = '0';
+      return;
+    }
+
+    for (int i = length + scale - 1; i >= length; i--) {
+      chars[i] = (char) ('0' + fractionPart % 10);
+      fractionPart /= 10;
+    }
+    length += scale;
+  }
+
+  private void reverse(int from, int to) {
+    while (from < to) {
+      char tmp = chars[from];
+      chars[from++] = chars[to];
+      chars[to--] = tmp;
+    }
+  }
+
+  private void writeString(String value) {
+    ensureCapacity(length + value.length());
+    value.getChars(0, value.length(), chars, length);
+    length += value.length();
+  }
+
+  private void append(char c) {
+    ensureCapacity(length + 1);
+    chars[length++] = c;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > chars.length) {
+      chars = Arrays.copyOf(chars, Math.max(capacity, chars.length * 2));
+    }
+  }
+}
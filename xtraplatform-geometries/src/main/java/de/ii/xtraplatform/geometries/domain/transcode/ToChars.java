@@ -11,7 +11,6 @@ import de.ii.xtraplatform.geometries.domain.PositionList.Interpolation;
 import de.ii.xtraplatform.geometries.domain.transform.DoubleArrayProcessor;
 import java.io.IOException;
 import java.util.List;
-import java.util.Locale;
 import java.util.Optional;
 import java.util.OptionalInt;
 import org.immutables.value.Value;
@@ -20,6 +19,7 @@ import org.immutables.value.Value;
 public abstract class ToChars implements DoubleArrayProcessor<Void> {
 
   private boolean isFirst = true;
+  private final DoubleToChars doubleToChars = new DoubleToChars();
 
   @Value.Parameter
   protected abstract SeperateStringsProcessor getCoordinatesProcessor();
@@ -39,15 +39,13 @@ public abstract class ToChars implements DoubleArrayProcessor<Void> {
     for (int i = 0; i < length; i++) {
       int axisIndex = i % dimension;
       Axis axis = Axis.FROM_INT[axisIndex];
-      String value = String.valueOf(coordinates[i]);
 
       /*
       FIXME: will not be applied when no transformations are given
        move to separate step
       */
-      if (precision[axisIndex] > 0) {
-        value = String.format(Locale.ROOT, "%." + precision[axisIndex] + "f", coordinates[i]);
-      }
+      int valueLength = doubleToChars.write(coordinates[i], precision[axisIndex]);
+      char[] value = doubleToChars.getChars();
 
       switch (axis) {
         case X:
@@ -56,13 +54,13 @@ public abstract class ToChars implements DoubleArrayProcessor<Void> {
           } else {
             getCoordinatesProcessor().onSeparator();
           }
-          getCoordinatesProcessor().onX(value.toCharArray(), 0, value.length());
+          getCoordinatesProcessor().onX(value, 0, valueLength);
           break;
         case Y:
-          getCoordinatesProcessor().onY(value.toCharArray(), 0, value.length());
+          getCoordinatesProcessor().onY(value, 0, valueLength);
           break;
         case Z:
-          getCoordinatesProcessor().onZ(value.toCharArray(), 0, value.length());
+          getCoordinatesProcessor().onZ(value, 0, valueLength);
           break;
       }
     }
@@ -24,10 +24,9 @@ import de.ii.xtraplatform.geometries.domain.Point;
 import de.ii.xtraplatform.geometries.domain.Polygon;
 import de.ii.xtraplatform.geometries.domain.PolyhedralSurface;
 import de.ii.xtraplatform.geometries.domain.SingleCurve;
+import de.ii.xtraplatform.geometries.domain.transcode.DoubleToChars;
 import de.ii.xtraplatform.geometries.domain.transform.GeometryVisitor;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,11 +38,13 @@ public class GeometryEncoderJson implements GeometryVisitor<Void> {
   private final JsonGenerator json;
   private final boolean onlyGeoJsonGeometries;
   private final Optional<int[]> precision;
+  private final DoubleToChars doubleToChars;
 
   public GeometryEncoderJson(JsonGenerator json) {
     this.json = json;
     this.onlyGeoJsonGeometries = false;
     this.precision = Optional.empty();
+    this.doubleToChars = new DoubleToChars();
   }
 
   public GeometryEncoderJson(
@@ -54,6 +55,7 @@ public class GeometryEncoderJson implements GeometryVisitor<Void> {
         precision.stream().anyMatch(v -> v > 0)
             ? Optional.of(precision.stream().mapToInt(v -> v).toArray())
             : Optional.empty();
+    this.doubleToChars = new DoubleToChars();
   }
 
   @Override
@@ -271,8 +273,7 @@ public class GeometryEncoderJson implements GeometryVisitor<Void> {
             json.writeStartArray();
             for (int i = 0; i < coordinates.length; i++) {
               if (i < scale.length && scale[i] > 0) {
-                json.writeNumber(
-                    BigDecimal.valueOf(coordinates[i]).setScale(scale[i], RoundingMode.HALF_UP));
+                writeNumber(coordinates[i], scale[i]);
               } else {
                 json.writeNumber(coordinates[i]);
               }
@@ -298,9 +299,7 @@ public class GeometryEncoderJson implements GeometryVisitor<Void> {
               json.writeStartArray();
               for (int j = 0; j < dimension; j++) {
                 if (j < scale.length && scale[j] > 0) {
-                  json.writeNumber(
-                      BigDecimal.valueOf(coordinates[i * dimension + j])
-                          .setScale(scale[j], RoundingMode.HALF_UP));
+                  writeNumber(coordinates[i * dimension + j], scale[j]);
                 } else {
                   json.writeNumber(coordinates[i * dimension + j]);
                 }
@@ -314,6 +313,11 @@ public class GeometryEncoderJson implements GeometryVisitor<Void> {
         });
   }
 
+  private void writeNumber(double value, int scale) throws IOException {
+    int length = doubleToChars.write(value, scale);
+    json.writeNumber(doubleToChars.getChars(), 0, length);
+  }
+
   private void writeAbstractGeometryCollection(AbstractGeometryCollection<?> geometry) {
     writeJson(
         json -> {
@@ -15,10 +15,11 @@ import de.ii.xtraplatform.geometries.domain.GeometryType;
 import de.ii.xtraplatform.geometries.domain.Position;
 import de.ii.xtraplatform.geometries.domain.PositionList;
 import de.ii.xtraplatform.geometries.domain.transcode.AbstractGeometryDecoder;
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -47,12 +48,26 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
   }
 
   public Geometry<?> decode(byte[] wkb, Optional<EpsgCrs> crs) throws IOException {
-    try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(wkb))) {
-      return decode(dis, crs, Set.of(), null, Optional.empty());
+    return decode(ByteBuffer.wrap(wkb), crs);
+  }
+
+  /**
+   * Decodes the geometry starting at the current position of the buffer, the position is advanced
+   * to the end of the geometry. The byte order of the buffer is changed as required by the WKB.
+   */
+  public Geometry<?> decode(ByteBuffer wkb, Optional<EpsgCrs> crs) throws IOException {
+    try {
+      return read(wkb, crs, Set.of(), null, Optional.empty());
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Unexpected end of WKB", e);
     }
   }
 
-  @SuppressWarnings("PMD.CyclomaticComplexity")
+  /**
+   * Decodes the geometry starting at the current position of the stream. If the stream supports
+   * {@link java.io.InputStream#mark(int)}, it is positioned at the end of the geometry afterwards,
+   * otherwise all remaining bytes are consumed.
+   */
   public Geometry<?> decode(
       DataInputStream dis,
       Optional<EpsgCrs> crs,
@@ -60,11 +75,37 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       Axes allowedAxes,
       Optional<Boolean> isLittleEndianRootGeometry)
       throws IOException {
+    boolean markSupported = dis.markSupported();
+    if (markSupported) {
+      dis.mark(Integer.MAX_VALUE);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(dis.readAllBytes());
+    try {
+      return read(buffer, crs, allowedTypes, allowedAxes, isLittleEndianRootGeometry);
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Unexpected end of WKB", e);
+    } finally {
+      if (markSupported) {
+        dis.reset();
+        dis.skipNBytes(buffer.position());
+      }
+    }
+  }
+
+  @SuppressWarnings("PMD.CyclomaticComplexity")
+  private Geometry<?> read(
+      ByteBuffer buffer,
+      Optional<EpsgCrs> crs,
+      Set<GeometryType> allowedTypes,
+      Axes allowedAxes,
+      Optional<Boolean> isLittleEndianRootGeometry)
+      throws IOException {
     boolean isLittleEndian =
         dialect == WkbDialect.ORACLE && isLittleEndianRootGeometry.isPresent()
             ? isLittleEndianRootGeometry.get()
-            : dis.readByte() == 1;
-    long typeCode = readUnsignedInt(dis, isLittleEndian);
+            : buffer.get() == 1;
+    buffer.order(isLittleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    long typeCode = readUnsignedInt(buffer);
     GeometryType type = WktWkbGeometryType.fromWkbType((int) typeCode).toGeometryType();
 
     if (!allowedTypes.isEmpty() && !allowedTypes.contains(type)) {
@@ -77,33 +118,34 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
     }
 
     return switch (type) {
-      case POINT -> point(readPosition(dis, isLittleEndian, axes), crs);
+      case POINT -> point(readPosition(buffer, axes), crs);
       case MULTI_POINT ->
           multiPoint2(
-              readListOfGeometry(dis, crs, axes, isLittleEndian, Set.of(GeometryType.POINT), false),
+              readListOfGeometry(
+                  buffer, crs, axes, isLittleEndian, Set.of(GeometryType.POINT), false),
               crs);
-      case LINE_STRING -> lineString(readPositionList(dis, isLittleEndian, axes), crs);
+      case LINE_STRING -> lineString(readPositionList(buffer, axes), crs);
       case MULTI_LINE_STRING ->
           multiLineString2(
               readListOfGeometry(
-                  dis, crs, axes, isLittleEndian, Set.of(GeometryType.LINE_STRING), false),
+                  buffer, crs, axes, isLittleEndian, Set.of(GeometryType.LINE_STRING), false),
               crs);
-      case POLYGON -> polygon(readListOfPositionList(dis, isLittleEndian, axes), crs);
+      case POLYGON -> polygon(readListOfPositionList(buffer, axes), crs);
       case MULTI_POLYGON ->
           multiPolygon2(
               readListOfGeometry(
-                  dis, crs, axes, isLittleEndian, Set.of(GeometryType.POLYGON), false),
+                  buffer, crs, axes, isLittleEndian, Set.of(GeometryType.POLYGON), false),
               crs);
-      case CIRCULAR_STRING -> circularString(readPositionList(dis, isLittleEndian, axes), crs);
+      case CIRCULAR_STRING -> circularString(readPositionList(buffer, axes), crs);
       case POLYHEDRAL_SURFACE ->
           polyhedralSurface2(
               readListOfGeometry(
-                  dis, crs, axes, isLittleEndian, Set.of(GeometryType.POLYGON), false),
+                  buffer, crs, axes, isLittleEndian, Set.of(GeometryType.POLYGON), false),
               crs);
       case COMPOUND_CURVE ->
           compoundCurve(
               readListOfGeometry(
-                  dis,
+                  buffer,
                   crs,
                   axes,
                   isLittleEndian,
@@ -113,7 +155,7 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       case CURVE_POLYGON ->
           curvePolygon(
               readListOfGeometry(
-                  dis,
+                  buffer,
                   crs,
                   axes,
                   isLittleEndian,
@@ -126,7 +168,7 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       case MULTI_CURVE ->
           multiCurve(
               readListOfGeometry(
-                  dis,
+                  buffer,
                   crs,
                   axes,
                   isLittleEndian,
@@ -139,7 +181,7 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       case MULTI_SURFACE ->
           multiSurface(
               readListOfGeometry(
-                  dis,
+                  buffer,
                   crs,
                   axes,
                   isLittleEndian,
@@ -149,7 +191,7 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       case GEOMETRY_COLLECTION ->
           geometryCollection(
               readListOfGeometry(
-                  dis,
+                  buffer,
                   crs,
                   axes,
                   isLittleEndian,
@@ -167,76 +209,56 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
     };
   }
 
-  private long readUnsignedInt(DataInputStream dis, boolean isLittleEndian) throws IOException {
-    int v = dis.readInt();
-    return (isLittleEndian ? Integer.reverseBytes(v) : v) & 0xFFFFFFFFL;
+  private long readUnsignedInt(ByteBuffer buffer) {
+    return buffer.getInt() & 0xFFFFFFFFL;
   }
 
-  private double readDouble(DataInputStream dis, boolean isLittleEndian) throws IOException {
-    long v = dis.readLong();
-    return Double.longBitsToDouble(isLittleEndian ? Long.reverseBytes(v) : v);
+  private Position readPosition(ByteBuffer buffer, Axes axes) {
+    return Position.of(axes, readCoordinates(buffer, axes.size(), 1));
   }
 
-  private Position readPosition(DataInputStream dis, boolean isLittleEndian, Axes axes)
-      throws IOException {
-    double[] coords = new double[axes.size()];
-    for (int j = 0; j < axes.size(); j++) {
-      coords[j] = readDouble(dis, isLittleEndian);
-    }
-    return Position.of(axes, coords);
-  }
+  private PositionList readPositionList(ByteBuffer buffer, Axes axes) {
+    long num = readUnsignedInt(buffer);
 
-  private PositionList readPositionList(DataInputStream dis, boolean isLittleEndian, Axes axes)
-      throws IOException {
-    int dim = axes.size();
-    long num = readUnsignedInt(dis, isLittleEndian);
-    double[] coords = new double[dim * (int) num];
-    for (int i = 0; i < num; i++) {
-      for (int j = 0; j < dim; j++) {
-        coords[i * dim + j] = readDouble(dis, isLittleEndian);
-      }
-    }
-    return PositionList.of(axes, coords);
+    return PositionList.of(axes, readCoordinates(buffer, axes.size(), num));
   }
 
-  private List<PositionList> readListOfPositionList(
-      DataInputStream dis, boolean isLittleEndian, Axes axes) throws IOException {
-    int dim = axes.size();
-    long num = readUnsignedInt(dis, isLittleEndian);
-    List<double[]> list = new ArrayList<>();
+  private List<PositionList> readListOfPositionList(ByteBuffer buffer, Axes axes) {
+    long num = readUnsignedInt(buffer);
+    PositionList[] rings = new PositionList[(int) num];
     for (int k = 0; k < num; k++) {
-      long numPoints = readUnsignedInt(dis, isLittleEndian);
-      double[] coords = readCoordinates(dis, isLittleEndian, dim, numPoints);
-      list.add(coords);
+      rings[k] = readPositionList(buffer, axes);
     }
-    return list.stream().map(c -> PositionList.of(axes, c)).toList();
+    return List.of(rings);
   }
 
-  private double[] readCoordinates(
-      DataInputStream dis, boolean isLittleEndian, int dim, long numPoints) throws IOException {
-    double[] coords = new double[dim * (int) numPoints];
-    for (int i = 0; i < numPoints; i++) {
-      for (int j = 0; j < dim; j++) {
-        coords[i * dim + j] = readDouble(dis, isLittleEndian);
-      }
+  // bulk read, the byte order of the buffer was already set from the endian flag
+  private double[] readCoordinates(ByteBuffer buffer, int dim, long numPoints) {
+    int length = dim * (int) numPoints;
+    if (length * (long) Double.BYTES > buffer.remaining()) {
+      throw new BufferUnderflowException();
     }
+    double[] coords = new double[length];
+    buffer.asDoubleBuffer().get(coords);
+    buffer.position(buffer.position() + length * Double.BYTES);
     return coords;
   }
 
   private List<Geometry<?>> readListOfGeometry(
-      DataInputStream dis,
+      ByteBuffer buffer,
       Optional<EpsgCrs> crs,
       Axes axes,
       boolean isLittleEndian,
       Set<GeometryType> allowedTypes,
       boolean embeddedGeometriesDoNotHaveLittleEndianFlagInOracle)
       throws IOException {
-    long num = readUnsignedInt(dis, isLittleEndian);
+    long num = readUnsignedInt(buffer);
+    ByteOrder byteOrder = buffer.order();
     ImmutableList.Builder<Geometry<?>> builder = ImmutableList.builder();
     for (int i = 0; i < num; i++) {
       Geometry<?> g =
-          decode(
-              dis,
+          read(
+              buffer,
               crs,
               allowedTypes,
               axes,
@@ -246,6 +268,8 @@ public class GeometryDecoderWkb extends AbstractGeometryDecoder {
       if (g != null) {
         builder.add(g);
       }
+      // embedded geometries may switch the byte order
+      buffer.order(byteOrder);
     }
     return builder.build();
   }
@@ -7,7 +7,6 @@
  */
 package de.ii.xtraplatform.geometries.domain.transcode.wktwkb;
 
-import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
 import de.ii.xtraplatform.crs.domain.EpsgCrs;
 import de.ii.xtraplatform.geometries.domain.Axes;
@@ -16,6 +15,7 @@ import de.ii.xtraplatform.geometries.domain.GeometryType;
 import de.ii.xtraplatform.geometries.domain.Position;
 import de.ii.xtraplatform.geometries.domain.PositionList;
 import de.ii.xtraplatform.geometries.domain.transcode.AbstractGeometryDecoder;
+import de.ii.xtraplatform.geometries.domain.transcode.CoordinatesParser;
 import java.io.IOException;
 import java.io.StreamTokenizer;
 import java.io.StringReader;
@@ -25,8 +25,6 @@ import java.util.Set;
 
 public class GeometryDecoderWkt extends AbstractGeometryDecoder {
 
-  private static final Splitter COMMA_SPLITTER = Splitter.on(',').omitEmptyStrings().trimResults();
-  private static final Splitter BLANK_SPLITTER = Splitter.on(' ').omitEmptyStrings().trimResults();
   private static final String EMPTY = "EMPTY",
       ZM = "ZM",
       Z = "Z",
@@ -59,7 +57,6 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
         null);
   }
 
-  @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
   public Geometry<?> decode(
       StreamTokenizer tokenizer,
       Optional<EpsgCrs> crs,
@@ -67,6 +64,20 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
       Set<GeometryType> allowedTypes,
       Axes allowedAxes)
       throws IOException {
+    // the parser is reused for all positions of the geometry, but not shared between calls
+    return decode(
+        tokenizer, new CoordinatesParser(), crs, implicitType, allowedTypes, allowedAxes);
+  }
+
+  @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
+  private Geometry<?> decode(
+      StreamTokenizer tokenizer,
+      CoordinatesParser coordinatesParser,
+      Optional<EpsgCrs> crs,
+      GeometryType implicitType,
+      Set<GeometryType> allowedTypes,
+      Axes allowedAxes)
+      throws IOException {
     Optional<GeometryType> resolvedType = Optional.empty();
     Axes axes = Axes.XY;
     boolean isEmpty = false;
@@ -121,19 +132,23 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
     }
 
     return switch (type) {
-      case POINT -> point(readPosition(tokenizer, axes), crs);
-      case MULTI_POINT -> multiPoint(readPositions(tokenizer, axes), crs);
-      case LINE_STRING -> lineString(readPositionList(tokenizer, axes), crs);
-      case CIRCULAR_STRING -> circularString(readPositionList(tokenizer, axes), crs);
-      case MULTI_LINE_STRING -> multiLineString(readListOfPositionList(tokenizer, axes), crs);
-      case POLYGON -> polygon(readListOfPositionList(tokenizer, axes), crs);
-      case MULTI_POLYGON -> multiPolygon(readListOfListOfPositionList(tokenizer, axes), crs);
+      case POINT -> point(readPosition(tokenizer, coordinatesParser, axes), crs);
+      case MULTI_POINT -> multiPoint(readPositions(tokenizer, coordinatesParser, axes), crs);
+      case LINE_STRING -> lineString(readPositionList(tokenizer, coordinatesParser, axes), crs);
+      case CIRCULAR_STRING ->
+          circularString(readPositionList(tokenizer, coordinatesParser, axes), crs);
+      case MULTI_LINE_STRING ->
+          multiLineString(readListOfPositionList(tokenizer, coordinatesParser, axes), crs);
+      case POLYGON -> polygon(readListOfPositionList(tokenizer, coordinatesParser, axes), crs);
+      case MULTI_POLYGON ->
+          multiPolygon(readListOfListOfPositionList(tokenizer, coordinatesParser, axes), crs);
       case POLYHEDRAL_SURFACE ->
-          polyhedralSurface(readListOfListOfPositionList(tokenizer, axes), crs);
+          polyhedralSurface(readListOfListOfPositionList(tokenizer, coordinatesParser, axes), crs);
       case COMPOUND_CURVE ->
           compoundCurve(
               readListOf(
                   tokenizer,
+                  coordinatesParser,
                   crs,
                   axes,
                   GeometryType.LINE_STRING,
@@ -143,6 +158,7 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
           curvePolygon(
               readListOf(
                   tokenizer,
+                  coordinatesParser,
                   crs,
                   axes,
                   GeometryType.LINE_STRING,
@@ -155,6 +171,7 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
           multiCurve(
               readListOf(
                   tokenizer,
+                  coordinatesParser,
                   crs,
                   axes,
                   GeometryType.LINE_STRING,
@@ -167,6 +184,7 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
           multiSurface(
               readListOf(
                   tokenizer,
+                  coordinatesParser,
                   crs,
                   axes,
                   GeometryType.POLYGON,
@@ -176,6 +194,7 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
           geometryCollection(
               readListOf(
                   tokenizer,
+                  coordinatesParser,
                   crs,
                   axes,
                   null,
@@ -192,20 +211,18 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
     };
   }
 
-  private Position readPosition(StreamTokenizer tokenizer, Axes axes) throws IOException {
+  private Position readPosition(
+      StreamTokenizer tokenizer, CoordinatesParser coordinatesParser, Axes axes)
+      throws IOException {
     expectToken(tokenizer, L_PAREN);
-    Position pos =
-        Position.of(
-            axes,
-            BLANK_SPLITTER
-                .splitToStream(getNextToken(tokenizer))
-                .mapToDouble(Double::parseDouble)
-                .toArray());
+    Position pos = readCoordinates(getNextToken(tokenizer), coordinatesParser, axes);
     expectToken(tokenizer, R_PAREN);
     return pos;
   }
 
-  private List<Position> readPositions(StreamTokenizer tokenizer, Axes axes) throws IOException {
+  private List<Position> readPositions(
+      StreamTokenizer tokenizer, CoordinatesParser coordinatesParser, Axes axes)
+      throws IOException {
     ImmutableList.Builder<Position> builder = ImmutableList.builder();
     expectToken(tokenizer, L_PAREN);
     String next = COMMA;
@@ -213,20 +230,10 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
       next = getNextToken(tokenizer);
       if (!EMPTY.equals(next)) {
         if (L_PAREN.equals(next)) {
-          Position pos =
-              Position.of(
-                  axes,
-                  BLANK_SPLITTER
-                      .splitToStream(getNextToken(tokenizer))
-                      .mapToDouble(Double::parseDouble)
-                      .toArray());
-          builder.add(pos);
+          builder.add(readCoordinates(getNextToken(tokenizer), coordinatesParser, axes));
           expectToken(tokenizer, R_PAREN);
         } else {
-          builder.add(
-              Position.of(
-                  axes,
-                  BLANK_SPLITTER.splitToStream(next).mapToDouble(Double::parseDouble).toArray()));
+          builder.add(readCoordinates(next, coordinatesParser, axes));
         }
       }
       next = getCommaOrCloser(tokenizer);
@@ -234,51 +241,48 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
     return builder.build();
   }
 
-  private PositionList readPositionList(StreamTokenizer tokenizer, Axes axes) throws IOException {
-    StringBuilder builder = new StringBuilder();
+  private PositionList readPositionList(
+      StreamTokenizer tokenizer, CoordinatesParser coordinatesParser, Axes axes)
+      throws IOException {
+    coordinatesParser.reset();
     expectToken(tokenizer, L_PAREN);
     String next = COMMA;
-    boolean first = true;
     while (COMMA.equals(next)) {
       next = getNextToken(tokenizer);
       if (!EMPTY.equals(next)) {
-        if (first) {
-          first = false;
-        } else {
-          builder.append(COMMA);
-        }
-        builder.append(next);
+        coordinatesParser.parse(next);
       }
       next = getCommaOrCloser(tokenizer);
     }
-    return PositionList.of(
-        axes,
-        COMMA_SPLITTER
-            .splitToStream(builder.toString())
-            .map(pos -> BLANK_SPLITTER.splitToStream(pos).mapToDouble(Double::parseDouble))
-            .flatMapToDouble(coordinate -> coordinate)
-            .toArray());
+    return PositionList.of(axes, coordinatesParser.toArray());
   }
 
-  private List<PositionList> readListOfPositionList(StreamTokenizer tokenizer, Axes axes)
+  private Position readCoordinates(
+      String position, CoordinatesParser coordinatesParser, Axes axes) {
+    return Position.of(axes, coordinatesParser.reset().parse(position).toArray());
+  }
+
+  private List<PositionList> readListOfPositionList(
+      StreamTokenizer tokenizer, CoordinatesParser coordinatesParser, Axes axes)
       throws IOException {
     ImmutableList.Builder<PositionList> builder = ImmutableList.builder();
     expectToken(tokenizer, L_PAREN);
     String next = COMMA;
     while (COMMA.equals(next)) {
-      builder.add(readPositionList(tokenizer, axes));
+      builder.add(readPositionList(tokenizer, coordinatesParser, axes));
       next = getCommaOrCloser(tokenizer);
     }
     return builder.build();
   }
 
   private List<List<PositionList>> readListOfListOfPositionList(
-      StreamTokenizer tokenizer, Axes axes) throws IOException {
+      StreamTokenizer tokenizer, CoordinatesParser coordinatesParser, Axes axes)
+      throws IOException {
     ImmutableList.Builder<List<PositionList>> builder = ImmutableList.builder();
     expectToken(tokenizer, L_PAREN);
     String next = COMMA;
     while (COMMA.equals(next)) {
-      List<PositionList> posListList = readListOfPositionList(tokenizer, axes);
+      List<PositionList> posListList = readListOfPositionList(tokenizer, coordinatesParser, axes);
       if (!posListList.isEmpty()) {
         builder.add(posListList);
       }
@@ -289,6 +293,7 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
 
   private List<Geometry<?>> readListOf(
       StreamTokenizer tokenizer,
+      CoordinatesParser coordinatesParser,
       Optional<EpsgCrs> crs,
       Axes axes,
       GeometryType defaultType,
@@ -301,7 +306,8 @@ public class GeometryDecoderWkt extends AbstractGeometryDecoder {
       next = getNextToken(tokenizer);
       if (!EMPTY.equals(next)) {
         tokenizer.pushBack();
-        builder.add(decode(tokenizer, crs, defaultType, allowedTypes, axes));
+        builder.add(
+            decode(tokenizer, coordinatesParser, crs, defaultType, allowedTypes, axes));
       }
       next = getCommaOrCloser(tokenizer);
     }
@@ -25,9 +25,8 @@ import de.ii.xtraplatform.geometries.domain.PolyhedralSurface;
 import de.ii.xtraplatform.geometries.domain.Position;
 import de.ii.xtraplatform.geometries.domain.PositionList;
 import de.ii.xtraplatform.geometries.domain.Surface;
+import de.ii.xtraplatform.geometries.domain.transcode.DoubleToChars;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 
 @SuppressWarnings("PMD.GodClass")
@@ -35,6 +34,7 @@ public class GeometryEncoderWkt {
 
   private final int[] precision;
   private final boolean multiPointAsFlatList;
+  private final DoubleToChars doubleToChars = new DoubleToChars();
 
   public GeometryEncoderWkt() {
     this.precision = new int[] {};
@@ -110,16 +110,11 @@ public class GeometryEncoderWkt {
     }
     for (int i = 0; i < coordinates.length; i++) {
       int axisIndex = i % dimension;
-      String value =
-          precision.length > axisIndex && precision[axisIndex] > 0
-              ? BigDecimal.valueOf(coordinates[i])
-                  .setScale(precision[axisIndex], RoundingMode.HALF_UP)
-                  .toPlainString()
-              : String.valueOf(coordinates[i]);
       if (i > 0) {
         builder.append(' ');
       }
-      builder.append(value);
+      doubleToChars.appendTo(
+          builder, coordinates[i], precision.length > axisIndex ? precision[axisIndex] : 0);
       if (inParentheses) {
         builder.append(')');
       }
@@ -135,12 +130,6 @@ public class GeometryEncoderWkt {
     }
     for (int i = 0; i < coordinates.length; i++) {
       int axisIndex = i % dimension;
-      String value =
-          precision.length > axisIndex && precision[axisIndex] > 0
-              ? BigDecimal.valueOf(coordinates[i])
-                  .setScale(precision[axisIndex], RoundingMode.HALF_UP)
-                  .toPlainString()
-              : String.valueOf(coordinates[i]);
       if (i > 0) {
         if (axisIndex == 0) {
           builder.append(',');
@@ -148,7 +137,8 @@ public class GeometryEncoderWkt {
           builder.append(' ');
         }
       }
-      builder.append(value);
+      doubleToChars.appendTo(
+          builder, coordinates[i], precision.length > axisIndex ? precision[axisIndex] : 0);
       if (inParentheses) {
         builder.append(')');
       }
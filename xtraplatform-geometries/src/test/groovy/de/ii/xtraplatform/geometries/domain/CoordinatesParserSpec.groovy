@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain
+
+import de.ii.xtraplatform.geometries.domain.transcode.CoordinatesParser
+import spock.lang.Specification
+
+class CoordinatesParserSpec extends Specification {
+
+    def 'parse - #text'() {
+        given:
+        CoordinatesParser parser = new CoordinatesParser()
+        when:
+        double[] values = parser.parse(text).toArray()
+        then:
+        values == expected as double[]
+        where:
+        text                              | expected
+        ""                                | []
+        "10.0 20.5"                       | [10.0d, 20.5d]
+        "  10 20\n\t30,40  "              | [10d, 20d, 30d, 40d]
+        "-0.001 +7 1e3 2.5E-2"            | [-0.001d, 7d, 1000d, 0.025d]
+        "0.1 0.2 0.30000000000000004"     | [0.1d, 0.2d, 0.30000000000000004d]
+        "51.123456789012345678 7.1234567" | [51.123456789012345678d, 7.1234567d]
+        "1e400 4.9e-324"                  | [Double.POSITIVE_INFINITY, 4.9e-324d]
+    }
+
+    def 'parse - same as Double.parseDouble'() {
+        given:
+        CoordinatesParser parser = new CoordinatesParser()
+        Random random = new Random(42)
+        List<String> texts = (0..<10000).collect { i ->
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(16) - 4)
+            i % 2 == 0 ? Double.toString(value) : String.format(Locale.US, "%.8f", value)
+        }
+        when:
+        double[] values = parser.parse(texts.join(" ")).toArray()
+        then:
+        values == texts.collect { Double.parseDouble(it) } as double[]
+    }
+
+    def 'reset'() {
+        given:
+        CoordinatesParser parser = new CoordinatesParser()
+        parser.parse("1 2 3")
+        when:
+        double[] values = parser.reset().parse("4 5", 0, 3).toArray()
+        then:
+        values == [4d] as double[]
+    }
+
+    def 'invalid'() {
+        given:
+        CoordinatesParser parser = new CoordinatesParser()
+        when:
+        parser.parse("10.0 abc")
+        then:
+        thrown(NumberFormatException)
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.geometries.domain
+
+import de.ii.xtraplatform.geometries.domain.transcode.DoubleToChars
+import spock.lang.Specification
+
+import java.math.RoundingMode
+
+class DoubleToCharsSpec extends Specification {
+
+    def 'shortest - #value'() {
+        given:
+        DoubleToChars doubleToChars = new DoubleToChars()
+        when:
+        int length = doubleToChars.write(value, 0)
+        then:
+        new String(doubleToChars.getChars(), 0, length) == Double.toString(value)
+        where:
+        value << [0.0d, -0.0d, 1.0d, 10.81d, -179.99999999d, 0.1d + 0.2d, 1.005d, 7.0E-4d, 123456789.123d, Double.NaN, 4.9E-324d]
+    }
+
+    def 'fixed - #value with #precision digits'() {
+        given:
+        DoubleToChars doubleToChars = new DoubleToChars()
+        when:
+        int length = doubleToChars.write(value, precision)
+        then:
+        new String(doubleToChars.getChars(), 0, length) == expected
+        new String(doubleToChars.getChars(), 0, length) == BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP).toPlainString()
+        where:
+        value          | precision | expected
+        10.81d         | 1         | "10.8"
+        1.005d         | 2         | "1.01"
+        -1.005d        | 2         | "-1.01"
+        0.15d          | 1         | "0.2"
+        -0.001d        | 2         | "0.00"
+        420735.071d    | 7         | "420735.0710000"
+        1.0E20d        | 2         | "100000000000000000000.00"
+    }
+
+    def 'random values match Double.toString and BigDecimal'() {
+        given:
+        DoubleToChars doubleToChars = new DoubleToChars()
+        Random random = new Random(42)
+        when:
+        List<String> mismatches = []
+        100_000.times {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(10))
+            doubleToChars.write(value, 0)
+            String shortest = new String(doubleToChars.getChars(), 0, doubleToChars.getLength())
+            if (shortest != Double.toString(value)) mismatches << shortest
+            int precision = random.nextInt(9) + 1
+            doubleToChars.write(value, precision)
+            String fixed = new String(doubleToChars.getChars(), 0, doubleToChars.getLength())
+            if (fixed != BigDecimal.valueOf(value).setScale(precision, RoundingMode.HALF_UP).toPlainString()) mismatches << fixed
+        }
+        then:
+        mismatches.isEmpty()
+    }
+}
@@ -14,6 +14,10 @@ import de.ii.xtraplatform.geometries.domain.transcode.wktwkb.GeometryEncoderWkb
 import de.ii.xtraplatform.geometries.domain.transcode.wktwkb.GeometryEncoderWkt
 import spock.lang.Specification
 
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
 class GeometryWktWkbSpec extends Specification {
 
     def 'POINT XY'() {
@@ -435,4 +439,57 @@ class GeometryWktWkbSpec extends Specification {
         new GeometryEncoderWkt().encode(geometry) == wkt
         new GeometryEncoderWkt().encode(new GeometryDecoderWkb().decode(new GeometryEncoderWkb().encode(geometry))) == wkt
     }
+
+    def 'WKB with mixed byte order'() {
+        given:
+        String hex = "00" + "00000004" + "00000002" +
+                "00" + "00000001" + "3FF0000000000000" + "4000000000000000" +
+                "01" + "01000000" + "0000000000000840" + "0000000000001040"
+        byte[] wkb = hex.decodeHex()
+        when:
+        Geometry geometry = new GeometryDecoderWkb().decode(wkb)
+        then:
+        new GeometryEncoderWkt().encode(geometry) == "MULTIPOINT((1.0 2.0),(3.0 4.0))"
+    }
+
+    def 'WKB truncated'() {
+        given:
+        byte[] wkb = new GeometryEncoderWkb().encode(new GeometryDecoderWkt().decode("LINESTRING(10.0 10.0,30.0 40.0)"))
+        when:
+        new GeometryDecoderWkb().decode(Arrays.copyOf(wkb, wkb.length - 4))
+        then:
+        thrown(IOException)
+    }
+
+    def 'WKB from a stream'() {
+        given:
+        byte[] point = new GeometryEncoderWkb().encode(new GeometryDecoderWkt().decode("POINT(1.0 2.0)"))
+        byte[] line = new GeometryEncoderWkb().encode(new GeometryDecoderWkt().decode("LINESTRING(10.0 10.0,30.0 40.0)"))
+        DataInputStream dis = new DataInputStream(new ByteArrayInputStream(point + line))
+        GeometryDecoderWkb decoder = new GeometryDecoderWkb()
+        when:
+        Geometry first = decoder.decode(dis, Optional.empty(), Set.of(), null, Optional.empty())
+        Geometry second = decoder.decode(dis, Optional.empty(), Set.of(), null, Optional.empty())
+        then:
+        new GeometryEncoderWkt().encode(first) == "POINT(1.0 2.0)"
+        new GeometryEncoderWkt().encode(second) == "LINESTRING(10.0 10.0,30.0 40.0)"
+        dis.available() == 0
+    }
+
+    def 'A decoder can be shared between threads'() {
+        given:
+        GeometryDecoderWkt decoder = new GeometryDecoderWkt()
+        List<String> wkts = (1..200).collect { int i ->
+            "MULTIPOLYGON(((${i}.0 0.0,${i + 1}.0 0.0,${i + 1}.0 1.0,${i}.0 0.0)),((0.0 ${i}.0,1.0 ${i}.0,0.0 ${i + 1}.0,0.0 ${i}.0)))".toString()
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8)
+        when:
+        List<String> decoded = executor.invokeAll(wkts.collect { String wkt ->
+            { -> new GeometryEncoderWkt().encode(decoder.decode(wkt)) } as Callable<String>
+        })*.get()
+        then:
+        decoded == wkts
+        cleanup:
+        executor.shutdown()
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.routes.sql.app;
+
+import de.ii.xtraplatform.routes.sql.app.RoutingGraph.Step;
+import java.util.List;
+
+/**
+ * Provides a computed route as a virtual table for the feature type {@code _route_}. The rows are
+ * inlined as a VALUES list, so no table has to be created and dropped for a route. The columns are
+ * {@code id}, {@code seq}, {@code path_seq}, {@code node}, {@code edge}, {@code cost} and {@code
+ * agg_cost} like in the result of {@code pgr_dijkstra}, {@code id} numbers the edges of all
+ * segments of the route in order.
+ */
+final class RouteTable {
+
+  private static final String EMPTY_ROUTE =
+      "(SELECT 0 AS id, 0 AS seq, 0 AS path_seq, 0::bigint AS node, 0::bigint AS edge,"
+          + " 0::float AS cost, 0::float AS agg_cost WHERE false)";
+  private static final String SELECT =
+      "(SELECT id, seq, path_seq, node::bigint AS node, edge::bigint AS edge, cost::float AS cost,"
+          + " agg_cost::float AS agg_cost FROM (VALUES ";
+  private static final String ALIAS = ") AS r(id, seq, path_seq, node, edge, cost, agg_cost))";
+  // id, seq and path_seq with up to 5 digits, node and edge with up to 10, two doubles
+  private static final int ROW_LENGTH = 80;
+
+  private RouteTable() {}
+
+  /**
+   * @param paths the edges of each segment of the route, optionally followed by the end node
+   * @return a subquery that can be used in place of a table name
+   */
+  static String toVirtualTable(List<List<Step>> paths) {
+    int steps = paths.stream().mapToInt(List::size).sum();
+    StringBuilder table =
+        new StringBuilder(SELECT.length() + ALIAS.length() + steps * ROW_LENGTH).append(SELECT);
+    int id = 1;
+
+    for (List<Step> path : paths) {
+      for (int i = 0; i < path.size(); i++) {
+        Step step = path.get(i);
+        // like the pgRouting query, the row of the end node is not part of the route
+        if (step.isLast()) {
+          continue;
+        }
+        if (id > 1) {
+          table.append(", ");
+        }
+        table
+            .append('(')
+            .append(id++)
+            .append(", ")
+            .append(i + 1)
+            .append(", ")
+            .append(i + 1)
+            .append(", ")
+            .append(step.node())
+            .append(", ")
+            .append(step.edge())
+            .append(", ")
+            .append(step.cost())
+            .append(", ")
+            .append(step.aggCost())
+            .append(')');
+      }
+    }
+
+    if (id == 1) {
+      return EMPTY_ROUTE;
+    }
+
+    return table.append(ALIAS).toString();
+  }
+}
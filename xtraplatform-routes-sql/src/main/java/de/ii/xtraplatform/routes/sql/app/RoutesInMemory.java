@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.routes.sql.app;
+
+import de.ii.xtraplatform.features.domain.Tuple;
+import de.ii.xtraplatform.features.sql.domain.SqlClient;
+import de.ii.xtraplatform.features.sql.domain.SqlQueryOptions;
+import de.ii.xtraplatform.features.sql.domain.SqlRow;
+import de.ii.xtraplatform.geometries.domain.Point;
+import de.ii.xtraplatform.routes.sql.app.RoutingGraph.Step;
+import de.ii.xtraplatform.routes.sql.domain.Preference;
+import de.ii.xtraplatform.routes.sql.domain.RouteQuery;
+import de.ii.xtraplatform.routes.sql.domain.RoutesConfiguration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes routes with {@link RoutingGraph}s instead of pgRouting. The edges of every mode and
+ * preference are loaded once when the provider is started, only the start and end vertices of a
+ * route are still determined with the {@code fromToQuery}. The route is then provided as a virtual
+ * table, see {@link RouteTable}.
+ */
+class RoutesInMemory {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RoutesInMemory.class);
+
+  private record GraphKey(
+      String provider, String mode, String costColumn, String reverseCostColumn) {}
+
+  private static final SqlQueryOptions EDGE_COLUMNS =
+      SqlQueryOptions.withColumnTypes(
+          Long.class, Long.class, Long.class, Double.class, Double.class);
+
+  private final Map<GraphKey, RoutingGraph> graphs;
+  private final Map<String, Object> loads;
+
+  RoutesInMemory() {
+    this.graphs = new ConcurrentHashMap<>();
+    this.loads = new ConcurrentHashMap<>();
+  }
+
+  void load(String provider, RoutesConfiguration cfg, SqlClient sqlClient) {
+    // graphs of an earlier load that complete after this one or after evict are dropped
+    Object load = new Object();
+    loads.put(provider, load);
+
+    cfg.getEdgesQuery()
+        .forEach(
+            (mode, edgesQuery) -> {
+              for (Preference preference : cfg.getPreferences().values()) {
+                GraphKey key =
+                    new GraphKey(
+                        provider,
+                        mode,
+                        preference.getCostColumn(),
+                        preference.getReverseCostColumn());
+                String query =
+                    String.format(
+                        "SELECT id::bigint, source::bigint, target::bigint, COALESCE(cost, -1)::float8, COALESCE(reverse_cost, -1)::float8 FROM (%s) AS edges WHERE id IS NOT NULL AND source IS NOT NULL AND target IS NOT NULL",
+                        getEdgesQuery(cfg, edgesQuery, preference));
+
+                sqlClient
+                    .run(query, EDGE_COLUMNS)
+                    .whenComplete(
+                        (rows, throwable) -> {
+                          if (Objects.nonNull(throwable)) {
+                            LOGGER.warn(
+                                "Could not load routing graph for {}, mode '{}', cost column '{}', routes will be computed with pgRouting: {}",
+                                provider,
+                                mode,
+                                preference.getCostColumn(),
+                                throwable.getMessage());
+                            return;
+                          }
+                          if (loads.get(provider) != load) {
+                            return;
+                          }
+                          RoutingGraph graph = toGraph(rows);
+                          graphs.put(key, graph);
+
+                          if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(
+                                "Loaded routing graph for {}, mode '{}', cost column '{}' ({} nodes, {} arcs)",
+                                provider,
+                                mode,
+                                preference.getCostColumn(),
+                                graph.getNumberOfNodes(),
+                                graph.getNumberOfArcs());
+                          }
+                        });
+              }
+            });
+  }
+
+  /** Drops the graphs of a provider that is stopped. */
+  void evict(String provider) {
+    loads.remove(provider);
+    graphs.keySet().removeIf(key -> Objects.equals(key.provider(), provider));
+  }
+
+  /**
+   * Weight, height, obstacles and flags are only known to the {@code routeQuery}, so routes with
+   * such constraints are always computed with pgRouting.
+   */
+  boolean canCompute(String provider, RouteQuery query) {
+    return query.getWeight().isEmpty()
+        && query.getHeight().isEmpty()
+        && query.getObstacles().isEmpty()
+        && query.getFlags().isEmpty()
+        && graphs.containsKey(getKey(provider, query));
+  }
+
+  /**
+   * @return the virtual table with the route
+   */
+  String compute(
+      String provider,
+      RoutesConfiguration cfg,
+      RouteQuery query,
+      List<Tuple<Point, Point>> segments,
+      SqlClient sqlClient) {
+    RoutingGraph graph = graphs.get(getKey(provider, query));
+    List<Optional<Long>> vertices = getVertices(cfg, query, segments, sqlClient);
+    List<List<Step>> paths = new ArrayList<>();
+
+    for (int i = 0; i < segments.size(); i++) {
+      Optional<Long> from = vertices.get(i);
+      Optional<Long> to = vertices.get(i + 1);
+
+      paths.add(
+          from.isPresent() && to.isPresent()
+              ? graph.shortestPath(from.get(), to.get())
+              : List.of());
+    }
+
+    return RouteTable.toVirtualTable(paths);
+  }
+
+  private List<Optional<Long>> getVertices(
+      RoutesConfiguration cfg,
+      RouteQuery query,
+      List<Tuple<Point, Point>> segments,
+      SqlClient sqlClient) {
+    String fromToQuery =
+        Objects.requireNonNull(
+            cfg.getFromToQuery().get(query.getMode()),
+            "Invalid Route Provider configuration. Mode '"
+                + query.getMode()
+                + "' is supported by the API configuration, but not the 'fromToQuery' in the provider.");
+    List<Point> points = new ArrayList<>();
+    segments.forEach(segment -> points.add(segment.first()));
+    points.add(segments.get(segments.size() - 1).second());
+
+    String select =
+        IntStream.range(0, points.size())
+            .mapToObj(
+                i ->
+                    String.format(
+                        "(SELECT oid FROM (%s) AS p%d LIMIT 1)",
+                        fromToQuery.replace("${point}", getPoint(cfg, points.get(i))),
+                        i))
+            .collect(Collectors.joining(", ", "SELECT ", ""));
+
+    Collection<SqlRow> rows =
+        sqlClient
+            .run(
+                select,
+                SqlQueryOptions.withColumnTypes(
+                    Collections.<Class<?>>nCopies(points.size(), Object.class)))
+            .join();
+
+    List<Object> values =
+        rows.isEmpty()
+            ? Collections.nCopies(points.size(), null)
+            : rows.iterator().next().getValues();
+
+    return values.stream()
+        .map(value -> Optional.ofNullable(value).map(oid -> ((Number) oid).longValue()))
+        .collect(Collectors.toList());
+  }
+
+  private static String getPoint(RoutesConfiguration cfg, Point point) {
+    return "ST_GeomFromText('POINT("
+        + point.getValue().x()
+        + " "
+        + point.getValue().y()
+        + ")', "
+        + cfg.getNativeCrs().getCode()
+        + ")";
+  }
+
+  private static String getEdgesQuery(
+      RoutesConfiguration cfg, String edgesQuery, Preference preference) {
+    return edgesQuery
+        .replace("${cost_column}", preference.getCostColumn())
+        .replace("${reverse_cost_column}", preference.getReverseCostColumn())
+        .replace("${flag_mask}", "0")
+        .replace("${height}", cfg.getHeightDefault())
+        .replace("${weight}", cfg.getWeightDefault())
+        .replace("${obstacles}", cfg.getObstaclesDefault());
+  }
+
+  private static GraphKey getKey(String provider, RouteQuery query) {
+    return new GraphKey(
+        provider, query.getMode(), query.getCostColumn(), query.getReverseCostColumn());
+  }
+
+  private static RoutingGraph toGraph(Collection<SqlRow> rows) {
+    RoutingGraph.Builder builder = new RoutingGraph.Builder();
+
+    for (SqlRow row : rows) {
+      List<Object> values = row.getValues();
+
+      builder.addEdge(
+          (Long) values.get(0),
+          (Long) values.get(1),
+          (Long) values.get(2),
+          ((Double) values.get(3)).floatValue(),
+          ((Double) values.get(4)).floatValue());
+    }
+
+    return builder.build();
+  }
+}
@@ -8,6 +8,10 @@
 package de.ii.xtraplatform.routes.sql.app;
 
 import com.github.azahnen.dagger.annotations.AutoBind;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import de.ii.xtraplatform.crs.domain.CoordinateTuple;
 import de.ii.xtraplatform.crs.domain.CrsTransformer;
 import de.ii.xtraplatform.crs.domain.CrsTransformerFactory;
@@ -23,9 +27,11 @@ import de.ii.xtraplatform.features.domain.Tuple;
 import de.ii.xtraplatform.features.sql.domain.SqlClient;
 import de.ii.xtraplatform.features.sql.domain.SqlConnector;
 import de.ii.xtraplatform.features.sql.domain.SqlQueryOptions;
+import de.ii.xtraplatform.features.sql.domain.SqlRow;
 import de.ii.xtraplatform.geometries.domain.MultiPolygon;
 import de.ii.xtraplatform.geometries.domain.Point;
 import de.ii.xtraplatform.geometries.domain.transcode.wktwkb.GeometryEncoderWkt;
+import de.ii.xtraplatform.routes.sql.app.RoutingGraph.Step;
 import de.ii.xtraplatform.routes.sql.domain.RouteQuery;
 import de.ii.xtraplatform.routes.sql.domain.RoutesConfiguration;
 import jakarta.inject.Inject;
@@ -33,8 +39,15 @@ import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -98,11 +111,26 @@ public class RoutesQueriesSql implements FeatureQueriesExtension {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RoutesQueriesSql.class);
 
+  private static final int ROUTE_CACHE_SIZE = 256;
+  private static final SqlQueryOptions ROUTE_COLUMNS =
+      SqlQueryOptions.withColumnTypes(
+          Long.class, Long.class, Long.class, Long.class, Double.class, Double.class);
+
   private final CrsTransformerFactory crsTransformerFactory;
+  private final RoutesInMemory routesInMemory;
+  private final Map<String, Cache<RouteQuery, String>> routes;
+  private final ExecutorService executor;
 
   @Inject
   public RoutesQueriesSql(CrsTransformerFactory crsTransformerFactory) {
     this.crsTransformerFactory = crsTransformerFactory;
+    this.routesInMemory = new RoutesInMemory();
+    this.routes = new ConcurrentHashMap<>();
+    this.executor =
+        MoreExecutors.getExitingExecutorService(
+            (ThreadPoolExecutor)
+                Executors.newCachedThreadPool(
+                    new ThreadFactoryBuilder().setNameFormat("routes-%d").build()));
   }
 
   @Override
@@ -118,17 +146,33 @@ public class RoutesQueriesSql implements FeatureQueriesExtension {
       FeatureProviderConnector<?, ?, ?> connector) {
     Optional<RoutesConfiguration> routesConfiguration = getRoutesConfiguration(provider.getData());
 
-    if (routesConfiguration.isEmpty() || hook != LIFECYCLE_HOOK.STARTED) {
+    if (routesConfiguration.isEmpty()) {
       return;
     }
 
-    RoutesConfiguration routesConfig = routesConfiguration.get();
-    if (!routesConfig.shouldWarmup()) {
+    if (hook == LIFECYCLE_HOOK.STOPPED) {
+      routesInMemory.evict(provider.getId());
+      routes.remove(provider.getId());
       return;
     }
 
+    if (hook != LIFECYCLE_HOOK.STARTED) {
+      return;
+    }
+
+    RoutesConfiguration routesConfig = routesConfiguration.get();
     SqlClient sqlClient = ((SqlConnector) connector).getSqlClient();
 
+    routes.put(provider.getId(), newRouteCache(routesConfig));
+
+    if (routesConfig.shouldComputeInMemory()) {
+      routesInMemory.load(provider.getId(), routesConfig, sqlClient);
+    }
+
+    if (!routesConfig.shouldWarmup()) {
+      return;
+    }
+
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Warming up routes queries for {}", provider.getId());
     }
@@ -160,84 +204,93 @@ public class RoutesQueriesSql implements FeatureQueriesExtension {
     Optional<RoutesConfiguration> routesConfiguration = getRoutesConfiguration(data);
     Optional<RouteQuery> routeQuery = getRouteQuery((FeatureQuery) query);
 
-    if (routesConfiguration.isPresent() && routeQuery.isPresent()) {
-      SqlClient sqlClient = ((SqlConnector) connector).getSqlClient();
-
-      if (hook == QUERY_HOOK.BEFORE) {
-        String tableName = createRouteTable(routesConfiguration.get(), routeQuery.get(), sqlClient);
-        aliasResolver.accept("_route_", tableName);
-      } else if (hook == QUERY_HOOK.AFTER) {
-        deleteRouteTable(routeQuery.get(), sqlClient);
-      }
+    if (routesConfiguration.isPresent() && routeQuery.isPresent() && hook == QUERY_HOOK.BEFORE) {
+      String route =
+          getRoute(
+              data.getId(),
+              routesConfiguration.get(),
+              routeQuery.get(),
+              (SqlConnector) connector);
+      aliasResolver.accept("_route_", route);
     }
   }
 
-  private String createRouteTable(
-      RoutesConfiguration routesConfiguration, RouteQuery routeQuery, SqlClient sqlClient) {
-    String tableName = getTempTableName(routeQuery);
-
-    createTempTable(sqlClient, tableName);
+  private String getRoute(
+      String provider, RoutesConfiguration cfg, RouteQuery routeQuery, SqlConnector connector) {
+    Cache<RouteQuery, String> cache = routes.computeIfAbsent(provider, p -> newRouteCache(cfg));
+    String route = cache.getIfPresent(routeQuery);
 
-    getRouteSelects(routesConfiguration, routeQuery)
-        .forEach(select -> insertIntoTempTable(sqlClient, tableName, select));
+    if (Objects.nonNull(route)) {
+      return route;
+    }
 
-    return tableName;
-  }
+    route =
+        cfg.shouldComputeInMemory() && routesInMemory.canCompute(provider, routeQuery)
+            ? routesInMemory.compute(
+                provider,
+                cfg,
+                routeQuery,
+                getSegments(routeQuery, cfg.getNativeCrs()),
+                connector.getSqlClient())
+            : computeRoute(cfg, routeQuery, connector);
 
-  private void deleteRouteTable(RouteQuery routeQuery, SqlClient sqlClient) {
-    String tableName = getTempTableName(routeQuery);
+    cache.put(routeQuery, route);
 
-    deleteTempTable(sqlClient, tableName);
+    return route;
   }
 
-  private void createTempTable(SqlClient sqlClient, String name) {
-    String drop = String.format("DROP TABLE IF EXISTS %1$s;", name);
+  private static Cache<RouteQuery, String> newRouteCache(RoutesConfiguration cfg) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(ROUTE_CACHE_SIZE)
+        .expireAfterWrite(cfg.getRouteCacheTtl().toMilliseconds(), TimeUnit.MILLISECONDS)
+        .build();
+  }
 
-    sqlClient.run(drop, SqlQueryOptions.ddl()).join();
+  /**
+   * The segments between the waypoints are computed concurrently, each one takes a connection from
+   * the connection budget of the provider.
+   */
+  private String computeRoute(
+      RoutesConfiguration cfg, RouteQuery routeQuery, SqlConnector connector) {
+    List<String> selects = getRouteSelects(cfg, routeQuery);
 
-    String create =
-        String.format(
-            "CREATE TABLE %1$s (id serial, seq int, path_seq int, node bigint, edge bigint, cost float, agg_cost float)",
-            name);
+    if (selects.size() == 1) {
+      return RouteTable.toVirtualTable(List.of(runRouteSelect(connector, selects.get(0))));
+    }
 
-    sqlClient.run(create, SqlQueryOptions.ddl()).join();
-  }
+    List<CompletableFuture<List<Step>>> segments =
+        selects.stream()
+            .map(
+                select ->
+                    CompletableFuture.supplyAsync(
+                        () -> runRouteSelect(connector, select), executor))
+            .collect(Collectors.toList());
 
-  private void insertIntoTempTable(SqlClient sqlClient, String name, String select) {
-    String query =
-        String.format(
-            "INSERT INTO %s(seq, path_seq, node, edge, cost, agg_cost) (%s)", name, select);
-
-    sqlClient
-        .run(query, SqlQueryOptions.mutation())
-        .whenComplete(
-            (result, throwable) -> {
-              if (Objects.isNull(throwable)) {
-                return;
-              }
-              if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug(
-                    "Inserting into temp table failed, dropping it ({})", throwable.getMessage());
-              }
-              deleteTempTableAsync(sqlClient, name);
-            })
-        .join();
+    return RouteTable.toVirtualTable(
+        segments.stream().map(CompletableFuture::join).collect(Collectors.toList()));
   }
 
-  private void deleteTempTable(SqlClient sqlClient, String name) {
-    String query = String.format("DROP TABLE IF EXISTS %s", name);
+  private List<Step> runRouteSelect(SqlConnector connector, String select) {
+    connector.getConnectionBudget().acquireUninterruptibly();
 
-    sqlClient.run(query, SqlQueryOptions.ddl()).join();
+    try {
+      return connector.getSqlClient().run(select, ROUTE_COLUMNS).join().stream()
+          .map(RoutesQueriesSql::toStep)
+          .collect(Collectors.toList());
+    } finally {
+      connector.getConnectionBudget().release();
+    }
   }
 
-  private void deleteTempTableAsync(SqlClient sqlClient, String name) {
-    String query = String.format("DROP TABLE IF EXISTS %s", name);
-
-    sqlClient.run(query, SqlQueryOptions.ddl());
-  }
+  // seq, path_seq, node, edge, cost, agg_cost
+  private static Step toStep(SqlRow row) {
+    List<Object> values = row.getValues();
 
-  private String getTempTableName(RouteQuery query) {
-    return String.format("r_%d", query.hashCode()).replaceAll("-", "_");
+    return new Step(
+        (Long) values.get(2),
+        (Long) values.get(3),
+        (Double) values.get(4),
+        (Double) values.get(5));
   }
 
   private List<String> getRouteSelects(RoutesConfiguration cfg, RouteQuery query) {
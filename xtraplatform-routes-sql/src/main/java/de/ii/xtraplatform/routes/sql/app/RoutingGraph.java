@@ -0,0 +1,461 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.routes.sql.app;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A routing network in compressed sparse row format. The nodes are numbered densely, the outgoing
+ * and incoming arcs of node {@code n} are stored at the indices {@code offsets[n]} to {@code
+ * offsets[n + 1] - 1} of the arc arrays. An edge with a negative cost or reverse cost has no arc in
+ * that direction, like in pgRouting.
+ *
+ * <p>Shortest paths are computed with a bidirectional Dijkstra search. The arrays of a search are
+ * pooled and reset only at the nodes that were reached, so a query does not allocate or clear
+ * arrays of the size of the network.
+ */
+final class RoutingGraph {
+
+  /**
+   * An edge of a shortest path, like a row of {@code pgr_dijkstra}. The last step of a path is the
+   * end node with {@link #LAST_EDGE}.
+   */
+  record Step(long node, long edge, double cost, double aggCost) {
+
+    static final long LAST_EDGE = -1;
+
+    boolean isLast() {
+      return edge == LAST_EDGE;
+    }
+  }
+
+  private final long[] nodeIds;
+  private final long[] edgeIds;
+  private final int[] outOffsets;
+  private final int[] outTargets;
+  private final int[] outEdges;
+  private final float[] outCosts;
+  private final int[] inOffsets;
+  private final int[] inSources;
+  private final int[] inEdges;
+  private final float[] inCosts;
+  private final Queue<Search> searches;
+
+  private RoutingGraph(
+      long[] nodeIds,
+      long[] edgeIds,
+      int[] outOffsets,
+      int[] outTargets,
+      int[] outEdges,
+      float[] outCosts,
+      int[] inOffsets,
+      int[] inSources,
+      int[] inEdges,
+      float[] inCosts) {
+    this.nodeIds = nodeIds;
+    this.edgeIds = edgeIds;
+    this.outOffsets = outOffsets;
+    this.outTargets = outTargets;
+    this.outEdges = outEdges;
+    this.outCosts = outCosts;
+    this.inOffsets = inOffsets;
+    this.inSources = inSources;
+    this.inEdges = inEdges;
+    this.inCosts = inCosts;
+    this.searches = new ConcurrentLinkedQueue<>();
+  }
+
+  int getNumberOfNodes() {
+    return nodeIds.length;
+  }
+
+  int getNumberOfArcs() {
+    return outTargets.length;
+  }
+
+  /**
+   * @param from the id of the start node
+   * @param to the id of the end node
+   * @return the edges of the shortest path in order followed by the end node, an empty list if
+   *     there is no path
+   */
+  List<Step> shortestPath(long from, long to) {
+    int source = Arrays.binarySearch(nodeIds, from);
+    int target = Arrays.binarySearch(nodeIds, to);
+
+    if (source < 0 || target < 0 || source == target) {
+      return List.of();
+    }
+
+    Search search = Objects.requireNonNullElseGet(searches.poll(), Search::new);
+
+    try {
+      return shortestPath(source, target, search.forward, search.backward);
+    } finally {
+      search.reset();
+      searches.offer(search);
+    }
+  }
+
+  private List<Step> shortestPath(int source, int target, Tree forward, Tree backward) {
+    forward.reach(source, 0, -1);
+    backward.reach(target, 0, -1);
+
+    double best = Double.POSITIVE_INFINITY;
+    int meeting = -1;
+
+    while (!forward.heap.isEmpty() || !backward.heap.isEmpty()) {
+      double forwardMin =
+          forward.heap.isEmpty() ? Double.POSITIVE_INFINITY : forward.heap.peekKey();
+      double backwardMin =
+          backward.heap.isEmpty() ? Double.POSITIVE_INFINITY : backward.heap.peekKey();
+
+      if (forwardMin + backwardMin >= best) {
+        break;
+      }
+
+      if (forwardMin <= backwardMin) {
+        int node = forward.heap.pop();
+        if (forward.settled[node]) {
+          continue;
+        }
+        forward.settled[node] = true;
+
+        for (int arc = outOffsets[node]; arc < outOffsets[node + 1]; arc++) {
+          int next = outTargets[arc];
+          double distance = forward.distances[node] + outCosts[arc];
+
+          forward.reach(next, distance, arc);
+
+          if (distance + backward.distances[next] < best) {
+            best = distance + backward.distances[next];
+            meeting = next;
+          }
+        }
+      } else {
+        int node = backward.heap.pop();
+        if (backward.settled[node]) {
+          continue;
+        }
+        backward.settled[node] = true;
+
+        for (int arc = inOffsets[node]; arc < inOffsets[node + 1]; arc++) {
+          int previous = inSources[arc];
+          double distance = backward.distances[node] + inCosts[arc];
+
+          backward.reach(previous, distance, arc);
+
+          if (distance + forward.distances[previous] < best) {
+            best = distance + forward.distances[previous];
+            meeting = previous;
+          }
+        }
+      }
+    }
+
+    if (meeting < 0) {
+      return List.of();
+    }
+
+    return toSteps(meeting, forward.arcs, backward.arcs);
+  }
+
+  private List<Step> toSteps(int meeting, int[] forwardArcs, int[] backwardArcs) {
+    List<int[]> arcs = new ArrayList<>();
+
+    // arcs from the start to the meeting node, as {from, edge, arc}
+    for (int node = meeting; forwardArcs[node] >= 0; ) {
+      int arc = forwardArcs[node];
+      int from = findSource(arc);
+      arcs.add(new int[] {from, outEdges[arc], arc});
+      node = from;
+    }
+    Collections.reverse(arcs);
+
+    List<Step> steps = new ArrayList<>();
+    double aggCost = 0;
+
+    for (int[] arc : arcs) {
+      double cost = outCosts[arc[2]];
+      steps.add(new Step(nodeIds[arc[0]], edgeIds[arc[1]], cost, aggCost));
+      aggCost += cost;
+    }
+
+    // arcs from the meeting node to the end
+    int node = meeting;
+    while (backwardArcs[node] >= 0) {
+      int arc = backwardArcs[node];
+      double cost = inCosts[arc];
+      steps.add(new Step(nodeIds[node], edgeIds[inEdges[arc]], cost, aggCost));
+      aggCost += cost;
+      node = findTarget(arc);
+    }
+
+    // the end node, like the last row of pgr_dijkstra
+    steps.add(new Step(nodeIds[node], Step.LAST_EDGE, 0, aggCost));
+
+    return steps;
+  }
+
+  private int findSource(int outArc) {
+    return findNode(outOffsets, outArc);
+  }
+
+  private int findTarget(int inArc) {
+    return findNode(inOffsets, inArc);
+  }
+
+  // the node whose arcs contain the given arc
+  private static int findNode(int[] offsets, int arc) {
+    int node = Arrays.binarySearch(offsets, arc);
+
+    if (node < 0) {
+      return -node - 2;
+    }
+    // nodes without arcs share the offset with the next node
+    while (offsets[node + 1] == arc) {
+      node++;
+    }
+    return node;
+  }
+
+  /** Collects the edges of a network and builds the arrays. */
+  static final class Builder {
+    private long[] edgeIds = new long[1024];
+    private long[] sources = new long[1024];
+    private long[] targets = new long[1024];
+    private float[] costs = new float[1024];
+    private float[] reverseCosts = new float[1024];
+    private int size;
+
+    Builder addEdge(long edgeId, long source, long target, float cost, float reverseCost) {
+      if (size == edgeIds.length) {
+        int capacity = size * 2;
+        edgeIds = Arrays.copyOf(edgeIds, capacity);
+        sources = Arrays.copyOf(sources, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        costs = Arrays.copyOf(costs, capacity);
+        reverseCosts = Arrays.copyOf(reverseCosts, capacity);
+      }
+      edgeIds[size] = edgeId;
+      sources[size] = source;
+      targets[size] = target;
+      costs[size] = cost;
+      reverseCosts[size] = reverseCost;
+      size++;
+
+      return this;
+    }
+
+    RoutingGraph build() {
+      long[] nodeIds = new long[size * 2];
+      System.arraycopy(sources, 0, nodeIds, 0, size);
+      System.arraycopy(targets, 0, nodeIds, size, size);
+      nodeIds = Arrays.stream(nodeIds).sorted().distinct().toArray();
+
+      int n = nodeIds.length;
+      int[] from = new int[size];
+      int[] to = new int[size];
+      int[] outDegrees = new int[n + 1];
+      int[] inDegrees = new int[n + 1];
+
+      for (int i = 0; i < size; i++) {
+        from[i] = Arrays.binarySearch(nodeIds, sources[i]);
+        to[i] = Arrays.binarySearch(nodeIds, targets[i]);
+
+        if (costs[i] >= 0) {
+          outDegrees[from[i] + 1]++;
+          inDegrees[to[i] + 1]++;
+        }
+        if (reverseCosts[i] >= 0) {
+          outDegrees[to[i] + 1]++;
+          inDegrees[from[i] + 1]++;
+        }
+      }
+
+      for (int i = 0; i < n; i++) {
+        outDegrees[i + 1] += outDegrees[i];
+        inDegrees[i + 1] += inDegrees[i];
+      }
+
+      int arcs = outDegrees[n];
+      int[] outTargets = new int[arcs];
+      int[] outEdges = new int[arcs];
+      float[] outCosts = new float[arcs];
+      int[] inSources = new int[arcs];
+      int[] inEdges = new int[arcs];
+      float[] inCosts = new float[arcs];
+      int[] outNext = Arrays.copyOf(outDegrees, n);
+      int[] inNext = Arrays.copyOf(inDegrees, n);
+
+      for (int i = 0; i < size; i++) {
+        if (costs[i] >= 0) {
+          int out = outNext[from[i]]++;
+          outTargets[out] = to[i];
+          outEdges[out] = i;
+          outCosts[out] = costs[i];
+          int in = inNext[to[i]]++;
+          inSources[in] = from[i];
+          inEdges[in] = i;
+          inCosts[in] = costs[i];
+        }
+        if (reverseCosts[i] >= 0) {
+          int out = outNext[to[i]]++;
+          outTargets[out] = from[i];
+          outEdges[out] = i;
+          outCosts[out] = reverseCosts[i];
+          int in = inNext[from[i]]++;
+          inSources[in] = to[i];
+          inEdges[in] = i;
+          inCosts[in] = reverseCosts[i];
+        }
+      }
+
+      return new RoutingGraph(
+          nodeIds,
+          Arrays.copyOf(edgeIds, size),
+          outDegrees,
+          outTargets,
+          outEdges,
+          outCosts,
+          inDegrees,
+          inSources,
+          inEdges,
+          inCosts);
+    }
+  }
+
+  /** The state of a bidirectional search, it is reused for the next query after a reset. */
+  private final class Search {
+    private final Tree forward = new Tree(nodeIds.length);
+    private final Tree backward = new Tree(nodeIds.length);
+
+    void reset() {
+      forward.reset();
+      backward.reset();
+    }
+  }
+
+  /** The shortest path tree of one direction of a search. */
+  private static final class Tree {
+    private final double[] distances;
+    private final int[] arcs;
+    private final boolean[] settled;
+    private final Heap heap;
+    private int[] reached;
+    private int size;
+
+    Tree(int nodes) {
+      this.distances = new double[nodes];
+      this.arcs = new int[nodes];
+      this.settled = new boolean[nodes];
+      this.heap = new Heap();
+      this.reached = new int[64];
+      Arrays.fill(distances, Double.POSITIVE_INFINITY);
+      Arrays.fill(arcs, -1);
+    }
+
+    // updates the node if the distance is shorter than the known one
+    void reach(int node, double distance, int arc) {
+      if (distance >= distances[node]) {
+        return;
+      }
+      if (distances[node] == Double.POSITIVE_INFINITY) {
+        if (size == reached.length) {
+          reached = Arrays.copyOf(reached, size * 2);
+        }
+        reached[size++] = node;
+      }
+      distances[node] = distance;
+      arcs[node] = arc;
+      heap.push(node, distance);
+    }
+
+    void reset() {
+      for (int i = 0; i < size; i++) {
+        int node = reached[i];
+        distances[node] = Double.POSITIVE_INFINITY;
+        arcs[node] = -1;
+        settled[node] = false;
+      }
+      size = 0;
+      heap.clear();
+    }
+  }
+
+  /** A binary min-heap of nodes, outdated entries are skipped when they are popped. */
+  private static final class Heap {
+    private int[] nodes = new int[64];
+    private double[] keys = new double[64];
+    private int size;
+
+    boolean isEmpty() {
+      return size == 0;
+    }
+
+    void clear() {
+      size = 0;
+    }
+
+    double peekKey() {
+      return keys[0];
+    }
+
+    void push(int node, double key) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (keys[parent] <= key) {
+          break;
+        }
+        nodes[i] = nodes[parent];
+        keys[i] = keys[parent];
+        i = parent;
+      }
+      nodes[i] = node;
+      keys[i] = key;
+    }
+
+    int pop() {
+      int top = nodes[0];
+      int node = nodes[--size];
+      double key = keys[size];
+      int i = 0;
+
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && keys[child + 1] < keys[child]) {
+          child++;
+        }
+        if (keys[child] >= key) {
+          break;
+        }
+        nodes[i] = nodes[child];
+        keys[i] = keys[child];
+        i = child;
+      }
+      nodes[i] = node;
+      keys[i] = key;
+
+      return top;
+    }
+  }
+}
@@ -13,6 +13,7 @@ import de.ii.xtraplatform.crs.domain.EpsgCrs;
 import de.ii.xtraplatform.docs.DocIgnore;
 import de.ii.xtraplatform.docs.JsonDynamicSubType;
 import de.ii.xtraplatform.features.domain.ExtensionConfiguration;
+import io.dropwizard.util.Duration;
 import java.util.Map;
 import java.util.Objects;
 import javax.annotation.Nullable;
@@ -280,6 +281,43 @@ public interface RoutesConfiguration extends ExtensionConfiguration {
     return Objects.equals(getWarmup(), true);
   }
 
+  /**
+   * @langEn Computes routes in memory instead of with pgRouting. The edges of each mode and
+   *     preference are loaded once at provider startup, the `edgesQuery` has to return the columns
+   *     `id`, `source`, `target`, `cost` and `reverse_cost`. The route is the shortest path
+   *     according to these costs, the `routeQuery` is not used. Routes with a weight, height,
+   *     obstacles or flags are still computed with pgRouting.
+   * @langDe Berechnet Routen im Speicher statt mit pgRouting. Die Kanten jedes Verkehrsmittels und
+   *     jeder Option werden einmalig beim Start des Providers geladen, die `edgesQuery` muss dazu
+   *     die Spalten `id`, `source`, `target`, `cost` und `reverse_cost` liefern. Die Route ist der
+   *     kürzeste Weg gemäß dieser Kosten, die `routeQuery` wird nicht verwendet. Routen mit
+   *     Gewicht, Höhe, Hindernissen oder Flags werden weiterhin mit pgRouting berechnet.
+   * @default false
+   * @since v4.8
+   */
+  @Nullable
+  Boolean getInMemory();
+
+  @JsonIgnore
+  @Value.Lazy
+  default boolean shouldComputeInMemory() {
+    return Objects.equals(getInMemory(), true);
+  }
+
+  /**
+   * @langEn Computed routes are cached for the given duration, a repeated request for the same
+   *     route is then answered without computing the route again. `0s` disables the cache.
+   * @langDe Berechnete Routen werden für die angegebene Dauer gecacht, eine wiederholte Anfrage für
+   *     dieselbe Route wird dann ohne erneute Berechnung beantwortet. Mit `0s` wird der Cache
+   *     deaktiviert.
+   * @default 0s
+   * @since v4.8
+   */
+  @Value.Default
+  default Duration getRouteCacheTtl() {
+    return Duration.seconds(0);
+  }
+
   abstract class Builder extends ExtensionConfiguration.Builder {}
 
   @Override
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.routes.sql.app
+
+import de.ii.xtraplatform.routes.sql.app.RoutingGraph.Step
+import spock.lang.Specification
+
+class RouteTableSpec extends Specification {
+
+    static final String SELECT = "(SELECT id, seq, path_seq, node::bigint AS node, edge::bigint AS edge, cost::float AS cost, agg_cost::float AS agg_cost FROM (VALUES "
+    static final String ALIAS = ") AS r(id, seq, path_seq, node, edge, cost, agg_cost))"
+
+    def 'The steps of a segment are the rows of the VALUES list'() {
+        given:
+        List<Step> path = [new Step(1, 1, 1, 0), new Step(2, 5, 2.5, 1), new Step(4, Step.LAST_EDGE, 0, 3.5)]
+
+        expect:
+        RouteTable.toVirtualTable([path]) == SELECT + "(1, 1, 1, 1, 1, 1.0, 0.0), (2, 2, 2, 2, 5, 2.5, 1.0)" + ALIAS
+    }
+
+    def 'The ids are numbered across segments, seq and path_seq start again for every segment'() {
+        given:
+        List<Step> first = [new Step(1, 1, 1, 0), new Step(2, Step.LAST_EDGE, 0, 1)]
+        List<Step> second = [new Step(2, 5, 2.5, 0), new Step(4, 3, 1, 2.5), new Step(3, Step.LAST_EDGE, 0, 3.5)]
+
+        expect:
+        RouteTable.toVirtualTable([first, second]) == SELECT + "(1, 1, 1, 1, 1, 1.0, 0.0), (2, 1, 1, 2, 5, 2.5, 0.0), (3, 2, 2, 4, 3, 1.0, 2.5)" + ALIAS
+    }
+
+    def 'Steps computed by pgRouting without an end node are all rows'() {
+        expect:
+        RouteTable.toVirtualTable([[new Step(7, 12, 0.25, 0), new Step(9, 13, 1E-7, 0.25)]]) ==
+                SELECT + "(1, 1, 1, 7, 12, 0.25, 0.0), (2, 2, 2, 9, 13, 1.0E-7, 0.25)" + ALIAS
+    }
+
+    def 'A route without rows is an empty table - #reason'() {
+        expect:
+        RouteTable.toVirtualTable(paths) == "(SELECT 0 AS id, 0 AS seq, 0 AS path_seq, 0::bigint AS node, 0::bigint AS edge, 0::float AS cost, 0::float AS agg_cost WHERE false)"
+
+        where:
+        reason              | paths
+        'no segments'       | []
+        'an empty segment'  | [[]]
+        'only the end node' | [[new Step(1, Step.LAST_EDGE, 0, 0)]]
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.routes.sql.app
+
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+class RoutingGraphSpec extends Specification {
+
+    /*
+     * id | source | target | cost | reverse_cost
+     *  1 |      1 |      2 |  1   |  1
+     *  2 |      2 |      3 |  1   | -1
+     *  3 |      3 |      4 |  1   |  1
+     *  4 |      1 |      4 |  5   |  5
+     *  5 |      2 |      4 |  2.5 |  2.5
+     *  6 |      5 |      6 |  1   |  1
+     */
+    @Shared
+    RoutingGraph graph = new RoutingGraph.Builder()
+            .addEdge(1, 1, 2, 1, 1)
+            .addEdge(2, 2, 3, 1, -1)
+            .addEdge(3, 3, 4, 1, 1)
+            .addEdge(4, 1, 4, 5, 5)
+            .addEdge(5, 2, 4, 2.5f, 2.5f)
+            .addEdge(6, 5, 6, 1, 1)
+            .build()
+
+    def 'The graph has an arc per direction with a non-negative cost'() {
+        expect:
+        graph.getNumberOfNodes() == 6
+        graph.getNumberOfArcs() == 11
+    }
+
+    def 'Shortest path from #from to #to is the result of pgr_dijkstra'() {
+        expect:
+        graph.shortestPath(from, to).collect { [it.node(), it.edge(), it.cost(), it.aggCost()] } == expected
+
+        where:
+        from | to || expected
+        // SELECT node, edge, cost, agg_cost FROM pgr_dijkstra('SELECT ...', 1, 4)
+        1    | 4  || [[1, 1, 1, 0], [2, 2, 1, 1], [3, 3, 1, 2], [4, -1, 0, 3]]
+        // edge 2 is one-way, so the way back is longer
+        4    | 1  || [[4, 5, 2.5, 0], [2, 1, 1, 2.5], [1, -1, 0, 3.5]]
+        3    | 2  || [[3, 3, 1, 0], [4, 5, 2.5, 1], [2, -1, 0, 3.5]]
+        1    | 2  || [[1, 1, 1, 0], [2, -1, 0, 1]]
+        6    | 5  || [[6, 6, 1, 0], [5, -1, 0, 1]]
+    }
+
+    def 'Like pgr_dijkstra, there are no rows for #reason'() {
+        expect:
+        graph.shortestPath(from, to) == []
+
+        where:
+        reason                   | from | to
+        'the same start and end' | 1    | 1
+        'an unconnected end'     | 1    | 5
+        'an unknown node'        | 1    | 7
+    }
+
+    def 'Queries that reuse the state of earlier or concurrent queries have the same result'() {
+        given:
+        List<List<Long>> queries = [[1L, 4L], [4L, 1L], [3L, 2L], [1L, 5L], [6L, 5L]]
+        Map<List<Long>, List<RoutingGraph.Step>> expected = queries.collectEntries { [(it): graph.shortestPath(it[0], it[1])] }
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+
+        when:
+        List<Future<Boolean>> results = (0..7).collect { int offset ->
+            executor.submit({
+                (0..199).every { int i ->
+                    List<Long> query = queries[(offset + i) % queries.size()]
+                    graph.shortestPath(query[0], query[1]) == expected[query]
+                }
+            } as Callable<Boolean>)
+        }
+
+        then:
+        results.every { it.get() }
+
+        cleanup:
+        executor.shutdownNow()
+    }
+}
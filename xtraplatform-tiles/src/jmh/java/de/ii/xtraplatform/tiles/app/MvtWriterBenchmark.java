@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import no.ecc.vectortile.VectorTileEncoder;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link MvtWriter} with {@link VectorTileEncoder} on tiles that resemble a large scale
+ * tile with buildings and roads, i.e. many small polygons and fewer longer line strings with a few
+ * repeating attribute values. The geometries are already in tile coordinates and aligned with the
+ * tile grid, like the output of {@link TileGeometryUtil#getTileGeometry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MvtWriterBenchmark {
+
+  private static final int TILE_SIZE = 256;
+  private static final int EXTENT = 4096;
+  private static final String[] TYPES = {"residential", "commercial", "industrial", "garage"};
+
+  @Param({"500", "5000"})
+  public int buildings;
+
+  @Param({"100"})
+  public int roads;
+
+  private List<Geometry> geometries;
+  private List<Map<String, Object>> properties;
+
+  @Setup
+  public void setup() {
+    GeometryFactory geometryFactory =
+        new GeometryFactory(new PrecisionModel((double) EXTENT / TILE_SIZE));
+    Random random = new Random(42);
+    this.geometries = new ArrayList<>();
+    this.properties = new ArrayList<>();
+
+    for (int i = 0; i < buildings; i++) {
+      double cx = random.nextDouble() * TILE_SIZE;
+      double cy = random.nextDouble() * TILE_SIZE;
+      int vertices = 4 + random.nextInt(16);
+      Coordinate[] ring = new Coordinate[vertices + 1];
+      for (int v = 0; v < vertices; v++) {
+        double angle = 2 * Math.PI * v / vertices;
+        ring[v] = snap(geometryFactory, cx + 2 * Math.cos(angle), cy + 2 * Math.sin(angle));
+      }
+      ring[vertices] = ring[0];
+      geometries.add(geometryFactory.createPolygon(ring));
+
+      Map<String, Object> props = new TreeMap<>();
+      props.put("id", (long) i);
+      props.put("type", TYPES[random.nextInt(TYPES.length)]);
+      props.put("height", (double) (3 * (1 + random.nextInt(10))));
+      properties.add(props);
+    }
+
+    for (int i = 0; i < roads; i++) {
+      double x = random.nextDouble() * TILE_SIZE;
+      double y = random.nextDouble() * TILE_SIZE;
+      Coordinate[] line = new Coordinate[30];
+      for (int v = 0; v < line.length; v++) {
+        x += random.nextDouble() * 8 - 4;
+        y += random.nextDouble() * 8 - 4;
+        line[v] = snap(geometryFactory, x, y);
+      }
+      geometries.add(geometryFactory.createLineString(line));
+
+      Map<String, Object> props = new TreeMap<>();
+      props.put("id", (long) (buildings + i));
+      props.put("name", "Road " + i);
+      props.put("lanes", (long) (1 + random.nextInt(4)));
+      properties.add(props);
+    }
+  }
+
+  @Benchmark
+  public byte[] mvtWriter() {
+    MvtWriter writer = new MvtWriter(EXTENT, TILE_SIZE);
+    for (int i = 0; i < geometries.size(); i++) {
+      writer.addFeature("layer", properties.get(i), geometries.get(i), (long) i);
+    }
+    return writer.encode();
+  }
+
+  @Benchmark
+  public byte[] vectorTileEncoder() {
+    VectorTileEncoder encoder = new VectorTileEncoder(EXTENT);
+    for (int i = 0; i < geometries.size(); i++) {
+      encoder.addFeature("layer", properties.get(i), geometries.get(i), i);
+    }
+    return encoder.encode();
+  }
+
+  private static Coordinate snap(GeometryFactory geometryFactory, double x, double y) {
+    Coordinate coordinate = new Coordinate(x, y);
+    geometryFactory.getPrecisionModel().makePrecise(coordinate);
+    return coordinate;
+  }
+}
@@ -42,13 +42,14 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
 
   private final TileGenerationOptions parameters;
   private final TileCoordinates tile;
-  private final VectorTileEncoder tileEncoder;
+  private final MvtWriter tileWriter;
   private final AffineTransformation affineTransformation;
   private final String tileset;
   private final PrecisionModel tilePrecisionModel;
   private final GeometryFactory geometryFactoryTile;
   private final GeometryFactory geometryFactoryWorld;
   private final Polygon clipGeometry;
+  private final RectangleClipper clipper;
   private final List<String> groupBy;
   private final Set<MvtFeature> mergeFeatures;
 
@@ -60,7 +61,9 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
     super(encodingContext);
     this.parameters = encodingContext.getParameters();
     this.tile = encodingContext.getCoordinates();
-    this.tileEncoder = new VectorTileEncoder(tile.getTileMatrixSet().getTileExtent());
+    this.tileWriter =
+        new MvtWriter(
+            tile.getTileMatrixSet().getTileExtent(), tile.getTileMatrixSet().getTileSize());
     this.affineTransformation = createTransformNativeToTile();
     this.tileset = encodingContext.getTileset();
     this.tilePrecisionModel =
@@ -79,6 +82,7 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
     coords[3] = new CoordinateXY(-buffer, -buffer);
     coords[4] = coords[0];
     this.clipGeometry = geometryFactoryTile.createPolygon(coords);
+    this.clipper = new RectangleClipper(clipGeometry);
 
     final Map<String, List<LevelTransformation>> rules = parameters.getTransformations();
     this.groupBy =
@@ -126,7 +130,7 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
           TileGeometryUtil.getTileGeometry(
               featureGeometry.get(),
               affineTransformation,
-              clipGeometry,
+              clipper,
               tilePrecisionModel,
               parameters.getMinimumSizeInPixel());
       if (Objects.isNull(tileGeometry)) {
@@ -181,12 +185,9 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
       }
 
       // Add the feature with the layer name, a Map with attributes and the JTS Geometry.
-      if (Objects.nonNull(id)) {
-        tileEncoder.addFeature(tileset, feature.getPropertiesAsMap(), tileGeometry, id);
-      } else {
-        tileEncoder.addFeature(tileset, feature.getPropertiesAsMap(), tileGeometry);
+      if (tileWriter.addFeature(tileset, feature.getPropertiesAsMap(), tileGeometry, id)) {
+        written++;
       }
-      written++;
 
     } catch (Exception e) {
       LOGGER.error(
@@ -246,15 +247,16 @@ public class FeatureEncoderMVT extends FeatureEncoderSfFlat {
                     }
                   }
                 }
-                tileEncoder.addFeature(tileset, mergedFeature.getProperties(), geom);
-                written++;
+                if (tileWriter.addFeature(tileset, mergedFeature.getProperties(), geom, null)) {
+                  written++;
+                }
               });
     }
     long mergerDuration = (System.nanoTime() - mergerStart) / 1_000_000;
 
     long encoderStart = System.nanoTime();
 
-    byte[] mvt = tileEncoder.encode();
+    byte[] mvt = tileWriter.encode();
     push(mvt);
 
     if (featureCount == 0) {
@@ -0,0 +1,452 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Writes Mapbox Vector Tiles, see <a
+ * href="https://github.com/mapbox/vector-tile-spec/tree/master/2.1">https://github.com/mapbox/vector-tile-spec/tree/master/2.1</a>.
+ *
+ * <p>In contrast to {@code no.ecc.vectortile.VectorTileEncoder}, the geometries are expected to be
+ * in tile coordinates and already clipped, so they are only quantized to the extent and written as
+ * delta and zigzag encoded commands. The protobuf messages are written directly to growable byte
+ * arrays, keys and values are deduplicated per layer.
+ */
+class MvtWriter {
+
+  private static final int MOVE_TO = 1;
+  private static final int LINE_TO = 2;
+  private static final int CLOSE_PATH = 7;
+
+  private static final int GEOM_TYPE_POINT = 1;
+  private static final int GEOM_TYPE_LINESTRING = 2;
+  private static final int GEOM_TYPE_POLYGON = 3;
+
+  private static final int WIRE_TYPE_VARINT = 0;
+  private static final int WIRE_TYPE_FIXED64 = 1;
+  private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+  private static final int WIRE_TYPE_FIXED32 = 5;
+
+  private final int extent;
+  private final double scale;
+  private final Map<String, Layer> layers;
+  private final Ints commands;
+  private final Ints tags;
+  private final Bytes feature;
+  private int[] xs;
+  private int[] ys;
+  private int cursorX;
+  private int cursorY;
+
+  /**
+   * @param extent the extent of the tile in the encoded coordinates
+   * @param tileSize the size of the tile in the tile coordinates of the geometries
+   */
+  MvtWriter(int extent, int tileSize) {
+    this.extent = extent;
+    this.scale = (double) extent / tileSize;
+    this.layers = new LinkedHashMap<>();
+    this.commands = new Ints(256);
+    this.tags = new Ints(32);
+    this.feature = new Bytes(256);
+    this.xs = new int[256];
+    this.ys = new int[256];
+  }
+
+  /**
+   * @return false, if nothing was written, because the geometry collapsed to nothing in the extent
+   */
+  boolean addFeature(String layerName, Map<String, ?> properties, Geometry geometry, Long id) {
+    if (geometry.getClass() == GeometryCollection.class) {
+      boolean written = false;
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        written = addFeature(layerName, properties, geometry.getGeometryN(i), id) || written;
+      }
+      return written;
+    }
+
+    commands.clear();
+    this.cursorX = 0;
+    this.cursorY = 0;
+
+    int type = writeGeometry(geometry);
+    if (type == 0 || commands.size == 0) {
+      return false;
+    }
+
+    Layer layer = layers.computeIfAbsent(layerName, Layer::new);
+
+    tags.clear();
+    properties.forEach(
+        (key, value) -> {
+          if (Objects.nonNull(value)) {
+            tags.add(layer.key(key));
+            tags.add(layer.value(value));
+          }
+        });
+
+    feature.clear();
+    if (Objects.nonNull(id) && id >= 0) {
+      feature.tag(1, WIRE_TYPE_VARINT);
+      feature.varint(id);
+    }
+    if (tags.size > 0) {
+      feature.tag(2, WIRE_TYPE_LENGTH_DELIMITED);
+      feature.packed(tags);
+    }
+    feature.tag(3, WIRE_TYPE_VARINT);
+    feature.varint(type);
+    feature.tag(4, WIRE_TYPE_LENGTH_DELIMITED);
+    feature.packed(commands);
+
+    layer.features.tag(2, WIRE_TYPE_LENGTH_DELIMITED);
+    layer.features.bytes(feature);
+
+    return true;
+  }
+
+  byte[] encode() {
+    Bytes tile = new Bytes(1024);
+    Bytes message = new Bytes(1024);
+    Bytes value = new Bytes(32);
+
+    for (Layer layer : layers.values()) {
+      message.clear();
+      message.tag(15, WIRE_TYPE_VARINT);
+      message.varint(2);
+      message.tag(1, WIRE_TYPE_LENGTH_DELIMITED);
+      message.string(layer.name);
+      message.raw(layer.features);
+      for (String key : layer.keys) {
+        message.tag(3, WIRE_TYPE_LENGTH_DELIMITED);
+        message.string(key);
+      }
+      for (Object v : layer.values) {
+        value.clear();
+        writeValue(value, v);
+        message.tag(4, WIRE_TYPE_LENGTH_DELIMITED);
+        message.bytes(value);
+      }
+      message.tag(5, WIRE_TYPE_VARINT);
+      message.varint(extent);
+
+      tile.tag(3, WIRE_TYPE_LENGTH_DELIMITED);
+      tile.bytes(message);
+    }
+
+    return tile.toByteArray();
+  }
+
+  private static void writeValue(Bytes bytes, Object value) {
+    if (value instanceof Integer || value instanceof Long) {
+      bytes.tag(6, WIRE_TYPE_VARINT);
+      bytes.varint(zigzag(((Number) value).longValue()));
+    } else if (value instanceof Float) {
+      bytes.tag(2, WIRE_TYPE_FIXED32);
+      bytes.fixed32(Float.floatToIntBits((Float) value));
+    } else if (value instanceof Number) {
+      bytes.tag(3, WIRE_TYPE_FIXED64);
+      bytes.fixed64(Double.doubleToLongBits(((Number) value).doubleValue()));
+    } else if (value instanceof Boolean) {
+      bytes.tag(7, WIRE_TYPE_VARINT);
+      bytes.varint((Boolean) value ? 1 : 0);
+    } else {
+      bytes.tag(1, WIRE_TYPE_LENGTH_DELIMITED);
+      bytes.string(value.toString());
+    }
+  }
+
+  private int writeGeometry(Geometry geometry) {
+    if (geometry instanceof Point || geometry instanceof MultiPoint) {
+      int count = 0;
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        if (!geometry.getGeometryN(i).isEmpty()) {
+          count++;
+        }
+      }
+      if (count == 0) {
+        return 0;
+      }
+      commands.add(command(MOVE_TO, count));
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        Point point = (Point) geometry.getGeometryN(i);
+        if (!point.isEmpty()) {
+          moveCursor(quantize(point.getX()), quantize(point.getY()));
+        }
+      }
+      return GEOM_TYPE_POINT;
+    }
+
+    if (geometry instanceof LineString || geometry instanceof MultiLineString) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        int n = quantize(((LineString) geometry.getGeometryN(i)).getCoordinateSequence(), false);
+        if (n >= 2) {
+          writePath(n, false, false);
+        }
+      }
+      return GEOM_TYPE_LINESTRING;
+    }
+
+    if (geometry instanceof Polygon || geometry instanceof MultiPolygon) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        Polygon polygon = (Polygon) geometry.getGeometryN(i);
+        if (polygon.isEmpty()) {
+          continue;
+        }
+
+        // exterior rings have a positive area in tile coordinates, interior rings a negative area
+        int n = quantize(polygon.getExteriorRing().getCoordinateSequence(), true);
+        long area = n >= 3 ? area(n) : 0;
+        if (area == 0) {
+          continue;
+        }
+        writePath(n, area < 0, true);
+
+        for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+          n = quantize(polygon.getInteriorRingN(j).getCoordinateSequence(), true);
+          area = n >= 3 ? area(n) : 0;
+          if (area != 0) {
+            writePath(n, area > 0, true);
+          }
+        }
+      }
+      return GEOM_TYPE_POLYGON;
+    }
+
+    return 0;
+  }
+
+  // quantizes the coordinates to xs/ys and drops repeated points, returns the number of points
+  private int quantize(CoordinateSequence coordinates, boolean ring) {
+    int size = ring ? coordinates.size() - 1 : coordinates.size();
+    if (xs.length < size) {
+      this.xs = new int[size];
+      this.ys = new int[size];
+    }
+
+    int n = 0;
+    for (int i = 0; i < size; i++) {
+      int x = quantize(coordinates.getX(i));
+      int y = quantize(coordinates.getY(i));
+      if (n == 0 || x != xs[n - 1] || y != ys[n - 1]) {
+        xs[n] = x;
+        ys[n++] = y;
+      }
+    }
+    while (ring && n > 1 && xs[n - 1] == xs[0] && ys[n - 1] == ys[0]) {
+      n--;
+    }
+
+    return n;
+  }
+
+  private int quantize(double ordinate) {
+    return (int) Math.round(ordinate * scale);
+  }
+
+  // twice the signed area, y is pointing down in tile coordinates
+  private long area(int n) {
+    long area = 0;
+    for (int i = 0, j = n - 1; i < n; j = i++) {
+      area += (long) xs[j] * ys[i] - (long) xs[i] * ys[j];
+    }
+    return area;
+  }
+
+  private void writePath(int n, boolean reverse, boolean close) {
+    commands.add(command(MOVE_TO, 1));
+    moveCursor(xs[reverse ? n - 1 : 0], ys[reverse ? n - 1 : 0]);
+    commands.add(command(LINE_TO, n - 1));
+    for (int i = 1; i < n; i++) {
+      int k = reverse ? n - 1 - i : i;
+      moveCursor(xs[k], ys[k]);
+    }
+    if (close) {
+      commands.add(command(CLOSE_PATH, 1));
+    }
+  }
+
+  private void moveCursor(int x, int y) {
+    commands.add((int) zigzag(x - cursorX));
+    commands.add((int) zigzag(y - cursorY));
+    this.cursorX = x;
+    this.cursorY = y;
+  }
+
+  private static int command(int id, int count) {
+    return (id & 0x7) | (count << 3);
+  }
+
+  private static long zigzag(long n) {
+    return (n << 1) ^ (n >> 63);
+  }
+
+  private static final class Layer {
+    private final String name;
+    private final Map<String, Integer> keyIndex;
+    private final List<String> keys;
+    private final Map<Object, Integer> valueIndex;
+    private final List<Object> values;
+    private final Bytes features;
+
+    Layer(String name) {
+      this.name = name;
+      this.keyIndex = new HashMap<>();
+      this.keys = new ArrayList<>();
+      this.valueIndex = new HashMap<>();
+      this.values = new ArrayList<>();
+      this.features = new Bytes(4096);
+    }
+
+    int key(String key) {
+      Integer index = keyIndex.get(key);
+      if (Objects.isNull(index)) {
+        index = keys.size();
+        keyIndex.put(key, index);
+        keys.add(key);
+      }
+      return index;
+    }
+
+    int value(Object value) {
+      Integer index = valueIndex.get(value);
+      if (Objects.isNull(index)) {
+        index = values.size();
+        valueIndex.put(value, index);
+        values.add(value);
+      }
+      return index;
+    }
+  }
+
+  private static final class Ints {
+    private int[] values;
+    private int size;
+
+    Ints(int capacity) {
+      this.values = new int[capacity];
+    }
+
+    void add(int value) {
+      if (size == values.length) {
+        this.values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    void clear() {
+      this.size = 0;
+    }
+  }
+
+  private static final class Bytes {
+    private byte[] bytes;
+    private int size;
+
+    Bytes(int capacity) {
+      this.bytes = new byte[capacity];
+    }
+
+    void tag(int field, int wireType) {
+      varint((field << 3) | wireType);
+    }
+
+    void varint(long value) {
+      ensureCapacity(10);
+      while ((value & ~0x7FL) != 0) {
+        bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      bytes[size++] = (byte) value;
+    }
+
+    void fixed32(int value) {
+      ensureCapacity(4);
+      for (int i = 0; i < 4; i++) {
+        bytes[size++] = (byte) (value >>> (8 * i));
+      }
+    }
+
+    void fixed64(long value) {
+      ensureCapacity(8);
+      for (int i = 0; i < 8; i++) {
+        bytes[size++] = (byte) (value >>> (8 * i));
+      }
+    }
+
+    void string(String value) {
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      varint(utf8.length);
+      ensureCapacity(utf8.length);
+      System.arraycopy(utf8, 0, bytes, size, utf8.length);
+      this.size += utf8.length;
+    }
+
+    void packed(Ints ints) {
+      int length = 0;
+      for (int i = 0; i < ints.size; i++) {
+        length += varintSize(ints.values[i] & 0xFFFFFFFFL);
+      }
+      varint(length);
+      for (int i = 0; i < ints.size; i++) {
+        varint(ints.values[i] & 0xFFFFFFFFL);
+      }
+    }
+
+    void bytes(Bytes other) {
+      varint(other.size);
+      raw(other);
+    }
+
+    void raw(Bytes other) {
+      ensureCapacity(other.size);
+      System.arraycopy(other.bytes, 0, bytes, size, other.size);
+      this.size += other.size;
+    }
+
+    void clear() {
+      this.size = 0;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int additional) {
+      if (size + additional > bytes.length) {
+        this.bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+      }
+    }
+
+    private static int varintSize(long value) {
+      int size = 1;
+      while ((value & ~0x7FL) != 0) {
+        size++;
+        value >>>= 7;
+      }
+      return size;
+    }
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateXY;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.TopologyException;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+/**
+ * Clips geometries in tile coordinates to an axis-aligned rectangle. Geometries inside the
+ * rectangle are returned as is, line strings are clipped with Liang-Barsky and polygon rings with
+ * Sutherland-Hodgman, both directly on the coordinates.
+ *
+ * <p>Sutherland-Hodgman connects the pieces of a ring that leaves the rectangle more than once
+ * through the same side along that side, which results in overlapping edges. These polygons, as
+ * well as polygons with holes that cross the rectangle and geometry collections, are clipped with a
+ * regular JTS intersection instead. The same applies to all geometries, if the clip geometry is not
+ * a rectangle.
+ */
+class RectangleClipper {
+
+  private static final int LEFT = 0;
+  private static final int RIGHT = 1;
+  private static final int BOTTOM = 2;
+  private static final int TOP = 3;
+
+  private final Envelope envelope;
+  private final Geometry rectangle;
+  private final boolean isRectangle;
+  private final double xmin;
+  private final double ymin;
+  private final double xmax;
+  private final double ymax;
+
+  RectangleClipper(Geometry clipGeometry) {
+    this.envelope = clipGeometry.getEnvelopeInternal();
+    this.rectangle = clipGeometry;
+    this.isRectangle = clipGeometry.isRectangle();
+    this.xmin = envelope.getMinX();
+    this.ymin = envelope.getMinY();
+    this.xmax = envelope.getMaxX();
+    this.ymax = envelope.getMaxY();
+  }
+
+  /**
+   * @param geometry the geometry in tile coordinates
+   * @return the part of the geometry inside the rectangle or null, if nothing is left
+   */
+  Geometry clip(Geometry geometry) {
+    if (!isRectangle) {
+      return intersection(geometry);
+    }
+    if (envelope.contains(geometry.getEnvelopeInternal())) {
+      return geometry;
+    }
+    if (!envelope.intersects(geometry.getEnvelopeInternal())) {
+      return null;
+    }
+
+    List<Geometry> parts = new ArrayList<>();
+
+    if (geometry instanceof Point || geometry instanceof MultiPoint) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        Point point = (Point) geometry.getGeometryN(i);
+        if (!point.isEmpty() && envelope.contains(point.getCoordinate())) {
+          parts.add(point);
+        }
+      }
+    } else if (geometry instanceof LineString || geometry instanceof MultiLineString) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        clipLine((LineString) geometry.getGeometryN(i), parts);
+      }
+    } else if (geometry instanceof Polygon || geometry instanceof MultiPolygon) {
+      for (int i = 0; i < geometry.getNumGeometries(); i++) {
+        addAll(parts, clipPolygon((Polygon) geometry.getGeometryN(i)));
+      }
+    } else {
+      return intersection(geometry);
+    }
+
+    if (parts.isEmpty()) {
+      return null;
+    }
+
+    return geometry.getFactory().buildGeometry(parts);
+  }
+
+  private void clipLine(LineString line, List<Geometry> parts) {
+    if (envelope.contains(line.getEnvelopeInternal())) {
+      parts.add(line);
+      return;
+    }
+    if (!envelope.intersects(line.getEnvelopeInternal())) {
+      return;
+    }
+
+    Coordinate[] coordinates = line.getCoordinates();
+    CoordinateList part = new CoordinateList();
+    double[] t = new double[2];
+
+    for (int i = 0; i < coordinates.length - 1; i++) {
+      double x0 = coordinates[i].x;
+      double y0 = coordinates[i].y;
+      double dx = coordinates[i + 1].x - x0;
+      double dy = coordinates[i + 1].y - y0;
+      t[0] = 0.0;
+      t[1] = 1.0;
+
+      if (!clipSegment(x0, y0, dx, dy, t)) {
+        addLine(line.getFactory(), part, parts);
+        continue;
+      }
+
+      if (t[0] > 0.0) {
+        addLine(line.getFactory(), part, parts);
+        part.add(new CoordinateXY(x0 + t[0] * dx, y0 + t[0] * dy), false);
+      } else if (part.isEmpty()) {
+        part.add(coordinates[i], false);
+      }
+
+      if (t[1] < 1.0) {
+        part.add(new CoordinateXY(x0 + t[1] * dx, y0 + t[1] * dy), false);
+        addLine(line.getFactory(), part, parts);
+      } else {
+        part.add(coordinates[i + 1], false);
+      }
+    }
+
+    addLine(line.getFactory(), part, parts);
+  }
+
+  private static void addLine(
+      GeometryFactory geometryFactory, CoordinateList part, List<Geometry> parts) {
+    if (part.size() >= 2) {
+      parts.add(geometryFactory.createLineString(part.toCoordinateArray()));
+    }
+    part.clear();
+  }
+
+  // Liang-Barsky, t holds the parameters of the visible part of the segment
+  private boolean clipSegment(double x0, double y0, double dx, double dy, double[] t) {
+    return clipParameter(-dx, x0 - xmin, t)
+        && clipParameter(dx, xmax - x0, t)
+        && clipParameter(-dy, y0 - ymin, t)
+        && clipParameter(dy, ymax - y0, t);
+  }
+
+  private static boolean clipParameter(double p, double q, double[] t) {
+    if (p == 0.0) {
+      return q >= 0.0;
+    }
+
+    double r = q / p;
+
+    if (p < 0.0) {
+      if (r > t[1]) {
+        return false;
+      }
+      if (r > t[0]) {
+        t[0] = r;
+      }
+    } else {
+      if (r < t[0]) {
+        return false;
+      }
+      if (r < t[1]) {
+        t[1] = r;
+      }
+    }
+
+    return true;
+  }
+
+  private Geometry clipPolygon(Polygon polygon) {
+    if (envelope.contains(polygon.getEnvelopeInternal())) {
+      return polygon;
+    }
+    if (!envelope.intersects(polygon.getEnvelopeInternal())) {
+      return null;
+    }
+
+    List<LinearRing> holes = new ArrayList<>();
+
+    for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+      LinearRing hole = polygon.getInteriorRingN(i);
+
+      if (envelope.contains(hole.getEnvelopeInternal())) {
+        holes.add(hole);
+      } else if (envelope.intersects(hole.getEnvelopeInternal())) {
+        // the clipped hole would touch the clipped shell along the rectangle
+        return intersection(polygon);
+      }
+    }
+
+    Ring shell = clipRing(polygon.getExteriorRing().getCoordinates());
+
+    if (shell.overlapping()) {
+      return intersection(polygon);
+    }
+    if (Objects.isNull(shell.coordinates())) {
+      return null;
+    }
+
+    GeometryFactory geometryFactory = polygon.getFactory();
+
+    return geometryFactory.createPolygon(
+        geometryFactory.createLinearRing(shell.coordinates()), holes.toArray(LinearRing[]::new));
+  }
+
+  private record Ring(Coordinate[] coordinates, boolean overlapping) {}
+
+  // Sutherland-Hodgman, the ring is clipped against one side of the rectangle after the other
+  private Ring clipRing(Coordinate[] ring) {
+    int n = ring.length - 1;
+    double[] xs = new double[n];
+    double[] ys = new double[n];
+
+    for (int i = 0; i < n; i++) {
+      xs[i] = ring[i].x;
+      ys[i] = ring[i].y;
+    }
+
+    for (int side = LEFT; side <= TOP && n > 0; side++) {
+      double[] nextXs = new double[2 * n];
+      double[] nextYs = new double[2 * n];
+      int next = 0;
+      int exits = 0;
+
+      for (int i = 0; i < n; i++) {
+        int previous = i == 0 ? n - 1 : i - 1;
+        boolean currentInside = isInside(side, xs[i], ys[i]);
+        boolean previousInside = isInside(side, xs[previous], ys[previous]);
+
+        if (currentInside != previousInside) {
+          double[] intersection = intersect(side, xs[previous], ys[previous], xs[i], ys[i]);
+          nextXs[next] = intersection[0];
+          nextYs[next++] = intersection[1];
+          if (!currentInside) {
+            exits++;
+          }
+        }
+        if (currentInside) {
+          nextXs[next] = xs[i];
+          nextYs[next++] = ys[i];
+        }
+      }
+
+      if (exits > 1) {
+        return new Ring(null, true);
+      }
+
+      xs = nextXs;
+      ys = nextYs;
+      n = next;
+    }
+
+    CoordinateList coordinates = new CoordinateList();
+    for (int i = 0; i < n; i++) {
+      coordinates.add(new CoordinateXY(xs[i], ys[i]), false);
+    }
+    coordinates.closeRing();
+
+    return new Ring(coordinates.size() >= 4 ? coordinates.toCoordinateArray() : null, false);
+  }
+
+  private boolean isInside(int side, double x, double y) {
+    switch (side) {
+      case LEFT:
+        return x >= xmin;
+      case RIGHT:
+        return x <= xmax;
+      case BOTTOM:
+        return y >= ymin;
+      default:
+        return y <= ymax;
+    }
+  }
+
+  private double[] intersect(int side, double x0, double y0, double x1, double y1) {
+    switch (side) {
+      case LEFT:
+        return new double[] {xmin, y0 + (xmin - x0) * (y1 - y0) / (x1 - x0)};
+      case RIGHT:
+        return new double[] {xmax, y0 + (xmax - x0) * (y1 - y0) / (x1 - x0)};
+      case BOTTOM:
+        return new double[] {x0 + (ymin - y0) * (x1 - x0) / (y1 - y0), ymin};
+      default:
+        return new double[] {x0 + (ymax - y0) * (x1 - x0) / (y1 - y0), ymax};
+    }
+  }
+
+  private Geometry intersection(Geometry geometry) {
+    try {
+      Geometry original = geometry;
+      geometry = rectangle.intersection(original);
+
+      // sometimes an intersection is returned as an empty geometry.
+      // going via wkt fixes the problem.
+      if (geometry.isEmpty() && original.intersects(rectangle)) {
+        Geometry originalViaWkt = new WKTReader().read(original.toText());
+        geometry = rectangle.intersection(originalViaWkt);
+      }
+
+    } catch (TopologyException | ParseException e) {
+      // could not intersect or encode/decode WKT. original geometry will be used instead.
+    }
+    return geometry.isEmpty() ? null : geometry;
+  }
+
+  private static void addAll(List<Geometry> parts, Geometry geometry) {
+    if (Objects.isNull(geometry)) {
+      return;
+    }
+    for (int i = 0; i < geometry.getNumGeometries(); i++) {
+      if (!geometry.getGeometryN(i).isEmpty()) {
+        parts.add(geometry.getGeometryN(i));
+      }
+    }
+  }
+}
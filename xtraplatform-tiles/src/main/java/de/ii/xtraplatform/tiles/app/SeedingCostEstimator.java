@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app;
+
+import de.ii.xtraplatform.tiles.domain.TileSubMatrix;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * The cost of a tile is estimated from the size of its cached ancestor a few levels up, so that a
+ * sub-matrix with the maximum job size is covered by about 4x4 reference tiles. Tiles without a
+ * cached ancestor count as empty.
+ *
+ * <p>The quarters of a sub-matrix that is split by cost have the same ancestors as the sub-matrix,
+ * so the size of every ancestor is only looked up once per estimator. An estimator is used for the
+ * sub-matrices of one tileset and tile matrix set while the seeding jobs are created, it is not
+ * thread-safe.
+ */
+class SeedingCostEstimator implements ToLongFunction<TileSubMatrix> {
+
+  static final int BYTES_PER_UNIT = 1024;
+
+  interface CachedSizes {
+    OptionalLong get(int level, int row, int col);
+  }
+
+  private record Ancestor(int level, int row, int col) {}
+
+  private final int log2Side;
+  private final CachedSizes cachedSizes;
+  private final Map<Ancestor, OptionalLong> sizes;
+
+  /**
+   * @param jobSize the maximum number of tiles of a job
+   * @param cachedSizes looks up the size of a cached tile
+   */
+  SeedingCostEstimator(int jobSize, CachedSizes cachedSizes) {
+    int side = Math.max(1, (int) Math.sqrt(jobSize));
+    this.log2Side = 32 - Integer.numberOfLeadingZeros(side - 1);
+    this.cachedSizes = cachedSizes;
+    this.sizes = new HashMap<>();
+  }
+
+  @Override
+  public long applyAsLong(TileSubMatrix subMatrix) {
+    int delta = Math.min(subMatrix.getLevel(), Math.max(1, log2Side - 2));
+
+    if (delta <= 0) {
+      return subMatrix.getNumberOfTiles();
+    }
+
+    long cost = 0;
+
+    for (int row = subMatrix.getRowMin() >> delta; row <= subMatrix.getRowMax() >> delta; row++) {
+      long rows =
+          Math.min(subMatrix.getRowMax(), ((row + 1) << delta) - 1)
+              - Math.max(subMatrix.getRowMin(), row << delta)
+              + 1;
+
+      for (int col = subMatrix.getColMin() >> delta;
+          col <= subMatrix.getColMax() >> delta;
+          col++) {
+        long cols =
+            Math.min(subMatrix.getColMax(), ((col + 1) << delta) - 1)
+                - Math.max(subMatrix.getColMin(), col << delta)
+                + 1;
+        OptionalLong size =
+            sizes.computeIfAbsent(
+                new Ancestor(subMatrix.getLevel() - delta, row, col),
+                ancestor -> cachedSizes.get(ancestor.level(), ancestor.row(), ancestor.col()));
+
+        cost += rows * cols * (1 + size.orElse(0) / BYTES_PER_UNIT);
+      }
+    }
+
+    return cost;
+  }
+}
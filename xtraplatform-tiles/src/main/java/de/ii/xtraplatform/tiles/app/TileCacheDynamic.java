@@ -8,22 +8,31 @@
 package de.ii.xtraplatform.tiles.app;
 
 import com.google.common.collect.Range;
+import de.ii.xtraplatform.crs.domain.BoundingBox;
 import de.ii.xtraplatform.tiles.domain.Cache.Storage;
 import de.ii.xtraplatform.tiles.domain.ChainedTileProvider;
 import de.ii.xtraplatform.tiles.domain.GenerationParameters;
+import de.ii.xtraplatform.tiles.domain.SingleFlight;
+import de.ii.xtraplatform.tiles.domain.TileBuilder;
 import de.ii.xtraplatform.tiles.domain.TileCache;
+import de.ii.xtraplatform.tiles.domain.TileMatrixSetBase;
 import de.ii.xtraplatform.tiles.domain.TileMatrixSetLimits;
 import de.ii.xtraplatform.tiles.domain.TileQuery;
 import de.ii.xtraplatform.tiles.domain.TileResult;
 import de.ii.xtraplatform.tiles.domain.TileSeedingJob;
+import de.ii.xtraplatform.tiles.domain.TileSeedingOutcomes;
 import de.ii.xtraplatform.tiles.domain.TileSeedingPartialJob;
 import de.ii.xtraplatform.tiles.domain.TileStore;
 import de.ii.xtraplatform.tiles.domain.TileWalker;
+import jakarta.ws.rs.core.MediaType;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +46,10 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
   private final Map<String, Map<String, Range<Integer>>> tmsRanges;
   private final Map<String, Map<String, Range<Integer>>> rasterTmsRanges;
   private final boolean isSeeded;
+  private final SingleFlight<TileKey, TileResult> requests;
+  private final AtomicLong invalidations;
+  private final Map<TileKey, Long> generations;
+  private final TileSeedingOutcomes seedingOutcomes;
 
   public TileCacheDynamic(
       TileWalker tileWalker,
@@ -51,6 +64,23 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
     this.tmsRanges = tmsRanges;
     this.rasterTmsRanges = rasterTmsRanges;
     this.isSeeded = seeded;
+    this.requests = new SingleFlight<>();
+    this.invalidations = new AtomicLong();
+    this.generations = new ConcurrentHashMap<>();
+    this.seedingOutcomes = new TileSeedingOutcomes();
+  }
+
+  private record TileKey(
+      String tileset, String tileMatrixSet, int level, int row, int col, MediaType mediaType) {
+    static TileKey of(TileQuery tile) {
+      return new TileKey(
+          tile.getTileset(),
+          tile.getTileMatrixSet().getId(),
+          tile.getLevel(),
+          tile.getRow(),
+          tile.getCol(),
+          tile.getMediaType());
+    }
   }
 
   @Override
@@ -58,11 +88,90 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
     return tmsRanges;
   }
 
+  /**
+   * Deletes the cached tiles of the tileset that intersect the given bbox on all cached levels of
+   * the tile matrix set. The bbox is extended by the tile buffer, since features are also encoded
+   * in neighbouring tiles within the buffer. Tiles whose generation started before the deletion
+   * are not written to the cache, since they might still contain the old features.
+   *
+   * @param bbox the bbox in the CRS of the tile matrix set
+   */
+  public void invalidate(String tileset, TileMatrixSetBase tileMatrixSet, BoundingBox bbox)
+      throws IOException {
+    if (!tmsRanges.containsKey(tileset)
+        || !tmsRanges.get(tileset).containsKey(tileMatrixSet.getId())) {
+      return;
+    }
+
+    Range<Integer> levels = tmsRanges.get(tileset).get(tileMatrixSet.getId());
+
+    invalidations.incrementAndGet();
+
+    for (int level = levels.lowerEndpoint(); level <= levels.upperEndpoint(); level++) {
+      TileMatrixSetLimits limits =
+          tileMatrixSet.getLimits(level, withBuffer(bbox, tileMatrixSet, level));
+
+      tileStore.delete(tileset, tileMatrixSet, limits, false);
+    }
+  }
+
+  private static BoundingBox withBuffer(
+      BoundingBox bbox, TileMatrixSetBase tileMatrixSet, int level) {
+    BoundingBox tile = tileMatrixSet.getTileBoundingBox(level, 0, 0);
+    double buffer =
+        (tile.getXmax() - tile.getXmin())
+            * TileBuilder.BUFFER_SIZE_FORMAL
+            / tileMatrixSet.getTileSize();
+
+    return BoundingBox.of(
+        bbox.getXmin() - buffer,
+        bbox.getYmin() - buffer,
+        bbox.getXmax() + buffer,
+        bbox.getYmax() + buffer,
+        bbox.getEpsgCrs());
+  }
+
   @Override
   public Optional<ChainedTileProvider> getDelegate() {
     return Optional.of(delegate);
   }
 
+  /**
+   * Concurrent requests for the same cacheable tile are coalesced, so that a tile that is not
+   * cached yet is only generated once, the other requests get the same result.
+   */
+  @Override
+  public TileResult get(TileQuery tile) {
+    if (!shouldCache(tile)) {
+      return ChainedTileProvider.super.get(tile);
+    }
+
+    TileKey key = TileKey.of(tile);
+
+    try {
+      return requests.execute(
+          key,
+          () -> {
+            generations.put(key, invalidations.get());
+            try {
+              return ChainedTileProvider.super.get(tile);
+            } finally {
+              generations.remove(key);
+            }
+          });
+    } catch (IOException e) {
+      LOGGER.warn(
+          "Failed to retrieve tile {}/{}/{}/{} for tileset '{}'. Reason: {}",
+          tile.getTileMatrixSet().getId(),
+          tile.getLevel(),
+          tile.getRow(),
+          tile.getCol(),
+          tile.getTileset(),
+          e.getMessage());
+      return TileResult.error(e.getMessage());
+    }
+  }
+
   @Override
   public TileResult getTile(TileQuery tile) throws IOException {
     if (shouldCache(tile)) {
@@ -75,14 +184,31 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
   public TileResult processDelegateResult(TileQuery tile, TileResult tileResult)
       throws IOException {
     if (shouldCache(tile) && tileResult.isAvailable()) {
+      if (isInvalidated(tile)) {
+        return tileResult;
+      }
+
       tileStore.put(tile, new ByteArrayInputStream(tileResult.getContent().get()));
 
+      // an invalidation between the check and the put might have missed the tile
+      if (isInvalidated(tile)) {
+        tileStore.delete(tile);
+        return tileResult;
+      }
+
       return tileStore.get(tile);
     }
 
     return tileResult;
   }
 
+  // whether tiles were invalidated since the generation of the tile started
+  private boolean isInvalidated(TileQuery tile) {
+    Long generation = generations.get(TileKey.of(tile));
+
+    return Objects.nonNull(generation) && generation != invalidations.get();
+  }
+
   @Override
   public Map<String, Map<String, Set<TileMatrixSetLimits>>> getCoverage(
       Map<String, ? extends GenerationParameters> tilesets) throws IOException {
@@ -116,6 +242,8 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
 
   @Override
   public void cleanupSeeding(TileSeedingJob jobSet, String tileSourceLabel) throws IOException {
+    seedingOutcomes.clear();
+
     tileStore.tidyup();
   }
 
@@ -126,7 +254,8 @@ public class TileCacheDynamic implements ChainedTileProvider, TileCache {
       return;
     }
 
-    doSeed(job, tileSourceLabel, tileStore, delegate, tileWalker, updateProgress);
+    doSeed(
+        job, tileSourceLabel, tileStore, delegate, tileWalker, seedingOutcomes, updateProgress);
   }
 
   @Override
@@ -16,6 +16,7 @@ import de.ii.xtraplatform.tiles.domain.TileMatrixSetLimits;
 import de.ii.xtraplatform.tiles.domain.TileQuery;
 import de.ii.xtraplatform.tiles.domain.TileResult;
 import de.ii.xtraplatform.tiles.domain.TileSeedingJob;
+import de.ii.xtraplatform.tiles.domain.TileSeedingOutcomes;
 import de.ii.xtraplatform.tiles.domain.TileSeedingPartialJob;
 import de.ii.xtraplatform.tiles.domain.TileStore;
 import de.ii.xtraplatform.tiles.domain.TileWalker;
@@ -35,6 +36,7 @@ public class TileCacheImmutable implements ChainedTileProvider, TileCache {
   private final ChainedTileProvider delegate;
   private final Map<String, Map<String, Range<Integer>>> tmsRanges;
   private final Map<String, Map<String, Range<Integer>>> rasterTmsRanges;
+  private final TileSeedingOutcomes seedingOutcomes;
 
   public TileCacheImmutable(
       TileWalker tileWalker,
@@ -47,6 +49,7 @@ public class TileCacheImmutable implements ChainedTileProvider, TileCache {
     this.delegate = delegate;
     this.tmsRanges = tmsRanges;
     this.rasterTmsRanges = rasterTmsRanges;
+    this.seedingOutcomes = new TileSeedingOutcomes();
   }
 
   @Override
@@ -102,6 +105,8 @@ public class TileCacheImmutable implements ChainedTileProvider, TileCache {
 
   @Override
   public void cleanupSeeding(TileSeedingJob jobSet, String tileSourceLabel) throws IOException {
+    seedingOutcomes.clear();
+
     tileStore.staging().promote();
 
     tileStore.staging().cleanup();
@@ -112,6 +117,7 @@ public class TileCacheImmutable implements ChainedTileProvider, TileCache {
   @Override
   public void seed(TileSeedingPartialJob job, String tileSourceLabel, Runnable updateProgress)
       throws IOException {
-    doSeed(job, tileSourceLabel, tileStore, delegate, tileWalker, updateProgress);
+    doSeed(
+        job, tileSourceLabel, tileStore, delegate, tileWalker, seedingOutcomes, updateProgress);
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app;
+
+import de.ii.xtraplatform.base.domain.LogContext;
+import de.ii.xtraplatform.crs.domain.BoundingBox;
+import de.ii.xtraplatform.crs.domain.CrsTransformerFactory;
+import de.ii.xtraplatform.features.domain.FeatureChange;
+import de.ii.xtraplatform.tiles.domain.TileMatrixSet;
+import de.ii.xtraplatform.tiles.domain.TileMatrixSetBase;
+import de.ii.xtraplatform.tiles.domain.TileMatrixSetRepository;
+import de.ii.xtraplatform.tiles.domain.TilesetFeatures;
+import de.ii.xtraplatform.tiles.domain.TilesetFeaturesDefaults;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes the tiles from the dynamic caches that are affected by the old or new bbox of a feature
+ * change, they are regenerated on the next request. Immutable caches are left as they are until
+ * the next seeding.
+ */
+class TileCacheInvalidator {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TileCacheInvalidator.class);
+
+  private final TileMatrixSetRepository tileMatrixSetRepository;
+  private final CrsTransformerFactory crsTransformerFactory;
+
+  TileCacheInvalidator(
+      TileMatrixSetRepository tileMatrixSetRepository,
+      CrsTransformerFactory crsTransformerFactory) {
+    this.tileMatrixSetRepository = tileMatrixSetRepository;
+    this.crsTransformerFactory = crsTransformerFactory;
+  }
+
+  void invalidate(
+      FeatureChange change,
+      Map<String, TilesetFeatures> tilesets,
+      TilesetFeaturesDefaults defaults,
+      List<TileCacheDynamic> caches) {
+    List<BoundingBox> bboxes =
+        Stream.of(change.getOldBoundingBox(), change.getNewBoundingBox())
+            .flatMap(Optional::stream)
+            .toList();
+
+    if (bboxes.isEmpty() || caches.isEmpty()) {
+      return;
+    }
+
+    for (String tileset : getTilesets(tilesets, defaults, change.getFeatureType())) {
+      for (String tmsId : tilesets.get(tileset).mergeDefaults(defaults).getTmsRanges().keySet()) {
+        Optional<TileMatrixSet> tileMatrixSet = tileMatrixSetRepository.get(tmsId);
+        if (tileMatrixSet.isEmpty()) {
+          continue;
+        }
+
+        for (BoundingBox bbox : bboxes) {
+          Optional<BoundingBox> tmsBbox = toTmsCrs(bbox, tileMatrixSet.get());
+          if (tmsBbox.isEmpty()) {
+            LOGGER.warn(
+                "Could not transform {} to the CRS of tile matrix set '{}', cached tiles of tileset '{}' within it are not deleted",
+                bbox,
+                tmsId,
+                tileset);
+            continue;
+          }
+
+          for (TileCacheDynamic cache : caches) {
+            try {
+              cache.invalidate(tileset, tileMatrixSet.get(), tmsBbox.get());
+            } catch (IOException e) {
+              LogContext.errorAsWarn(
+                  LOGGER, e, "Could not delete cached tiles for tileset '{}'", tileset);
+            }
+          }
+        }
+      }
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Deleted cached tiles affected by changes of type '{}' within {}",
+          change.getFeatureType(),
+          bboxes);
+    }
+  }
+
+  // the tilesets generated from the feature type and the tilesets that combine them
+  static Set<String> getTilesets(
+      Map<String, TilesetFeatures> tilesets, TilesetFeaturesDefaults defaults, String featureType) {
+    Set<String> affected = new LinkedHashSet<>();
+
+    tilesets.forEach(
+        (id, tileset) -> {
+          TilesetFeatures merged = tileset.mergeDefaults(defaults);
+          if (!merged.isCombined()
+              && Objects.equals(merged.getFeatureType().orElse(id), featureType)) {
+            affected.add(id);
+          }
+        });
+
+    if (affected.isEmpty()) {
+      return affected;
+    }
+
+    tilesets.forEach(
+        (id, tileset) -> {
+          if (tileset.isCombined()
+              && (tileset.getCombine().contains(TilesetFeatures.COMBINE_ALL)
+                  || tileset.getCombine().stream().anyMatch(affected::contains))) {
+            affected.add(id);
+          }
+        });
+
+    return affected;
+  }
+
+  Optional<BoundingBox> toTmsCrs(BoundingBox bbox, TileMatrixSetBase tileMatrixSet) {
+    if (Objects.equals(bbox.getEpsgCrs(), tileMatrixSet.getCrs())) {
+      return Optional.of(bbox);
+    }
+    return crsTransformerFactory
+        .getTransformer(bbox.getEpsgCrs(), tileMatrixSet.getCrs())
+        .flatMap(
+            transformer -> {
+              try {
+                return Optional.of(transformer.transformBoundingBox(bbox));
+              } catch (Exception e) {
+                return Optional.empty();
+              }
+            });
+  }
+}
@@ -216,7 +216,7 @@ public class TileGeneratorFeatures extends AbstractVolatileComposed implements T
 
   @Override
   public TileResult getTile(TileQuery tile) {
-    return TileResult.found(generateTile(tile));
+    return generate(tile);
   }
 
   @Override
@@ -226,6 +226,10 @@ public class TileGeneratorFeatures extends AbstractVolatileComposed implements T
 
   @Override
   public byte[] generateTile(TileQuery tileQuery) {
+    return generate(tileQuery).getContent().get();
+  }
+
+  private TileResult generate(TileQuery tileQuery) {
     if (!ENCODERS.containsKey(tileQuery.getMediaType())) {
       throw new IllegalArgumentException(
           String.format("Encoding not supported: %s", tileQuery.getMediaType()));
@@ -243,9 +247,10 @@ public class TileGeneratorFeatures extends AbstractVolatileComposed implements T
     }
 
     // if the tileset is sparse, check, if the tile is outside the extent of the feature data;
-    // if yes, return an empty tile. An absent extent means the extent is unknown, e.g. because
-    // the computation failed; only an extent that is known not to intersect the tile proves
-    // that there is nothing to generate, everything else goes through the regular generation
+    // if yes, return an empty tile, the tiles below it are outside of the extent, too. An absent
+    // extent means the extent is unknown, e.g. because the computation failed; only an extent
+    // that is known not to intersect the tile proves that there is nothing to generate,
+    // everything else goes through the regular generation
     if (Boolean.TRUE.equals(tileset.getSparse()) && featureProvider.extents().isAvailable()) {
       String featureType = tileset.getFeatureType().orElse(tileQuery.getTileset());
       if (featureProvider
@@ -264,7 +269,7 @@ public class TileGeneratorFeatures extends AbstractVolatileComposed implements T
                 }
               })
           .isPresent()) {
-        return EMPTY_TILES.get(tileQuery.getMediaType());
+        return TileResult.empty(EMPTY_TILES.get(tileQuery.getMediaType()));
       }
     }
 
@@ -282,17 +287,18 @@ public class TileGeneratorFeatures extends AbstractVolatileComposed implements T
     PropertyTransformations baseTransformations =
         getPropertyTransformations(tileset, schema, tileQuery.getMediaType());
 
-    return tileBuilderForProvider
-        .get(featureProvider.getId())
-        .getMvtData(
-            tileQuery,
-            tileset,
-            types,
-            nativeCrs,
-            tileQuery.getBoundingBox(),
-            clip(tileQuery.getBoundingBox(), getBounds(tileQuery)),
-            featureProvider,
-            baseTransformations);
+    return TileResult.found(
+        tileBuilderForProvider
+            .get(featureProvider.getId())
+            .getMvtData(
+                tileQuery,
+                tileset,
+                types,
+                nativeCrs,
+                tileQuery.getBoundingBox(),
+                clip(tileQuery.getBoundingBox(), getBounds(tileQuery)),
+                featureProvider,
+                baseTransformations));
   }
 
   private PropertyTransformations getPropertyTransformations(
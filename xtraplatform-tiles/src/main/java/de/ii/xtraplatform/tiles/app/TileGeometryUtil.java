@@ -17,11 +17,8 @@ import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
-import org.locationtech.jts.geom.TopologyException;
 import org.locationtech.jts.geom.util.AffineTransformation;
 import org.locationtech.jts.geom.util.GeometryFixer;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.precision.GeometryPrecisionReducer;
 import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
 import org.slf4j.Logger;
@@ -37,18 +34,34 @@ public class TileGeometryUtil {
       Geometry clipGeometry,
       PrecisionModel precisionModel,
       double minimumSizeInPixel) {
+    return getTileGeometry(
+        geom,
+        affineTransformation,
+        new RectangleClipper(clipGeometry),
+        precisionModel,
+        minimumSizeInPixel);
+  }
+
+  static Geometry getTileGeometry(
+      Geometry geom,
+      AffineTransformation affineTransformation,
+      RectangleClipper clipper,
+      PrecisionModel precisionModel,
+      double minimumSizeInPixel) {
 
     // The following changes are applied:
     // 1. The coordinates are converted to the tile coordinate system (0/0 is top left, 256/256 is
     //    bottom right).
-    // 2. Try to fix invalid geometries.
-    // 3. Small rings or line strings are dropped (small in the context of the tile, one pixel or
+    // 2. Clip the geometry to the tile with a buffer. This is done first, so that all following
+    //    steps only have to process the part of the geometry that is relevant for the tile.
+    //    Geometries inside the tile are not changed.
+    // 3. Try to fix invalid geometries.
+    // 4. Small rings or line strings are dropped (small in the context of the tile, one pixel or
     //    less). The idea is to simply drop them as early as possible and before the next processing
     //    steps which may depend on having valid geometries and removing everything that will
     //    eventually be removed anyway helps.
-    // 4. Remove unnecessary vertices and snap coordinates to the grid.
-    // 5. If the resulting geometry is invalid polygonal geometry, try to make it valid.
-    // 6. Hopefully we have a valid geometry now, so try to clip it to the tile.
+    // 5. Remove unnecessary vertices and snap coordinates to the grid.
+    // 6. If the resulting geometry is invalid polygonal geometry, try to make it valid.
     //
     // After each step, check, if we still have a geometry or the resulting tile geometry was too
     // small for
@@ -57,25 +70,29 @@ public class TileGeometryUtil {
     // 1 convert to the tile coordinate system
     geom.apply(affineTransformation);
 
-    // 2 fix invalid source geometries
+    // 2 limit the coordinates to the tile with a buffer
+    geom = clipper.clip(geom);
+    if (Objects.isNull(geom) || geom.isEmpty()) return null;
+
+    // 3 fix invalid source geometries
     if (!geom.isValid()) {
       geom = new GeometryFixer(geom).getResult();
       if (Objects.isNull(geom) || geom.isEmpty()) return null;
     }
 
-    // 3 remove small rings or line strings (small in the context of the tile)
+    // 4 remove small rings or line strings (small in the context of the tile)
     geom = removeSmallPieces(geom, minimumSizeInPixel);
     if (Objects.isNull(geom) || geom.isEmpty()) return null;
 
-    // 4 simplify the geometry
+    // 5 simplify the geometry
     geom = TopologyPreservingSimplifier.simplify(geom, 1.0 / precisionModel.getScale());
     if (Objects.isNull(geom) || geom.isEmpty()) return null;
 
-    // 5 reduce the geometry to the tile grid
+    // 6 reduce the geometry to the tile grid
     geom = GeometryPrecisionReducer.reducePointwise(geom, precisionModel);
     if (Objects.isNull(geom) || geom.isEmpty()) return null;
 
-    // 6 if the resulting geometry is invalid, try to make it valid and ensure it is still aligned
+    // 7 if the resulting geometry is invalid, try to make it valid and ensure it is still aligned
     //   with the tile grid; give up, if it is still invalid after two attempts
     int count = 0;
     while (!geom.isValid() && count++ < 2) {
@@ -86,10 +103,6 @@ public class TileGeometryUtil {
       if (Objects.isNull(geom) || geom.isEmpty()) return null;
     }
 
-    // 7 limit the coordinates to the tile with a buffer
-    geom = clipGeometry(geom, clipGeometry);
-    if (Objects.isNull(geom) || geom.isEmpty()) return null;
-
     return geom;
   }
 
@@ -109,24 +122,6 @@ public class TileGeometryUtil {
     return segments;
   }
 
-  private static Geometry clipGeometry(Geometry geometry, Geometry clipGeometry) {
-    try {
-      Geometry original = geometry;
-      geometry = clipGeometry.intersection(original);
-
-      // sometimes an intersection is returned as an empty geometry.
-      // going via wkt fixes the problem.
-      if (geometry.isEmpty() && original.intersects(clipGeometry)) {
-        Geometry originalViaWkt = new WKTReader().read(original.toText());
-        geometry = clipGeometry.intersection(originalViaWkt);
-      }
-
-    } catch (TopologyException | ParseException e) {
-      // could not intersect or encode/decode WKT. original geometry will be used instead.
-    }
-    return geometry;
-  }
-
   private static Polygon removeSmallPieces(Polygon geom, double minimumSizeInPixel) {
     if (geom.getArea() < minimumSizeInPixel * minimumSizeInPixel)
       // skip this feature, too small
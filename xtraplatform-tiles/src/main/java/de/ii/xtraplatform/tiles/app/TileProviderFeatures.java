@@ -88,11 +88,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
@@ -125,6 +127,7 @@ public class TileProviderFeatures extends AbstractTileProvider<TileProviderFeatu
   private final TileWalker tileWalker;
   private final boolean asyncStartup;
   private final Optional<TileMatrixSetRepository> tileMatrixSetRepository;
+  private final TileCacheInvalidator cacheInvalidator;
   private final String dataDir;
   private TileEncoders tileEncoders;
   private ChainedTileProvider generatorProviderChain;
@@ -151,6 +154,8 @@ public class TileProviderFeatures extends AbstractTileProvider<TileProviderFeatu
     this.tileMatrixSetRepository = Optional.of(tileMatrixSetRepository);
     this.dataDir = appContext.getDataDir().toString();
     this.crsTransformerFactory = crsTransformerFactory;
+    this.cacheInvalidator =
+        new TileCacheInvalidator(tileMatrixSetRepository, crsTransformerFactory);
     this.tileGenerator =
         new TileGeneratorFeatures(
             data,
@@ -635,6 +640,30 @@ public class TileProviderFeatures extends AbstractTileProvider<TileProviderFeatu
     return getData().getSeeding().orElseGet(() -> new ImmutableSeedingOptions.Builder().build());
   }
 
+  @Override
+  public ToLongFunction<TileSubMatrix> getCostEstimator(String tileset, String tileMatrixSet) {
+    return new SeedingCostEstimator(
+        getOptions().getEffectiveJobSize(),
+        (level, row, col) -> getCachedSize(tileset, tileMatrixSet, level, row, col));
+  }
+
+  private OptionalLong getCachedSize(String tileset, String tms, int level, int row, int col) {
+    for (Map<Storage, TileStore> stores : tileStores.values()) {
+      for (TileStore store : stores.values()) {
+        try {
+          OptionalLong size = store.size(tileset, tms, level, row, col);
+          if (size.isPresent()) {
+            return size;
+          }
+        } catch (IOException e) {
+          // ignore
+        }
+      }
+    }
+
+    return OptionalLong.empty();
+  }
+
   @Override
   public Map<String, Map<String, Set<TileMatrixSetLimits>>> getCoverage(
       Map<String, TileGenerationParameters> tilesets) throws IOException {
@@ -1103,9 +1132,21 @@ public class TileProviderFeatures extends AbstractTileProvider<TileProviderFeatu
     try (MdcCloseable ignored =
         LogContext.withCloseable(LogContext.CONTEXT.SERVICE, getId(), true)) {
       loadMetadata();
+      invalidateTiles(change);
     }
   }
 
+  private void invalidateTiles(FeatureChange change) {
+    List<TileCacheDynamic> caches =
+        Stream.concat(generatorCaches.stream(), combinerCaches.stream())
+            .filter(TileCacheDynamic.class::isInstance)
+            .map(TileCacheDynamic.class::cast)
+            .toList();
+
+    cacheInvalidator.invalidate(
+        change, getData().getTilesets(), getData().getTilesetDefaults(), caches);
+  }
+
   void registerChangeHandlers() {
     getFeatureProviders()
         .forEach(
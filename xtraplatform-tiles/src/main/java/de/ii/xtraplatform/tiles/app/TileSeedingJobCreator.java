@@ -15,6 +15,7 @@ import de.ii.xtralink.jobs.PartialJobConfiguration;
 import de.ii.xtraplatform.base.domain.AppContext;
 import de.ii.xtraplatform.base.domain.LogContext.MARKER;
 import de.ii.xtraplatform.entities.domain.EntityRegistry;
+import de.ii.xtraplatform.tiles.domain.ImmutableTileSubMatrix;
 import de.ii.xtraplatform.tiles.domain.TileGenerationParameters;
 import de.ii.xtraplatform.tiles.domain.TileMatrixPartitions;
 import de.ii.xtraplatform.tiles.domain.TileMatrixSetLimits;
@@ -32,6 +33,8 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -40,6 +43,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.slf4j.Logger;
@@ -51,6 +55,7 @@ import org.threeten.extra.AmountFormats;
 public class TileSeedingJobCreator implements JobProcessor<TileSeedingJob, JobContextNone> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TileSeedingJobCreator.class);
+  private static final int MAX_SPLITS = 3;
 
   private final int concurrency;
   private final EntityRegistry entityRegistry;
@@ -175,6 +180,7 @@ public class TileSeedingJobCreator implements JobProcessor<TileSeedingJob, JobCo
 
         boolean allRaster = true;
         boolean someRaster = false;
+        List<CostedJob> partials = new ArrayList<>();
 
         for (String tileSet : seedingJobSet.getTileSets().keySet()) {
           Map<String, Set<TileMatrixSetLimits>> tileMatrixSets =
@@ -198,7 +204,22 @@ public class TileSeedingJobCreator implements JobProcessor<TileSeedingJob, JobCo
                       subMatrices.addAll(tileStorePartitions.getSubMatrices(limit));
                     });
 
-                for (TileSubMatrix subMatrix : subMatrices) {
+                List<CostedSubMatrix> costedSubMatrices =
+                    isRaster
+                        ? subMatrices.stream()
+                            .map(
+                                subMatrix ->
+                                    new CostedSubMatrix(subMatrix, subMatrix.getNumberOfTiles()))
+                            .toList()
+                        : splitByCost(
+                            subMatrices,
+                            tileProvider
+                                .seeding()
+                                .get()
+                                .getCostEstimator(tileSet, tileMatrixSet));
+
+                for (CostedSubMatrix costedSubMatrix : costedSubMatrices) {
+                  TileSubMatrix subMatrix = costedSubMatrix.subMatrix();
                   PartialJobConfiguration partial =
                       isRaster
                           ? TileSeedingPartialJob.raster(
@@ -237,11 +258,22 @@ public class TileSeedingJobCreator implements JobProcessor<TileSeedingJob, JobCo
                   int count = partial.progress().total();
                   progressLevels.set(subMatrix.getLevel(), old == -1 ? count : old + count);
 
-                  jobs.push(partial);
+                  partials.add(
+                      new CostedJob(partial, subMatrix.getLevel(), costedSubMatrix.cost()));
                 }
               });
         }
 
+        // levels top-down, so that tiles below empty tiles can mostly be skipped, see
+        // TileSeedingOutcomes; jobs are processed concurrently, so a level may start before the
+        // level above is finished. Within a level the most expensive jobs first, so that no long
+        // running job is started last
+        partials.stream()
+            .sorted(
+                Comparator.comparingInt(CostedJob::level)
+                    .thenComparing(Comparator.comparingLong(CostedJob::cost).reversed()))
+            .forEach(costedJob -> jobs.push(costedJob.partial()));
+
         jobs.init(jobSet.id(), progressTotal[0], progressDetails);
 
         if (LOGGER.isDebugEnabled() || LOGGER.isDebugEnabled(MARKER.JOBS)) {
@@ -274,6 +306,79 @@ public class TileSeedingJobCreator implements JobProcessor<TileSeedingJob, JobCo
     return JobContextNone.class;
   }
 
+  record CostedSubMatrix(TileSubMatrix subMatrix, long cost) {}
+
+  private record CostedJob(PartialJobConfiguration partial, int level, long cost) {}
+
+  /**
+   * Sub-matrices with an estimated cost of more than twice the average are split into quarters, so
+   * that the jobs are cut by cost instead of by number of tiles.
+   */
+  static List<CostedSubMatrix> splitByCost(
+      Collection<TileSubMatrix> subMatrices, ToLongFunction<TileSubMatrix> estimate) {
+    List<CostedSubMatrix> costed =
+        subMatrices.stream()
+            .map(subMatrix -> new CostedSubMatrix(subMatrix, estimate.applyAsLong(subMatrix)))
+            .toList();
+
+    if (costed.size() < 2) {
+      return costed;
+    }
+
+    long maxCost =
+        Math.max(1, 2 * costed.stream().mapToLong(CostedSubMatrix::cost).sum() / costed.size());
+    List<CostedSubMatrix> result = new ArrayList<>();
+
+    for (CostedSubMatrix costedSubMatrix : costed) {
+      split(costedSubMatrix, maxCost, MAX_SPLITS, estimate, result);
+    }
+
+    return result;
+  }
+
+  private static void split(
+      CostedSubMatrix costed,
+      long maxCost,
+      int splits,
+      ToLongFunction<TileSubMatrix> estimate,
+      List<CostedSubMatrix> result) {
+    TileSubMatrix subMatrix = costed.subMatrix();
+
+    if (costed.cost() <= maxCost || splits == 0 || subMatrix.getNumberOfTiles() <= 1) {
+      result.add(costed);
+      return;
+    }
+
+    int rowMid = (subMatrix.getRowMin() + subMatrix.getRowMax()) / 2;
+    int colMid = (subMatrix.getColMin() + subMatrix.getColMax()) / 2;
+    int[][] rows = {{subMatrix.getRowMin(), rowMid}, {rowMid + 1, subMatrix.getRowMax()}};
+    int[][] cols = {{subMatrix.getColMin(), colMid}, {colMid + 1, subMatrix.getColMax()}};
+
+    for (int[] rowRange : rows) {
+      for (int[] colRange : cols) {
+        if (rowRange[0] > rowRange[1] || colRange[0] > colRange[1]) {
+          continue;
+        }
+
+        TileSubMatrix quarter =
+            new ImmutableTileSubMatrix.Builder()
+                .level(subMatrix.getLevel())
+                .rowMin(rowRange[0])
+                .rowMax(rowRange[1])
+                .colMin(colRange[0])
+                .colMax(colRange[1])
+                .build();
+
+        split(
+            new CostedSubMatrix(quarter, estimate.applyAsLong(quarter)),
+            maxCost,
+            splits - 1,
+            estimate,
+            result);
+      }
+    }
+  }
+
   private Optional<TileProvider> getTileProvider(String id) {
     return entityRegistry.getEntity(TileProvider.class, id);
   }
@@ -7,20 +7,28 @@
  */
 package de.ii.xtraplatform.tiles.app;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import de.ii.xtraplatform.strings.domain.StringTemplateFilters;
 import de.ii.xtraplatform.tiles.domain.TileQuery;
 import de.ii.xtraplatform.tiles.domain.TileResult;
 import de.ii.xtraplatform.tiles.domain.TileStoreReadOnly;
-import jakarta.ws.rs.client.ClientBuilder;
-import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
-import jakarta.ws.rs.core.Response;
 import java.io.IOException;
-import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,13 +47,40 @@ public class TileStoreHttp implements TileStoreReadOnly {
           "tiff",
           new MediaType("image", "webp"),
           "webp");
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+  private static final int MAX_REQUESTS_PER_HOST = 16;
+  private static final long MAX_VALIDATED_BYTES = 64L * 1024 * 1024;
 
   private final Map<String, String> tilesetSources;
-
+  private final HttpClient httpClient;
+  private final Map<String, Semaphore> hostLimits;
+  private final Cache<String, ValidatedTile> validatedTiles;
+
+  /**
+   * One client is shared by all requests of the store, so that connections are reused (including
+   * HTTP/2 multiplexing, if supported by the server). The number of concurrent requests per host is
+   * limited. Tiles with an ETag are kept in memory up to a total size and are revalidated with a
+   * conditional request, so that unchanged tiles are not transferred again.
+   */
   public TileStoreHttp(Map<String, String> tilesetSources) {
     this.tilesetSources = tilesetSources;
+    this.httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+    this.hostLimits = new ConcurrentHashMap<>();
+    this.validatedTiles =
+        CacheBuilder.newBuilder()
+            .maximumWeight(MAX_VALIDATED_BYTES)
+            .weigher((String url, ValidatedTile tile) -> tile.content().length)
+            .build();
   }
 
+  private record ValidatedTile(String etag, byte[] content) {}
+
   @Override
   public boolean has(TileQuery tile) {
     try {
@@ -81,7 +116,6 @@ public class TileStoreHttp implements TileStoreReadOnly {
     return false;
   }
 
-  // TODO: use HttpClient
   private TileResult request(TileQuery tile, boolean dryRun) throws IOException {
     if (!tilesetSources.containsKey(tile.getTileset())) {
       return TileResult.notFound();
@@ -89,33 +123,74 @@ public class TileStoreHttp implements TileStoreReadOnly {
 
     try {
       String url = getUrl(tile, tilesetSources.get(tile.getTileset()));
+      URI uri = URI.create(url);
+      ValidatedTile validated = dryRun ? null : validatedTiles.getIfPresent(url);
+
+      HttpRequest.Builder builder =
+          HttpRequest.newBuilder(uri)
+              .timeout(REQUEST_TIMEOUT)
+              .header(HttpHeaders.ACCEPT, tile.getMediaType().toString());
+
+      if (Objects.nonNull(validated)) {
+        builder.header(HttpHeaders.IF_NONE_MATCH, validated.etag());
+      }
+
+      HttpRequest request =
+          dryRun
+              ? builder.method("HEAD", HttpRequest.BodyPublishers.noBody()).build()
+              : builder.GET().build();
 
-      Invocation.Builder builder =
-          ClientBuilder.newClient().target(url).request(tile.getMediaType());
+      HttpResponse<byte[]> response = send(uri, request);
 
-      try (Response response = dryRun ? builder.head() : builder.get()) {
+      if (response.statusCode() == 304 && Objects.nonNull(validated)) {
+        return TileResult.found(validated.content());
+      }
 
-        if (response.getStatus() == 200) {
-          return dryRun
-              ? TileResult.found(new byte[] {})
-              : TileResult.found(response.readEntity(InputStream.class).readAllBytes());
+      if (response.statusCode() == 200) {
+        if (dryRun) {
+          return TileResult.found(new byte[] {});
         }
 
-        return TileResult.error(
-            String.format(
-                "Could not get tile: %s %s",
-                response.getStatus(),
-                response.hasEntity()
-                    ? new String(
-                        response.readEntity(InputStream.class).readAllBytes(),
-                        StandardCharsets.UTF_8)
-                    : ""));
+        response
+            .headers()
+            .firstValue(HttpHeaders.ETAG)
+            .ifPresentOrElse(
+                etag -> validatedTiles.put(url, new ValidatedTile(etag, response.body())),
+                () -> validatedTiles.invalidate(url));
+
+        return TileResult.found(response.body());
       }
+
+      return TileResult.error(
+          String.format(
+              "Could not get tile: %s %s",
+              response.statusCode(),
+              Objects.nonNull(response.body())
+                  ? new String(response.body(), StandardCharsets.UTF_8)
+                  : ""));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return TileResult.error(e.getMessage());
     } catch (Throwable e) {
       return TileResult.error(e.getMessage());
     }
   }
 
+  private HttpResponse<byte[]> send(URI uri, HttpRequest request)
+      throws IOException, InterruptedException {
+    Semaphore limit =
+        hostLimits.computeIfAbsent(
+            uri.getScheme() + "://" + uri.getAuthority(),
+            host -> new Semaphore(MAX_REQUESTS_PER_HOST));
+
+    limit.acquire();
+    try {
+      return httpClient.send(request, BodyHandlers.ofByteArray());
+    } finally {
+      limit.release();
+    }
+  }
+
   private static String getUrl(TileQuery tile, String template) {
     return StringTemplateFilters.applyTemplate(
         template,
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -344,6 +345,21 @@ public class TileStoreMbTiles implements TileStore {
     return false;
   }
 
+  @Override
+  public OptionalLong size(String tileset, String tms, int level, int row, int col)
+      throws IOException {
+    try {
+      if (tileSets.containsKey(key(tileset, tms))) {
+        return tileSets
+            .get(key(tileset, tms))
+            .tileSize(level, row, getTmsRow(tms, level, row), col);
+      }
+    } catch (SQLException | IOException e) {
+      // ignore
+    }
+    return OptionalLong.empty();
+  }
+
   @Override
   public void delete(String tileset, String tms, int level, int row, int col) throws IOException {
     try {
@@ -34,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -151,6 +152,19 @@ public class TileStoreMulti implements TileStore, TileStore.Staging {
     throw new NotImplementedException();
   }
 
+  @Override
+  public OptionalLong size(String tileset, String tms, int level, int row, int col)
+      throws IOException {
+    for (Tuple<TileStore, ResourceStore> store : active) {
+      OptionalLong size = store.first().size(tileset, tms, level, row, col);
+      if (size.isPresent()) {
+        return size;
+      }
+    }
+
+    return OptionalLong.empty();
+  }
+
   @Override
   public void put(TileQuery tile, InputStream content) throws IOException {
     if (!inProgress()) {
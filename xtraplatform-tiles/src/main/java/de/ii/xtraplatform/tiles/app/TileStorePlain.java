@@ -27,6 +27,7 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,6 +106,14 @@ class TileStorePlain implements TileStore {
     return blobStore.has(path(tileset, tms, level, row, col));
   }
 
+  @Override
+  public OptionalLong size(String tileset, String tms, int level, int row, int col)
+      throws IOException {
+    long size = blobStore.size(path(tileset, tms, level, row, col));
+
+    return size < 0 ? OptionalLong.empty() : OptionalLong.of(size);
+  }
+
   @Override
   public void put(TileQuery tile, InputStream content) throws IOException {
     blobStore.put(path(tile), content);
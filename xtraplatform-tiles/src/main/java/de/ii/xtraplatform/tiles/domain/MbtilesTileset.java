@@ -38,6 +38,7 @@ import java.util.Locale;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -658,6 +659,31 @@ public class MbtilesTileset {
     return exists;
   }
 
+  public OptionalLong tileSize(int level, int row, int tmsRow, int col)
+      throws SQLException, IOException {
+    Optional<Connection> optionalConnection = getConnectionIfExists(level, row, col, true);
+
+    if (optionalConnection.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    String sql =
+        String.format(
+            "SELECT length(tile_data) FROM tiles WHERE zoom_level=%d AND tile_row=%d AND tile_column=%d",
+            level, tmsRow, col);
+    try (Connection connection = optionalConnection.get();
+        Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery(sql)) {
+      return rs.next() ? OptionalLong.of(rs.getLong(1)) : OptionalLong.empty();
+    } catch (SQLException e) {
+      if (LOGGER.isWarnEnabled()) {
+        LOGGER.warn(
+            "Could not determine size of TMS tile {}/{}/{}. Query: {}.", level, tmsRow, col, sql);
+      }
+      throw e;
+    }
+  }
+
   public boolean hasAnyTiles() throws SQLException, IOException {
     if (partitions.isEmpty()) {
       return hasAnyTiles(0, 0, 0);
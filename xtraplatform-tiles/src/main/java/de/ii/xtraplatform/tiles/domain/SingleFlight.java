@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.domain;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent executions of a task with the same key. The first caller executes the task,
+ * callers that arrive while it is running wait for its result instead of executing the task again.
+ * A failure of the task is propagated to all waiting callers.
+ *
+ * @param <K> the key of the task
+ * @param <V> the result of the task
+ */
+public class SingleFlight<K, V> {
+
+  @FunctionalInterface
+  public interface Task<V> {
+    V call() throws IOException;
+  }
+
+  /** How long callers wait by default for a task that is executed by another caller. */
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(2);
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight;
+  private final Duration timeout;
+
+  public SingleFlight() {
+    this(DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * @param timeout how long callers wait for a task that is executed by another caller
+   */
+  public SingleFlight(Duration timeout) {
+    this.inFlight = new ConcurrentHashMap<>();
+    this.timeout = timeout;
+  }
+
+  public V execute(K key, Task<V> task) throws IOException {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+
+    if (Objects.nonNull(running)) {
+      return await(key, running);
+    }
+
+    try {
+      V result = task.call();
+      flight.complete(result);
+      return result;
+    } catch (IOException | RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private V await(K key, CompletableFuture<V> running) throws IOException {
+    try {
+      return running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause().getMessage(), e.getCause());
+    } catch (TimeoutException e) {
+      throw new IOException(
+          String.format("Timed out after %ds while waiting for %s", timeout.toSeconds(), key));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(String.format("Interrupted while waiting for %s", key));
+    }
+  }
+}
@@ -59,6 +59,7 @@ public interface TileCache {
       TileStore tileStore,
       ChainedTileProvider delegate,
       TileWalker tileWalker,
+      TileSeedingOutcomes outcomes,
       Runnable updateProgress)
       throws IOException {
     tileWalker.walkTileSeedingJob(
@@ -85,7 +86,13 @@ public interface TileCache {
                     .build();
 
             if (job.isReseed() || tileStore.isDirty(tile) || !tileStore.has(tile)) {
-              TileResult result = delegate.get(tile);
+              // tiles below an empty or full tile are not generated, they are equal to that tile
+              Optional<TileResult> inherited = outcomes.getInherited(tile);
+              TileResult result = inherited.isPresent() ? inherited.get() : delegate.get(tile);
+
+              if (inherited.isEmpty()) {
+                outcomes.record(tile, result);
+              }
 
               if (shouldCache(tile) && result.isAvailable()) {
                 tileStore.put(tile, new ByteArrayInputStream(result.getContent().get()));
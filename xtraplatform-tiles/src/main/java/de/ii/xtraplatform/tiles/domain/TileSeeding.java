@@ -13,6 +13,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
 
 public interface TileSeeding {
 
@@ -36,6 +37,18 @@ public interface TileSeeding {
       String vectorTileset,
       TileSubMatrix vectorSubMatrix);
 
+  /**
+   * Estimates the cost of seeding the tiles of sub-matrices, e.g. from the sizes of tiles on lower
+   * levels that are already cached. Only the relation between the estimates for different
+   * sub-matrices of the same tileset and tile matrix set is relevant. The estimator is used for all
+   * sub-matrices while the seeding jobs are created, so it may reuse lookups between them.
+   *
+   * @return the cost estimator, by default the number of tiles
+   */
+  default ToLongFunction<TileSubMatrix> getCostEstimator(String tileset, String tileMatrixSet) {
+    return TileSubMatrix::getNumberOfTiles;
+  }
+
   void setupSeeding(TileSeedingJob jobSet) throws IOException;
 
   void cleanupSeeding(TileSeedingJob jobSet) throws IOException;
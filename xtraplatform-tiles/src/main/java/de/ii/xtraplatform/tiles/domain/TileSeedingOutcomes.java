@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.domain;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Records the tiles of a seeding run that resulted in {@link TileResult.Status#Empty} or {@link
+ * TileResult.Status#Full}, so that the tiles at more detailed levels below them do not have to be
+ * generated. The tiles are stored per level by their Morton code, the code of the ancestor of a
+ * tile is then just the code of the tile shifted by two bits per level. Since a tile below a
+ * recorded tile is never generated, only the topmost tiles of such subtrees are recorded.
+ *
+ * <p>This only works for quad tree tile matrix sets. The seeding jobs are started level by level
+ * top-down, but they are processed concurrently, so a tile may be generated before the outcome of
+ * its ancestor is recorded. This is not guaranteed and not required: such a tile is just generated
+ * as usual, a result is only inherited from an ancestor that was already recorded.
+ */
+public class TileSeedingOutcomes {
+
+  private final Map<String, Outcomes> outcomes;
+
+  public TileSeedingOutcomes() {
+    this.outcomes = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * @param tile the tile that was generated
+   * @param result the result of the generation
+   */
+  public void record(TileQuery tile, TileResult result) {
+    if ((!result.isEmpty() && !result.isFull())
+        || result.getContent().isEmpty()
+        || !isQuadTree(tile.getTileMatrixSet())) {
+      return;
+    }
+
+    Outcomes forTiles = outcomes.computeIfAbsent(key(tile), ignore -> new Outcomes());
+    long code = morton(tile.getRow(), tile.getCol());
+
+    if (result.isEmpty()) {
+      forTiles.emptyContent = result.getContent().get();
+      forTiles
+          .empty
+          .computeIfAbsent(tile.getLevel(), ignore -> ConcurrentHashMap.newKeySet())
+          .add(code);
+    } else {
+      forTiles
+          .full
+          .computeIfAbsent(tile.getLevel(), ignore -> new ConcurrentHashMap<>())
+          .put(code, result.getContent().get());
+    }
+  }
+
+  /**
+   * @param tile the tile to generate
+   * @return the result for the tile, if an ancestor of the tile was recorded as empty or full
+   */
+  public Optional<TileResult> getInherited(TileQuery tile) {
+    Outcomes forTiles = outcomes.get(key(tile));
+
+    if (Objects.isNull(forTiles)) {
+      return Optional.empty();
+    }
+
+    long code = morton(tile.getRow(), tile.getCol());
+
+    for (Map.Entry<Integer, Set<Long>> level :
+        forTiles.empty.headMap(tile.getLevel(), false).entrySet()) {
+      if (level.getValue().contains(ancestor(code, tile.getLevel(), level.getKey()))) {
+        return Optional.of(TileResult.empty(forTiles.emptyContent));
+      }
+    }
+
+    for (Map.Entry<Integer, Map<Long, byte[]>> level :
+        forTiles.full.headMap(tile.getLevel(), false).entrySet()) {
+      byte[] content = level.getValue().get(ancestor(code, tile.getLevel(), level.getKey()));
+
+      if (Objects.nonNull(content)) {
+        return Optional.of(TileResult.full(content));
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  public void clear() {
+    outcomes.clear();
+  }
+
+  private static class Outcomes {
+    private final ConcurrentSkipListMap<Integer, Set<Long>> empty = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Integer, Map<Long, byte[]>> full =
+        new ConcurrentSkipListMap<>();
+    private volatile byte[] emptyContent;
+  }
+
+  private static String key(TileQuery tile) {
+    return String.join(
+        "/", tile.getTileset(), tile.getTileMatrixSet().getId(), tile.getMediaType().toString());
+  }
+
+  private static boolean isQuadTree(TileMatrixSetBase tileMatrixSet) {
+    return tileMatrixSet instanceof TileMatrixSet && ((TileMatrixSet) tileMatrixSet).isQuadTree();
+  }
+
+  private static long ancestor(long code, int level, int ancestorLevel) {
+    return code >>> (2 * (level - ancestorLevel));
+  }
+
+  static long morton(int row, int col) {
+    return spread(col) | (spread(row) << 1);
+  }
+
+  private static long spread(int value) {
+    long x = value & 0xFFFFFFFFL;
+    x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+    x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+    x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+    x = (x | (x << 2)) & 0x3333333333333333L;
+    x = (x | (x << 1)) & 0x5555555555555555L;
+    return x;
+  }
+}
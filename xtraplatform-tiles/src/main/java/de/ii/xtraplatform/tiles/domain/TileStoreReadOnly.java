@@ -9,6 +9,7 @@ package de.ii.xtraplatform.tiles.domain;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface TileStoreReadOnly {
 
@@ -24,6 +25,15 @@ public interface TileStoreReadOnly {
 
   boolean has(String tileset, String tms, int level, int row, int col) throws IOException;
 
+  /**
+   * @return the size of the stored tile in bytes, empty if the tile does not exist or the size is
+   *     not known
+   */
+  default OptionalLong size(String tileset, String tms, int level, int row, int col)
+      throws IOException {
+    return OptionalLong.empty();
+  }
+
   @FunctionalInterface
   interface Walker {
     void walk(String tileset, String tms, int level, int row, int col);
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import com.google.protobuf.UnknownFieldSet
+import no.ecc.vectortile.VectorTileDecoder
+import org.locationtech.jts.geom.Geometry
+import org.locationtech.jts.io.WKTReader
+import spock.lang.Shared
+import spock.lang.Specification
+import vector_tile.VectorTile
+
+class MvtWriterSpec extends Specification {
+
+    @Shared
+    WKTReader reader = new WKTReader()
+
+    Geometry wkt(String wkt) {
+        return reader.read(wkt)
+    }
+
+    static VectorTile.Tile.Feature writeOne(Geometry geometry) {
+        MvtWriter writer = new MvtWriter(4096, 4096)
+        writer.addFeature("layer", [:], geometry, 1L)
+        return VectorTile.Tile.parseFrom(writer.encode()).getLayers(0).getFeatures(0)
+    }
+
+    // decodes the commands to rings with the cursor positions, see section 4.3 of the specification
+    static List<List<List<Integer>>> toPaths(List<Integer> commands) {
+        List<List<List<Integer>>> paths = []
+        int x = 0
+        int y = 0
+        int i = 0
+        while (i < commands.size()) {
+            int id = commands[i] & 0x7
+            int count = commands[i] >>> 3
+            i++
+            if (id == 7) {
+                continue
+            }
+            if (id == 1) {
+                paths << []
+            }
+            count.times {
+                x += unzigzag(commands[i++])
+                y += unzigzag(commands[i++])
+                paths.last() << [x, y]
+            }
+        }
+        return paths
+    }
+
+    static int unzigzag(int n) {
+        return (n >>> 1) ^ -(n & 1)
+    }
+
+    // the surveyor's formula with y pointing down, positive for exterior rings
+    static long area(List<List<Integer>> ring) {
+        long area = 0
+        for (int i = 0, j = ring.size() - 1; i < ring.size(); j = i++) {
+            area += (long) ring[j][0] * ring[i][1] - (long) ring[i][0] * ring[j][1]
+        }
+        return area
+    }
+
+    def 'Commands are zigzag and delta encoded like the examples of the specification - #geometry'() {
+        when:
+        VectorTile.Tile.Feature feature = writeOne(wkt(geometry))
+
+        then:
+        feature.getType() == type
+        feature.getGeometryList() == commands
+
+        where:
+        geometry                                                                                                         || type                                 | commands
+        "POINT (25 17)"                                                                                                  || VectorTile.Tile.GeomType.POINT      | [9, 50, 34]
+        "MULTIPOINT ((5 7), (3 2))"                                                                                      || VectorTile.Tile.GeomType.POINT      | [17, 10, 14, 3, 9]
+        "LINESTRING (2 2, 2 10, 10 10)"                                                                                  || VectorTile.Tile.GeomType.LINESTRING | [9, 4, 4, 18, 0, 16, 16, 0]
+        "MULTILINESTRING ((2 2, 2 10, 10 10), (1 1, 3 5))"                                                               || VectorTile.Tile.GeomType.LINESTRING | [9, 4, 4, 18, 0, 16, 16, 0, 9, 17, 17, 10, 4, 8]
+        "POLYGON ((3 6, 8 12, 20 34, 3 6))"                                                                              || VectorTile.Tile.GeomType.POLYGON    | [9, 6, 12, 18, 10, 12, 24, 44, 15]
+        "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 10, 0 0)), ((11 11, 20 11, 20 20, 11 20, 11 11), (13 13, 13 17, 17 17, 17 13, 13 13)))" || VectorTile.Tile.GeomType.POLYGON    | [9, 0, 0, 26, 20, 0, 0, 20, 19, 0, 15, 9, 22, 2, 26, 18, 0, 0, 18, 17, 0, 15, 9, 4, 13, 26, 0, 8, 8, 0, 0, 7, 15]
+    }
+
+    def 'Exterior rings are written clockwise and interior rings counterclockwise - #geometry'() {
+        when:
+        List<List<List<Integer>>> rings = toPaths(writeOne(wkt(geometry)).getGeometryList())
+
+        then:
+        rings.collect { area(it) > 0 } == exterior
+
+        where:
+        geometry                                                                                      || exterior
+        "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 8, 8 8, 8 2, 2 2))"                          || [true, false]
+        // both rings in the opposite orientation
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (2 2, 8 2, 8 8, 2 8, 2 2))"                          || [true, false]
+        "MULTIPOLYGON (((0 0, 0 10, 10 10, 10 0, 0 0)), ((20 0, 30 0, 30 10, 20 10, 20 0)))"          || [true, true]
+    }
+
+    def 'Keys and values are deduplicated per layer and referenced by packed tags'() {
+        given:
+        MvtWriter writer = new MvtWriter(4096, 4096)
+        writer.addFeature("layer", [name: "a", floors: 3L], wkt("POINT (1 1)"), 1L)
+        writer.addFeature("layer", [name: "b", floors: 3L, missing: null], wkt("POINT (2 2)"), 2L)
+
+        when:
+        byte[] tile = writer.encode()
+        VectorTile.Tile.Layer layer = VectorTile.Tile.parseFrom(tile).getLayers(0)
+
+        then:
+        layer.getKeysList() == ["name", "floors"]
+        layer.getValuesList().collect { it.hasStringValue() ? it.getStringValue() : it.getSintValue() } == ["a", 3L, "b"]
+        layer.getFeatures(0).getTagsList() == [0, 0, 1, 1]
+        layer.getFeatures(1).getTagsList() == [0, 2, 1, 1]
+
+        and: 'tags and geometries are written as packed fields'
+        UnknownFieldSet feature = UnknownFieldSet.parseFrom(
+                UnknownFieldSet.parseFrom(
+                        UnknownFieldSet.parseFrom(tile).getField(3).getLengthDelimitedList()[0]
+                ).getField(2).getLengthDelimitedList()[0])
+        feature.getField(2).getLengthDelimitedList().size() == 1
+        feature.getField(2).getVarintList().isEmpty()
+        feature.getField(4).getLengthDelimitedList().size() == 1
+        feature.getField(4).getVarintList().isEmpty()
+    }
+
+    def 'A tile can be read with the no.ecc decoder'() {
+        given:
+        MvtWriter writer = new MvtWriter(4096, 256)
+        writer.addFeature("buildings", [name: "Town hall", floors: 4L, height: 12.5d, ratio: 0.5f, visible: true],
+                wkt("POLYGON ((10 10, 20 10, 20 20, 10 20, 10 10), (12 12, 12 18, 18 18, 18 12, 12 12))"), 7L)
+        writer.addFeature("roads", [name: "Main street"], wkt("LINESTRING (0 0, 128 64, 256 256)"), 8L)
+        writer.addFeature("roads", [:], wkt("POINT (64 64)"), null)
+
+        when:
+        VectorTileDecoder decoder = new VectorTileDecoder()
+        decoder.setAutoScale(false)
+        List<VectorTileDecoder.Feature> features = decoder.decode(writer.encode()).asList()
+
+        then:
+        features.size() == 3
+
+        features[0].getLayerName() == "buildings"
+        features[0].getId() == 7L
+        features[0].getExtent() == 4096
+        features[0].getGeometry().equalsTopo(wkt("POLYGON ((160 160, 320 160, 320 320, 160 320, 160 160), (192 192, 192 288, 288 288, 288 192, 192 192))"))
+        features[0].getAttributes() == [name: "Town hall", floors: 4L, height: 12.5d, ratio: 0.5f, visible: true]
+
+        features[1].getLayerName() == "roads"
+        features[1].getId() == 8L
+        features[1].getGeometry().equalsExact(wkt("LINESTRING (0 0, 2048 1024, 4096 4096)"))
+        features[1].getAttributes() == [name: "Main street"]
+
+        features[2].getLayerName() == "roads"
+        features[2].getGeometry().equalsExact(wkt("POINT (1024 1024)"))
+        features[2].getAttributes().isEmpty()
+    }
+
+    def 'Geometries that collapse in the extent are not written'() {
+        given:
+        MvtWriter writer = new MvtWriter(256, 4096)
+
+        expect:
+        !writer.addFeature("layer", [:], wkt("POLYGON ((1 1, 2 1, 2 2, 1 2, 1 1))"), 1L)
+        !writer.addFeature("layer", [:], wkt("LINESTRING (1 1, 2 2)"), 2L)
+        writer.addFeature("layer", [:], wkt("POINT (1 1)"), 3L)
+    }
+}
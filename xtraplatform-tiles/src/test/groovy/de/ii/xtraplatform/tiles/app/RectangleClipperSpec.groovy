@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import org.locationtech.jts.geom.Envelope
+import org.locationtech.jts.geom.Geometry
+import org.locationtech.jts.geom.GeometryFactory
+import org.locationtech.jts.geom.PrecisionModel
+import org.locationtech.jts.geom.util.AffineTransformation
+import org.locationtech.jts.io.WKTReader
+import spock.lang.Shared
+import spock.lang.Specification
+
+class RectangleClipperSpec extends Specification {
+
+    @Shared
+    GeometryFactory geometryFactory = new GeometryFactory()
+
+    @Shared
+    WKTReader reader = new WKTReader(geometryFactory)
+
+    @Shared
+    RectangleClipper clipper = new RectangleClipper(geometryFactory.toGeometry(new Envelope(0, 10, 0, 10)))
+
+    Geometry wkt(String wkt) {
+        return reader.read(wkt)
+    }
+
+    def 'Geometries inside the rectangle are not changed, also on the edges'() {
+        given:
+        Geometry geometry = wkt(inside)
+
+        expect:
+        clipper.clip(geometry).is(geometry)
+
+        where:
+        inside << [
+                "POLYGON ((0 0, 5 0, 5 5, 0 5, 0 0))",
+                "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))",
+                "LINESTRING (0 5, 10 5)",
+                "POINT (10 10)"
+        ]
+    }
+
+    def 'Geometries outside the rectangle are dropped - #outside'() {
+        expect:
+        clipper.clip(wkt(outside)) == null
+
+        where:
+        outside << [
+                "POLYGON ((11 0, 15 0, 15 5, 11 5, 11 0))",
+                "LINESTRING (-5 -1, -1 -5)",
+                "MULTIPOINT ((-1 5), (11 5))"
+        ]
+    }
+
+    def 'Polygons are clipped on edges and corners - #polygon'() {
+        when:
+        Geometry clipped = clipper.clip(wkt(polygon))
+
+        then:
+        clipped.isValid()
+        clipped.equalsTopo(wkt(expected))
+
+        where:
+        polygon                                                   || expected
+        // crosses the left edge
+        "POLYGON ((-5 2, 5 2, 5 8, -5 8, -5 2))"                  || "POLYGON ((0 2, 5 2, 5 8, 0 8, 0 2))"
+        // covers the bottom left corner
+        "POLYGON ((-5 -5, 5 -5, 5 5, -5 5, -5 -5))"               || "POLYGON ((0 0, 5 0, 5 5, 0 5, 0 0))"
+        // covers the top right corner, counterclockwise
+        "POLYGON ((15 15, 5 15, 5 5, 15 5, 15 15))"               || "POLYGON ((5 5, 10 5, 10 10, 5 10, 5 5))"
+        // lies on the left edge and crosses the right edge
+        "POLYGON ((0 2, 15 2, 15 8, 0 8, 0 2))"                   || "POLYGON ((0 2, 10 2, 10 8, 0 8, 0 2))"
+        // crosses two opposite edges
+        "POLYGON ((-5 2, 15 2, 15 8, -5 8, -5 2))"                || "POLYGON ((0 2, 10 2, 10 8, 0 8, 0 2))"
+        // cuts the corner diagonally
+        "POLYGON ((-5 5, 5 -5, 15 -5, 15 15, -5 15, -5 5))"       || "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"
+        // covers the rectangle
+        "POLYGON ((-5 -5, 15 -5, 15 15, -5 15, -5 -5))"           || "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"
+        // a hole inside the rectangle is kept
+        "POLYGON ((-5 -5, 15 -5, 15 15, -5 15, -5 -5), (4 4, 6 4, 6 6, 4 6, 4 4))" || "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (4 4, 6 4, 6 6, 4 6, 4 4))"
+        // a hole outside the rectangle is dropped
+        "POLYGON ((-5 -5, 15 -5, 15 15, -5 15, -5 -5), (11 4, 12 4, 12 6, 11 6, 11 4))" || "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0))"
+    }
+
+    def 'Polygons that leave the rectangle twice through the same edge are not connected along it - #polygon'() {
+        when:
+        Geometry clipped = clipper.clip(wkt(polygon))
+
+        then:
+        clipped.isValid()
+        clipped.equalsTopo(wkt(expected))
+
+        where:
+        polygon                                                                        || expected
+        // an U opening to the left, the arms are only connected outside of the rectangle
+        "POLYGON ((-5 1, 8 1, 8 9, -5 9, -5 7, 3 7, 3 3, -5 3, -5 1))"                 || "POLYGON ((0 1, 8 1, 8 9, 0 9, 0 7, 3 7, 3 3, 0 3, 0 1))"
+        // an U opening to the right, the arms are separate polygons in the rectangle
+        "POLYGON ((15 1, 15 9, 5 9, 5 7, 12 7, 12 3, 5 3, 5 1, 15 1))"                 || "MULTIPOLYGON (((5 1, 10 1, 10 3, 5 3, 5 1)), ((5 7, 10 7, 10 9, 5 9, 5 7)))"
+        // a hole that crosses the left edge
+        "POLYGON ((-5 -5, 15 -5, 15 15, -5 15, -5 -5), (-2 4, 4 4, 4 6, -2 6, -2 4))" || "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 6, 4 6, 4 4, 0 4, 0 0))"
+    }
+
+    def 'Lines are clipped on edges and corners - #line'() {
+        when:
+        Geometry clipped = clipper.clip(wkt(line))
+
+        then:
+        clipped.getNumGeometries() == parts
+        clipped.equalsTopo(wkt(expected))
+
+        where:
+        line                                       || parts | expected
+        // crosses the rectangle
+        "LINESTRING (-5 5, 15 5)"                  || 1     | "LINESTRING (0 5, 10 5)"
+        // crosses both corners diagonally
+        "LINESTRING (-5 -5, 15 15)"                || 1     | "LINESTRING (0 0, 10 10)"
+        // runs along the left edge
+        "LINESTRING (0 -5, 0 15)"                  || 1     | "LINESTRING (0 0, 0 10)"
+        // leaves the rectangle and comes back in
+        "LINESTRING (2 5, 12 5, 12 7, 2 7)"        || 2     | "MULTILINESTRING ((2 5, 10 5), (10 7, 2 7))"
+        // leaves the rectangle through a corner and comes back in through another edge
+        "LINESTRING (5 5, 15 15, 15 5, 5 5)"       || 2     | "MULTILINESTRING ((5 5, 10 10), (10 5, 5 5))"
+        // comes in, leaves and comes back in again
+        "LINESTRING (-5 2, 5 2, 5 12, 8 12, 8 8)"  || 2     | "MULTILINESTRING ((0 2, 5 2, 5 10), (8 10, 8 8))"
+        // the parts of a multi line string are clipped separately
+        "MULTILINESTRING ((-5 2, 5 2), (5 8, 15 8))" || 2   | "MULTILINESTRING ((0 2, 5 2), (5 8, 10 8))"
+    }
+
+    def 'Only the points inside the rectangle are kept'() {
+        expect:
+        clipper.clip(wkt("MULTIPOINT ((5 5), (15 5), (10 0))")).equalsTopo(wkt("MULTIPOINT ((5 5), (10 0))"))
+    }
+
+    def 'A clip geometry that is not a rectangle is intersected'() {
+        given:
+        RectangleClipper triangle = new RectangleClipper(wkt("POLYGON ((0 0, 10 0, 0 10, 0 0))"))
+
+        expect:
+        triangle.clip(wkt("POLYGON ((1 1, 9 1, 9 9, 1 9, 1 1))")).equalsTopo(wkt("POLYGON ((1 1, 9 1, 1 9, 1 1))"))
+    }
+
+    def 'Tile geometries are clipped with the public signature'() {
+        given:
+        Geometry clipGeometry = geometryFactory.toGeometry(new Envelope(0, 10, 0, 10))
+
+        when:
+        Geometry tileGeometry = TileGeometryUtil.getTileGeometry(
+                wkt("POLYGON ((-5 2, 5 2, 5 8, -5 8, -5 2))"),
+                new AffineTransformation(),
+                clipGeometry,
+                new PrecisionModel(1),
+                0.5)
+
+        then:
+        tileGeometry.equalsTopo(wkt("POLYGON ((0 2, 5 2, 5 8, 0 8, 0 2))"))
+    }
+}
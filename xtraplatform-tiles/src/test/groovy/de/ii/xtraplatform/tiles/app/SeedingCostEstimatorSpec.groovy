@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import de.ii.xtraplatform.tiles.domain.ImmutableTileSubMatrix
+import de.ii.xtraplatform.tiles.domain.TileSubMatrix
+import spock.lang.Specification
+
+class SeedingCostEstimatorSpec extends Specification {
+
+    // 16x16 tiles per job, the reference tiles are two levels up
+    static final int JOB_SIZE = 256
+
+    List<List<Integer>> lookups = []
+
+    static TileSubMatrix subMatrix(int level, int rowMin, int rowMax, int colMin, int colMax) {
+        return new ImmutableTileSubMatrix.Builder()
+                .level(level)
+                .rowMin(rowMin)
+                .rowMax(rowMax)
+                .colMin(colMin)
+                .colMax(colMax)
+                .build()
+    }
+
+    SeedingCostEstimator estimator(Map<List<Integer>, Long> cached) {
+        return new SeedingCostEstimator(JOB_SIZE, { int level, int row, int col ->
+            lookups << [level, row, col]
+            Long size = cached[[level, row, col]]
+            return size == null ? OptionalLong.empty() : OptionalLong.of(size)
+        } as SeedingCostEstimator.CachedSizes)
+    }
+
+    def 'Tiles without a cached ancestor cost one unit'() {
+        expect:
+        estimator([:]).applyAsLong(subMatrix(4, 0, 7, 0, 7)) == 64
+    }
+
+    def 'Tiles cost one unit plus the size of the cached ancestor in units - #rows/#cols'() {
+        given:
+        Map<List<Integer>, Long> cached = [
+                ([2, 0, 0]): 4L * SeedingCostEstimator.BYTES_PER_UNIT,
+                ([2, 1, 1]): SeedingCostEstimator.BYTES_PER_UNIT - 1L
+        ]
+
+        expect:
+        estimator(cached).applyAsLong(subMatrix(4, rows[0], rows[1], cols[0], cols[1])) == cost
+
+        where:
+        rows   | cols   || cost
+        [0, 7] | [0, 7] || 16 * 5 + 16 + 16 + 16
+        [0, 3] | [0, 3] || 16 * 5
+        [2, 5] | [2, 5] || 4 * 5 + 4 + 4 + 4
+        [4, 7] | [4, 7] || 16
+        [0, 0] | [0, 0] || 5
+    }
+
+    def 'The size of every ancestor is looked up once'() {
+        given:
+        SeedingCostEstimator estimator = estimator([([2, 0, 0]): 4096L])
+
+        when:
+        long whole = estimator.applyAsLong(subMatrix(4, 0, 7, 0, 7))
+        long quarters = [[0, 3], [4, 7]].collectMany { List<Integer> rows ->
+            [[0, 3], [4, 7]].collect { List<Integer> cols ->
+                estimator.applyAsLong(subMatrix(4, rows[0], rows[1], cols[0], cols[1]))
+            }
+        }.sum() as long
+
+        then:
+        whole == quarters
+        lookups.size() == 4
+        lookups as Set == [[2, 0, 0], [2, 0, 1], [2, 1, 0], [2, 1, 1]] as Set
+    }
+
+    def 'Sub-matrices of the top level cost the number of tiles'() {
+        when:
+        long cost = estimator([:]).applyAsLong(subMatrix(0, 0, 0, 0, 0))
+
+        then:
+        cost == 1
+        lookups.isEmpty()
+    }
+}
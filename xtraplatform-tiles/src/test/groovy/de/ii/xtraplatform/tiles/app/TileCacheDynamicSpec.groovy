@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import com.google.common.collect.Range
+import de.ii.xtraplatform.crs.domain.BoundingBox
+import de.ii.xtraplatform.crs.domain.EpsgCrs
+import de.ii.xtraplatform.tiles.domain.ChainedTileProvider
+import de.ii.xtraplatform.tiles.domain.TileMatrixSet
+import de.ii.xtraplatform.tiles.domain.TileQuery
+import de.ii.xtraplatform.tiles.domain.TileResult
+import de.ii.xtraplatform.tiles.domain.TileStore
+import de.ii.xtraplatform.tiles.domain.TileWalker
+import jakarta.ws.rs.core.MediaType
+import spock.lang.Specification
+
+class TileCacheDynamicSpec extends Specification {
+
+    static final EpsgCrs CRS = EpsgCrs.of(3857)
+    static final MediaType MVT = new MediaType("application", "vnd.mapbox-vector-tile")
+    static final byte[] CONTENT = [1, 2, 3] as byte[]
+
+    TileStore tileStore
+    ChainedTileProvider delegate
+    TileCacheDynamic cache
+
+    def setup() {
+        tileStore = Mock(TileStore)
+        delegate = Mock(ChainedTileProvider)
+        cache = new TileCacheDynamic(Stub(TileWalker), tileStore, delegate, ["buildings": ["WebMercatorQuad": Range.closed(2, 4)]], [:], false)
+    }
+
+    // the tiles of every level are 100 units wide
+    TileMatrixSet tileMatrixSet(String id = "WebMercatorQuad", int tileSize = 256) {
+        return Stub(TileMatrixSet) {
+            getId() >> id
+            getCrs() >> CRS
+            getTileSize() >> tileSize
+            getTileBoundingBox(_, 0, 0) >> BoundingBox.of(0, 0, 100, 100, CRS)
+        }
+    }
+
+    TileQuery tile(TileMatrixSet tileMatrixSet) {
+        return Stub(TileQuery) {
+            getTileset() >> "buildings"
+            getTileMatrixSet() >> tileMatrixSet
+            getMediaType() >> MVT
+            getLevel() >> 3
+            getRow() >> 1
+            getCol() >> 2
+            isTransient() >> false
+        }
+    }
+
+    def 'Only the cached levels of the tileset are invalidated'() {
+        given:
+        TileMatrixSet tms = Mock(TileMatrixSet) {
+            getId() >> "WebMercatorQuad"
+            getCrs() >> CRS
+            getTileSize() >> 256
+            getTileBoundingBox(_, 0, 0) >> BoundingBox.of(0, 0, 100, 100, CRS)
+        }
+
+        when:
+        cache.invalidate("buildings", tms, BoundingBox.of(10, 10, 20, 20, CRS))
+
+        then:
+        1 * tms.getLimits(2, _)
+        1 * tms.getLimits(3, _)
+        1 * tms.getLimits(4, _)
+        0 * tms.getLimits(_, _)
+        3 * tileStore.delete("buildings", tms, _, false)
+    }
+
+    def 'Other tilesets and tile matrix sets are not invalidated - #tileset/#tmsId'() {
+        when:
+        cache.invalidate(tileset, tileMatrixSet(tmsId), BoundingBox.of(10, 10, 20, 20, CRS))
+
+        then:
+        0 * tileStore.delete(*_)
+
+        where:
+        tileset     | tmsId
+        "roads"     | "WebMercatorQuad"
+        "buildings" | "WorldCRS84Quad"
+    }
+
+    def 'The bbox is extended by the buffer of the tile size - #tileSize'() {
+        given:
+        List<BoundingBox> bboxes = []
+        TileMatrixSet tms = Stub(TileMatrixSet) {
+            getId() >> "WebMercatorQuad"
+            getCrs() >> CRS
+            getTileSize() >> tileSize
+            getTileBoundingBox(_, 0, 0) >> BoundingBox.of(0, 0, 100, 100, CRS)
+            getLimits(_, _) >> { int level, BoundingBox bbox -> bboxes << bbox; null }
+        }
+
+        when:
+        cache.invalidate("buildings", tms, BoundingBox.of(10, 10, 20, 20, CRS))
+
+        then:
+        bboxes.size() == 3
+        bboxes.every { it == BoundingBox.of(10 - buffer, 10 - buffer, 20 + buffer, 20 + buffer, CRS) }
+
+        where:
+        tileSize || buffer
+        256      || 3.125
+        512      || 1.5625
+    }
+
+    def 'A generated tile is written to the cache'() {
+        given:
+        TileQuery tile = tile(tileMatrixSet())
+
+        when:
+        TileResult result = cache.get(tile)
+
+        then:
+        2 * tileStore.get(tile) >>> [TileResult.notFound(), TileResult.found(CONTENT)]
+        1 * delegate.get(tile) >> TileResult.found(CONTENT)
+        1 * tileStore.put(tile, _)
+        0 * tileStore.delete(_)
+        result.getContent().get() == CONTENT
+    }
+
+    def 'A tile whose generation started before an invalidation is not written to the cache'() {
+        given:
+        TileMatrixSet tms = tileMatrixSet()
+        TileQuery tile = tile(tms)
+
+        when:
+        TileResult result = cache.get(tile)
+
+        then:
+        1 * tileStore.get(tile) >> TileResult.notFound()
+        1 * delegate.get(tile) >> {
+            cache.invalidate("buildings", tms, BoundingBox.of(10, 10, 20, 20, CRS))
+            TileResult.found(CONTENT)
+        }
+        0 * tileStore.put(*_)
+        result.getContent().get() == CONTENT
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import com.google.common.collect.Range
+import de.ii.xtraplatform.crs.domain.BoundingBox
+import de.ii.xtraplatform.crs.domain.CrsTransformationException
+import de.ii.xtraplatform.crs.domain.CrsTransformer
+import de.ii.xtraplatform.crs.domain.CrsTransformerFactory
+import de.ii.xtraplatform.crs.domain.EpsgCrs
+import de.ii.xtraplatform.features.domain.FeatureChange
+import de.ii.xtraplatform.features.domain.ImmutableFeatureChange
+import de.ii.xtraplatform.tiles.domain.ChainedTileProvider
+import de.ii.xtraplatform.tiles.domain.ImmutableMinMax
+import de.ii.xtraplatform.tiles.domain.ImmutableTilesetFeatures
+import de.ii.xtraplatform.tiles.domain.ImmutableTilesetFeaturesDefaults
+import de.ii.xtraplatform.tiles.domain.TileMatrixSet
+import de.ii.xtraplatform.tiles.domain.TileMatrixSetRepository
+import de.ii.xtraplatform.tiles.domain.TileStore
+import de.ii.xtraplatform.tiles.domain.TileWalker
+import de.ii.xtraplatform.tiles.domain.TilesetFeatures
+import de.ii.xtraplatform.tiles.domain.TilesetFeaturesDefaults
+import spock.lang.Specification
+
+class TileCacheInvalidatorSpec extends Specification {
+
+    static final EpsgCrs WEB_MERCATOR = EpsgCrs.of(3857)
+    static final EpsgCrs WGS84 = EpsgCrs.of(4326)
+
+    static final TilesetFeaturesDefaults DEFAULTS = new ImmutableTilesetFeaturesDefaults.Builder()
+            .putLevels("WebMercatorQuad", new ImmutableMinMax.Builder().min(0).max(16).build())
+            .build()
+
+    static final Map<String, TilesetFeatures> TILESETS = [
+            "buildings": tileset("buildings", null, []),
+            "roads"    : tileset("roads", "road", []),
+            "all"      : tileset("all", null, [TilesetFeatures.COMBINE_ALL]),
+            "city"     : tileset("city", null, ["buildings"]),
+            "traffic"  : tileset("traffic", null, ["roads"]),
+    ]
+
+    static TilesetFeatures tileset(String id, String featureType, List<String> combine) {
+        return new ImmutableTilesetFeatures.Builder()
+                .id(id)
+                .featureType(Optional.ofNullable(featureType))
+                .combine(combine)
+                .build()
+    }
+
+    static FeatureChange change(String featureType, BoundingBox oldBbox, BoundingBox newBbox) {
+        return ImmutableFeatureChange.builder()
+                .action(FeatureChange.Action.UPDATE)
+                .featureType(featureType)
+                .oldBoundingBox(Optional.ofNullable(oldBbox))
+                .newBoundingBox(Optional.ofNullable(newBbox))
+                .build()
+    }
+
+    TileMatrixSet tileMatrixSet
+    CrsTransformer transformer
+    CrsTransformerFactory crsTransformerFactory
+    TileStore tileStore
+    TileCacheDynamic cache
+    TileCacheInvalidator invalidator
+
+    def setup() {
+        tileMatrixSet = Stub(TileMatrixSet) {
+            getId() >> "WebMercatorQuad"
+            getCrs() >> WEB_MERCATOR
+            getTileSize() >> 256
+            getTileBoundingBox(_, 0, 0) >> BoundingBox.of(0, 0, 100, 100, WEB_MERCATOR)
+        }
+        transformer = Mock(CrsTransformer)
+        crsTransformerFactory = Mock(CrsTransformerFactory) {
+            getTransformer(WGS84, WEB_MERCATOR) >> Optional.of(transformer)
+        }
+        TileMatrixSetRepository tileMatrixSetRepository = Stub(TileMatrixSetRepository) {
+            get("WebMercatorQuad") >> Optional.of(tileMatrixSet)
+            get(_) >> Optional.empty()
+        }
+        tileStore = Mock(TileStore)
+        cache = new TileCacheDynamic(Stub(TileWalker), tileStore, Stub(ChainedTileProvider),
+                TILESETS.keySet().collectEntries { [(it): ["WebMercatorQuad": Range.closed(5, 5)]] }, [:], false)
+        invalidator = new TileCacheInvalidator(tileMatrixSetRepository, crsTransformerFactory)
+    }
+
+    def 'The tilesets of the feature type and the tilesets combining them are affected - #featureType'() {
+        expect:
+        TileCacheInvalidator.getTilesets(TILESETS, DEFAULTS, featureType) == tilesets as Set
+
+        where:
+        featureType || tilesets
+        "buildings" || ["buildings", "all", "city"]
+        "road"      || ["roads", "all", "traffic"]
+        "roads"     || []
+        "unknown"   || []
+    }
+
+    def 'A bbox in the CRS of the tile matrix set is not transformed'() {
+        given:
+        BoundingBox bbox = BoundingBox.of(10, 10, 20, 20, WEB_MERCATOR)
+
+        when:
+        Optional<BoundingBox> tmsBbox = invalidator.toTmsCrs(bbox, tileMatrixSet)
+
+        then:
+        0 * crsTransformerFactory.getTransformer(*_)
+        tmsBbox == Optional.of(bbox)
+    }
+
+    def 'A bbox in another CRS is transformed to the CRS of the tile matrix set'() {
+        given:
+        BoundingBox bbox = BoundingBox.of(7, 50, 8, 51, WGS84)
+        BoundingBox transformed = BoundingBox.of(10, 10, 20, 20, WEB_MERCATOR)
+
+        when:
+        Optional<BoundingBox> tmsBbox = invalidator.toTmsCrs(bbox, tileMatrixSet)
+
+        then:
+        1 * transformer.transformBoundingBox(bbox) >> transformed
+        tmsBbox == Optional.of(transformed)
+    }
+
+    def 'A bbox that cannot be transformed is empty'() {
+        when:
+        Optional<BoundingBox> tmsBbox = invalidator.toTmsCrs(BoundingBox.of(7, 50, 8, 51, WGS84), tileMatrixSet)
+
+        then:
+        1 * transformer.transformBoundingBox(_) >> { throw new CrsTransformationException("out of range") }
+        tmsBbox.isEmpty()
+    }
+
+    def 'The old and new bbox are deleted from the affected tilesets'() {
+        given:
+        FeatureChange change = change("buildings",
+                BoundingBox.of(10, 10, 20, 20, WEB_MERCATOR),
+                BoundingBox.of(30, 30, 40, 40, WEB_MERCATOR))
+
+        when:
+        invalidator.invalidate(change, TILESETS, DEFAULTS, [cache])
+
+        then:
+        2 * tileStore.delete("buildings", tileMatrixSet, _, false)
+        2 * tileStore.delete("all", tileMatrixSet, _, false)
+        2 * tileStore.delete("city", tileMatrixSet, _, false)
+        0 * tileStore.delete(*_)
+    }
+
+    def 'Nothing is deleted for a bbox that cannot be transformed'() {
+        given:
+        FeatureChange change = change("buildings",
+                BoundingBox.of(7, 50, 8, 51, WGS84),
+                BoundingBox.of(10, 10, 20, 20, WEB_MERCATOR))
+
+        when:
+        invalidator.invalidate(change, TILESETS, DEFAULTS, [cache])
+
+        then:
+        3 * transformer.transformBoundingBox(_) >> { throw new CrsTransformationException("out of range") }
+        1 * tileStore.delete("buildings", tileMatrixSet, _, false)
+        1 * tileStore.delete("all", tileMatrixSet, _, false)
+        1 * tileStore.delete("city", tileMatrixSet, _, false)
+        0 * tileStore.delete(*_)
+    }
+
+    def 'Nothing is deleted for a change without bbox'() {
+        when:
+        invalidator.invalidate(change("buildings", null, null), TILESETS, DEFAULTS, [cache])
+
+        then:
+        0 * tileStore.delete(*_)
+    }
+}
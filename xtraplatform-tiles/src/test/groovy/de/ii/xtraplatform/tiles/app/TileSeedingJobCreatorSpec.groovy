@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.app
+
+import de.ii.xtraplatform.tiles.domain.ImmutableTileSubMatrix
+import de.ii.xtraplatform.tiles.domain.TileSubMatrix
+import spock.lang.Specification
+
+import java.util.function.ToLongFunction
+
+class TileSeedingJobCreatorSpec extends Specification {
+
+    static final ToLongFunction<TileSubMatrix> TILES = { TileSubMatrix it -> it.getNumberOfTiles() } as ToLongFunction<TileSubMatrix>
+
+    static TileSubMatrix subMatrix(int level, int rowMin, int rowMax, int colMin, int colMax) {
+        return new ImmutableTileSubMatrix.Builder()
+                .level(level)
+                .rowMin(rowMin)
+                .rowMax(rowMax)
+                .colMin(colMin)
+                .colMax(colMax)
+                .build()
+    }
+
+    // the first sub-matrix covers rows 0 to 15, three cheap ones follow
+    static List<TileSubMatrix> withCheap(TileSubMatrix expensive) {
+        return [expensive] + (0..2).collect { int i -> subMatrix(5, 16, 23, i * 8, i * 8 + 7) }
+    }
+
+    static ToLongFunction<TileSubMatrix> expensiveRows(Closure<Long> cost) {
+        return { TileSubMatrix it -> it.getRowMin() < 16 ? cost(it) : it.getNumberOfTiles() } as ToLongFunction<TileSubMatrix>
+    }
+
+    def 'A single sub-matrix is not split'() {
+        given:
+        TileSubMatrix subMatrix = subMatrix(5, 0, 15, 0, 15)
+
+        when:
+        List<TileSeedingJobCreator.CostedSubMatrix> costed = TileSeedingJobCreator.splitByCost([subMatrix], expensiveRows { 1_000_000L })
+
+        then:
+        costed == [new TileSeedingJobCreator.CostedSubMatrix(subMatrix, 1_000_000L)]
+    }
+
+    def 'Sub-matrices with similar costs are not split'() {
+        given:
+        List<TileSubMatrix> subMatrices = (0..3).collect { int i -> subMatrix(5, 0, 7, i * 8, i * 8 + 7) }
+
+        when:
+        List<TileSeedingJobCreator.CostedSubMatrix> costed = TileSeedingJobCreator.splitByCost(subMatrices, TILES)
+
+        then:
+        costed*.subMatrix() == subMatrices
+        costed*.cost() == [64L, 64L, 64L, 64L]
+    }
+
+    def 'Sub-matrices that cost more than twice the average are split into quarters'() {
+        given:
+        List<TileSubMatrix> subMatrices = withCheap(subMatrix(5, 0, 15, 0, 15))
+
+        when:
+        List<TileSeedingJobCreator.CostedSubMatrix> costed = TileSeedingJobCreator.splitByCost(subMatrices,
+                expensiveRows { TileSubMatrix it -> it.getNumberOfTiles() * 100 })
+
+        then:
+        costed*.subMatrix() == [
+                subMatrix(5, 0, 7, 0, 7),
+                subMatrix(5, 0, 7, 8, 15),
+                subMatrix(5, 8, 15, 0, 7),
+                subMatrix(5, 8, 15, 8, 15)
+        ] + subMatrices.tail()
+        costed*.cost() == [6400L, 6400L, 6400L, 6400L, 64L, 64L, 64L]
+    }
+
+    def 'Sub-matrices are split at most three times'() {
+        when:
+        List<TileSeedingJobCreator.CostedSubMatrix> costed = TileSeedingJobCreator.splitByCost(
+                withCheap(subMatrix(5, 0, 15, 0, 15)), expensiveRows { 1_000_000L })
+
+        then:
+        costed.size() == 64 + 3
+        costed.take(64).every { it.subMatrix().getNumberOfTiles() == 4 && it.cost() == 1_000_000L }
+        costed.take(64)*.subMatrix().sum { it.getNumberOfTiles() } == 256
+    }
+
+    def 'Single tiles are not split'() {
+        when:
+        List<TileSeedingJobCreator.CostedSubMatrix> costed = TileSeedingJobCreator.splitByCost(
+                withCheap(subMatrix(5, 0, 1, 0, 0)), expensiveRows { 1_000_000L })
+
+        then:
+        costed*.subMatrix().take(2) == [subMatrix(5, 0, 0, 0, 0), subMatrix(5, 1, 1, 0, 0)]
+        costed.size() == 2 + 3
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.domain
+
+import spock.lang.Specification
+import spock.lang.Timeout
+
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+@Timeout(10)
+class SingleFlightSpec extends Specification {
+
+    static final int WAITING = 4
+
+    SingleFlight<String, String> singleFlight = new SingleFlight<>()
+    AtomicInteger executions = new AtomicInteger()
+    CountDownLatch started = new CountDownLatch(1)
+    CountDownLatch release = new CountDownLatch(1)
+
+    // the task of the first caller, blocks until it is released
+    SingleFlight.Task<String> blocking(Closure<String> result) {
+        return {
+            executions.incrementAndGet()
+            started.countDown()
+            release.await()
+            return result.call()
+        } as SingleFlight.Task<String>
+    }
+
+    // runs execute in a thread and records the result or the exception
+    Thread caller(String key, SingleFlight.Task<String> task, List results) {
+        Thread thread = new Thread({
+            try {
+                results << singleFlight.execute(key, task)
+            } catch (IOException e) {
+                results << e
+            }
+        })
+        thread.start()
+        return thread
+    }
+
+    // callers that joined a running task wait for its result with a timeout
+    static void awaitWaiting(List<Thread> threads) {
+        while (!threads.every { it.getState() == Thread.State.TIMED_WAITING }) {
+            Thread.sleep(5)
+        }
+    }
+
+    def 'Concurrent callers share the result of one execution'() {
+        given:
+        List results = [].asSynchronized()
+        SingleFlight.Task<String> other = { executions.incrementAndGet(); "other" } as SingleFlight.Task<String>
+
+        when:
+        Thread first = caller("tile", blocking({ "result" }), results)
+        started.await(5, TimeUnit.SECONDS)
+        List<Thread> waiting = (1..WAITING).collect { caller("tile", other, results) }
+        awaitWaiting(waiting)
+        release.countDown()
+        ([first] + waiting)*.join()
+
+        then:
+        executions.get() == 1
+        results.size() == WAITING + 1
+        results.every { it == "result" }
+    }
+
+    def 'Callers with different keys do not wait for each other'() {
+        given:
+        List results = [].asSynchronized()
+
+        when:
+        Thread first = caller("tile1", blocking({ "result1" }), results)
+        started.await(5, TimeUnit.SECONDS)
+        String second = singleFlight.execute("tile2", { executions.incrementAndGet(); "result2" } as SingleFlight.Task<String>)
+        release.countDown()
+        first.join()
+
+        then:
+        second == "result2"
+        executions.get() == 2
+        results == ["result1"]
+    }
+
+    def 'A failure is propagated to all waiting callers'() {
+        given:
+        List results = [].asSynchronized()
+        IOException failure = new IOException("tile could not be generated")
+
+        when:
+        Thread first = caller("tile", blocking({ throw failure }), results)
+        started.await(5, TimeUnit.SECONDS)
+        List<Thread> waiting = (1..WAITING).collect { caller("tile", blocking({ "other" }), results) }
+        awaitWaiting(waiting)
+        release.countDown()
+        ([first] + waiting)*.join()
+
+        then:
+        executions.get() == 1
+        results.size() == WAITING + 1
+        results.count { it.is(failure) } == 1
+        results.findAll { !it.is(failure) }.every {
+            it instanceof IOException && it.getMessage() == failure.getMessage() && it.getCause().is(failure)
+        }
+    }
+
+    def 'Runtime exceptions are propagated to the first caller unchanged'() {
+        when:
+        singleFlight.execute("tile", { throw new IllegalStateException("invalid") } as SingleFlight.Task<String>)
+
+        then:
+        IllegalStateException e = thrown()
+        e.getMessage() == "invalid"
+    }
+
+    def 'The key is released when the task completes or fails'() {
+        when:
+        String first = singleFlight.execute("tile", { executions.incrementAndGet(); "first" } as SingleFlight.Task<String>)
+        singleFlight.execute("tile", { executions.incrementAndGet(); throw new IOException("failed") } as SingleFlight.Task<String>)
+
+        then:
+        thrown(IOException)
+
+        when:
+        String third = singleFlight.execute("tile", { executions.incrementAndGet(); "third" } as SingleFlight.Task<String>)
+
+        then:
+        first == "first"
+        third == "third"
+        executions.get() == 3
+    }
+
+    def 'Waiting callers give up after the timeout, the running task is not affected'() {
+        given:
+        singleFlight = new SingleFlight<>(Duration.ofMillis(50))
+        List results = [].asSynchronized()
+
+        when:
+        Thread first = caller("tile", blocking({ "result" }), results)
+        started.await(5, TimeUnit.SECONDS)
+        singleFlight.execute("tile", { "other" } as SingleFlight.Task<String>)
+
+        then:
+        IOException e = thrown()
+        e.getMessage().startsWith("Timed out")
+
+        when:
+        release.countDown()
+        first.join()
+
+        then:
+        results == ["result"]
+        executions.get() == 1
+    }
+}
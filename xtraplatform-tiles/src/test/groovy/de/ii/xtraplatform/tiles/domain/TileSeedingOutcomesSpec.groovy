@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 interactive instruments GmbH
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package de.ii.xtraplatform.tiles.domain
+
+import jakarta.ws.rs.core.MediaType
+import spock.lang.Specification
+
+class TileSeedingOutcomesSpec extends Specification {
+
+    static final MediaType MVT = new MediaType("application", "vnd.mapbox-vector-tile")
+    static final byte[] EMPTY = [0] as byte[]
+    static final byte[] FULL = [1, 2, 3] as byte[]
+
+    TileSeedingOutcomes outcomes = new TileSeedingOutcomes()
+
+    TileQuery tile(int level, int row, int col, String tileset = "buildings", MediaType mediaType = MVT, boolean quadTree = true) {
+        TileMatrixSet tileMatrixSet = Stub(TileMatrixSet) {
+            getId() >> "WebMercatorQuad"
+            isQuadTree() >> quadTree
+        }
+        return Stub(TileQuery) {
+            getTileset() >> tileset
+            getTileMatrixSet() >> tileMatrixSet
+            getMediaType() >> mediaType
+            getLevel() >> level
+            getRow() >> row
+            getCol() >> col
+        }
+    }
+
+    def 'Morton codes interleave the bits of the column and the row - #row/#col'() {
+        expect:
+        TileSeedingOutcomes.morton(row, col) == code
+
+        where:
+        row    | col    || code
+        0      | 0      || 0
+        0      | 1      || 1
+        1      | 0      || 2
+        1      | 1      || 3
+        2      | 3      || 13
+        0      | 0xFFFF || 0x55555555L
+        0xFFFF | 0      || 0xAAAAAAAAL
+        (1 << 24) - 1 | (1 << 24) - 1 || (1L << 48) - 1
+    }
+
+    def 'The code of the ancestor is the code shifted by two bits per level - #row/#col'() {
+        expect:
+        (0..levels).every { int up ->
+            TileSeedingOutcomes.morton(row >> up, col >> up) == TileSeedingOutcomes.morton(row, col) >>> (2 * up)
+        }
+
+        where:
+        row     | col     | levels
+        9       | 23      | 5
+        1234    | 4321    | 13
+        (1 << 23) + 5 | (1 << 22) + 7 | 24
+    }
+
+    def 'Tiles below an empty tile inherit the empty result'() {
+        given:
+        outcomes.record(tile(3, 2, 5), TileResult.empty(EMPTY))
+
+        expect:
+        outcomes.getInherited(tile(4, 4, 10)).get().isEmpty()
+        outcomes.getInherited(tile(4, 5, 11)).get().getContent().get() == EMPTY
+        outcomes.getInherited(tile(5, 9, 23)).get().isEmpty()
+        outcomes.getInherited(tile(12, 2 << 9, (5 << 9) + 511)).get().isEmpty()
+    }
+
+    def 'Other tiles do not inherit the result - #reason'() {
+        given:
+        outcomes.record(tile(3, 2, 5), TileResult.empty(EMPTY))
+
+        expect:
+        outcomes.getInherited(tile(level, row, col, tileset, mediaType)).isEmpty()
+
+        where:
+        reason              | level | row | col | tileset     | mediaType
+        'the tile itself'   | 3     | 2   | 5   | "buildings" | MVT
+        'a neighbour'       | 3     | 2   | 6   | "buildings" | MVT
+        'the parent'        | 2     | 1   | 2   | "buildings" | MVT
+        'below a neighbour' | 5     | 12  | 23  | "buildings" | MVT
+        'another tileset'   | 5     | 9   | 23  | "roads"     | MVT
+        'another encoding'  | 5     | 9   | 23  | "buildings" | MediaType.APPLICATION_JSON_TYPE
+    }
+
+    def 'Tiles below a full tile inherit its content'() {
+        given:
+        outcomes.record(tile(6, 10, 20), TileResult.full(FULL))
+
+        when:
+        Optional<TileResult> inherited = outcomes.getInherited(tile(8, 41, 83))
+
+        then:
+        inherited.get().isFull()
+        inherited.get().getContent().get() == FULL
+        outcomes.getInherited(tile(8, 44, 83)).isEmpty()
+    }
+
+    def 'Only empty and full results of quad tree tile matrix sets are recorded'() {
+        when:
+        outcomes.record(tile(3, 2, 5), TileResult.found(FULL))
+        outcomes.record(tile(3, 3, 5), TileResult.notFound())
+        outcomes.record(tile(3, 4, 5, "buildings", MVT, false), TileResult.empty(EMPTY))
+
+        then:
+        outcomes.getInherited(tile(4, 4, 10)).isEmpty()
+        outcomes.getInherited(tile(4, 6, 10)).isEmpty()
+        outcomes.getInherited(tile(4, 8, 10)).isEmpty()
+    }
+
+    def 'Nothing is inherited after the outcomes are cleared'() {
+        given:
+        outcomes.record(tile(3, 2, 5), TileResult.empty(EMPTY))
+
+        when:
+        outcomes.clear()
+
+        then:
+        outcomes.getInherited(tile(4, 4, 10)).isEmpty()
+    }
+}
@@ -26,6 +26,7 @@ import de.ii.xtraplatform.entities.domain.Entity.SubType;
 import de.ii.xtraplatform.entities.domain.EntityRegistry;
 import de.ii.xtraplatform.features.domain.ProviderData;
 import de.ii.xtraplatform.tiles.domain.MinMax;
+import de.ii.xtraplatform.tiles.domain.SingleFlight;
 import de.ii.xtraplatform.tiles.domain.TileCache;
 import de.ii.xtraplatform.tiles.domain.TileMatrixSet;
 import de.ii.xtraplatform.tiles.domain.TileMatrixSetBase;
@@ -103,6 +104,7 @@ public class Tile3dProviderFeatures extends AbstractTile3dProvider<Tile3dProvide
   private final Tile3dGenerator tileGenerator;
   private final TileWalker tileWalker;
   private final List<TileCache> generatorCaches;
+  private final SingleFlight<FileKey, byte[]> generations;
   // private final Map<String, Map<String, TileMatrixSetBase>> customTms;
   private final boolean asyncStartup;
 
@@ -136,6 +138,7 @@ public class Tile3dProviderFeatures extends AbstractTile3dProvider<Tile3dProvide
             asyncStartup);
     this.tileWalker = tileWalker;
     this.generatorCaches = new ArrayList<>();
+    this.generations = new SingleFlight<>();
     // this.customTms = new LinkedHashMap<>();
   }
 
@@ -258,15 +261,19 @@ public class Tile3dProviderFeatures extends AbstractTile3dProvider<Tile3dProvide
                           .get("default")
                           .contains(tileQueryImplicit.getLevel()));
 
+      // concurrent requests for the same file wait for a single generation
       if (tileQueryImplicit.isContent()) {
         byte[] bytes =
-            seedTiles(
-                tileQueryImplicit.toTileSubMatrix(),
-                tileset,
-                delta -> {},
-                tileQueryImplicit.getGenerationParameters().get(),
-                true,
-                shouldStore);
+            generations.execute(
+                FileKey.of(tileQueryImplicit),
+                () ->
+                    seedTiles(
+                        tileQueryImplicit.toTileSubMatrix(),
+                        tileset,
+                        delta -> {},
+                        tileQueryImplicit.getGenerationParameters().get(),
+                        true,
+                        shouldStore));
 
         if (!shouldStore && bytes.length > 0) {
           return Optional.of(
@@ -279,7 +286,11 @@ public class Tile3dProviderFeatures extends AbstractTile3dProvider<Tile3dProvide
         }
       } else if (tileQueryImplicit.isSubtree()) {
         byte[] bytes =
-            seedSubtree(tileQueryImplicit.toTileSubMatrix(), tileset, () -> {}, true, shouldStore);
+            generations.execute(
+                FileKey.of(tileQueryImplicit),
+                () ->
+                    seedSubtree(
+                        tileQueryImplicit.toTileSubMatrix(), tileset, () -> {}, true, shouldStore));
 
         if (!shouldStore && bytes.length > 0) {
           return Optional.of(
@@ -296,6 +307,25 @@ public class Tile3dProviderFeatures extends AbstractTile3dProvider<Tile3dProvide
     return stores.get(tileQuery.getTileset()).get(tileQuery);
   }
 
+  // the generation parameters are part of the key, since the clip bbox changes the content
+  private record FileKey(
+      String tileset,
+      int level,
+      int col,
+      int row,
+      boolean subtree,
+      Optional<Tile3dGenerationParameters> generationParameters) {
+    static FileKey of(Tile3dQuery query) {
+      return new FileKey(
+          query.getTileset(),
+          query.getLevel(),
+          query.getCol(),
+          query.getRow(),
+          query.isSubtree(),
+          query.getGenerationParameters());
+    }
+  }
+
   @Override
   public SeedingOptions3d getOptions() {
     return getData().getSeeding().orElseGet(() -> new ImmutableSeedingOptions3d.Builder().build());